@@ -0,0 +1,78 @@
+package cbnu.subscribe_service.common.generic;
+
+import cbnu.subscribe_service.point.domain.PointId;
+import cbnu.subscribe_service.point.domain.PointId.PointIdJavaType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 조회 결과 1M 행의 id 를 식별자로 바꾸는 비용 비교:
+// wrapAll 한 번, 행마다 wrap (생성자 참조 / 한 번 찾아 둔 MethodHandle), 행마다 리플렉션(변경 전)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LongTypeIdentifierWrapBenchmark {
+
+    private static final int ROWS = 1_000_000;
+
+    private LongTypeIdentifierJavaType<PointId> factoryType;
+    private LongTypeIdentifierJavaType<PointId> methodHandleType;
+    private List<Long> ids;
+
+    @Setup
+    public void setUp() {
+        factoryType = new PointIdJavaType();
+        methodHandleType = new LongTypeIdentifierJavaType<>(PointId.class) {
+        };
+        ids = new ArrayList<>(ROWS);
+        for (long id = 1; id <= ROWS; id++) {
+            ids.add(id);
+        }
+    }
+
+    @Benchmark
+    public List<PointId> wrapAll() {
+        return factoryType.wrapAll(ids);
+    }
+
+    @Benchmark
+    public List<PointId> constructorReference() {
+        List<PointId> identifiers = new ArrayList<>(ROWS);
+        for (Long id : ids) {
+            identifiers.add(factoryType.wrap(id, null));
+        }
+        return identifiers;
+    }
+
+    @Benchmark
+    public List<PointId> cachedMethodHandle() {
+        List<PointId> identifiers = new ArrayList<>(ROWS);
+        for (Long id : ids) {
+            identifiers.add(methodHandleType.wrap(id, null));
+        }
+        return identifiers;
+    }
+
+    // 변경 전 wrap 과 같은 방식
+    @Benchmark
+    public List<PointId> reflectionPerCall() throws ReflectiveOperationException {
+        List<PointId> identifiers = new ArrayList<>(ROWS);
+        for (Long id : ids) {
+            identifiers.add(PointId.class.getDeclaredConstructor(Long.class).newInstance(id));
+        }
+        return identifiers;
+    }
+}
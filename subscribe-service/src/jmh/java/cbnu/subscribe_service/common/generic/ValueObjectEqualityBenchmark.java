@@ -0,0 +1,101 @@
+package cbnu.subscribe_service.common.generic;
+
+import cbnu.subscribe_service.point.domain.Money;
+import cbnu.subscribe_service.subscription.domain.SubscriptionTime;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 필드 접근자를 캐시한 ValueObject equals/hashCode 와, 호출마다 리플렉션으로 필드 배열을 만들던 이전 방식 비교
+// Money(Long 필드 1개)와 SubscriptionTime(Instant 필드 2개)으로 필드 수와 타입에 따른 차이도 본다
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueObjectEqualityBenchmark {
+
+    @Param({"Money", "SubscriptionTime"})
+    private String type;
+
+    private Object value;
+    private Object sameValue;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        if (type.equals("Money")) {
+            value = Money.make(15_000L);
+            sameValue = Money.make(15_000L);
+        } else {
+            SubscriptionTime time = new SubscriptionTime(30L);
+            value = time;
+            // 생성 시각이 매번 달라지므로 같은 값은 필드를 복사해서 만든다
+            sameValue = copyOf(time);
+        }
+        if (!value.equals(sameValue)) {
+            throw new IllegalStateException(type + " values must be equal");
+        }
+    }
+
+    @Benchmark
+    public boolean equalsCachedAccessors() {
+        return value.equals(sameValue);
+    }
+
+    @Benchmark
+    public int hashCodeCachedAccessors() {
+        return value.hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsReflective() {
+        return Arrays.equals(reflectiveFields(value), reflectiveFields(sameValue));
+    }
+
+    @Benchmark
+    public int hashCodeReflective() {
+        int hash = 17;
+        for (Object each : reflectiveFields(value)) {
+            hash = hash * 31 + (each == null ? 0 : each.hashCode());
+        }
+        return hash;
+    }
+
+    private static SubscriptionTime copyOf(SubscriptionTime source) throws ReflectiveOperationException {
+        Constructor<SubscriptionTime> constructor = SubscriptionTime.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        SubscriptionTime copy = constructor.newInstance();
+        for (Field field : SubscriptionTime.class.getDeclaredFields()) {
+            field.setAccessible(true);
+            field.set(copy, field.get(source));
+        }
+        return copy;
+    }
+
+    // 변경 전 ValueObject.getEqualityFields 와 같은 방식
+    private static Object[] reflectiveFields(Object target) {
+        return Arrays.stream(target.getClass().getDeclaredFields())
+                .map(field -> {
+                    try {
+                        field.setAccessible(true);
+                        return field.get(target);
+                    } catch (IllegalAccessException e) {
+                        throw new RuntimeException(e);
+                    }
+                })
+                .toArray();
+    }
+}
@@ -15,9 +15,4 @@ public abstract class LongTypeIdentifier extends ValueObject<LongTypeIdentifier>
     public Long nextValue() {
         return id + 1;
     }
-
-    @Override
-    protected Object[] getEqualityFields() {
-        return new Object[] { id };
-    }
 }
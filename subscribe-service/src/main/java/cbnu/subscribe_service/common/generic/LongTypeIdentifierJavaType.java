@@ -1,6 +1,13 @@
 package cbnu.subscribe_service.common.generic;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.LongFunction;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.AbstractClassJavaType;
 import org.hibernate.type.descriptor.java.ImmutableMutabilityPlan;
@@ -10,8 +17,35 @@ import org.hibernate.type.descriptor.jdbc.JdbcTypeIndicators;
 
 public abstract class LongTypeIdentifierJavaType<T extends LongTypeIdentifier> extends AbstractClassJavaType<T> {
 
-    protected LongTypeIdentifierJavaType(Class<? extends T> type) {
+    // 행마다 리플렉션으로 생성자를 찾지 않도록 식별자 생성 함수를 타입별로 한 번만 준비
+    private final LongFunction<T> factory;
+
+    protected LongTypeIdentifierJavaType(Class<? extends T> type, LongFunction<T> factory) {
         super(type);
+        this.factory = factory;
+    }
+
+    // 생성 함수를 넘기지 않으면 (Long) 생성자의 MethodHandle 을 한 번 찾아서 사용
+    protected LongTypeIdentifierJavaType(Class<? extends T> type) {
+        this(type, constructorFactory(type));
+    }
+
+    // public 이 아닌 생성자도 찾을 수 있도록 식별자 클래스 기준의 private lookup 사용
+    private static <T> LongFunction<T> constructorFactory(Class<? extends T> type) {
+        try {
+            MethodHandle constructor = MethodHandles.privateLookupIn(type, MethodHandles.lookup())
+                    .findConstructor(type, MethodType.methodType(void.class, Long.class))
+                    .asType(MethodType.methodType(Object.class, Long.class));
+            return value -> {
+                try {
+                    return type.cast((Object) constructor.invokeExact(Long.valueOf(value)));
+                } catch (Throwable e) {
+                    throw new IllegalStateException(e);
+                }
+            };
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     @Override
@@ -33,11 +67,20 @@ public abstract class LongTypeIdentifierJavaType<T extends LongTypeIdentifier> e
 
     @Override
     public T fromString(CharSequence string) {
-        try {
-            return getJavaType().getDeclaredConstructor(Long.class).newInstance(Long.valueOf(string.toString()));
-        } catch (Exception ex) {
-            throw new IllegalStateException(ex);
+        return factory.apply(Long.parseLong(string.toString()));
+    }
+
+    public T of(long value) {
+        return factory.apply(value);
+    }
+
+    // 조회 결과의 id 컬럼을 한 번에 식별자로 변환
+    public List<T> wrapAll(Collection<Long> values) {
+        List<T> identifiers = new ArrayList<>(values.size());
+        for (Long value : values) {
+            identifiers.add(value == null ? null : factory.apply(value));
         }
+        return identifiers;
     }
 
     @SuppressWarnings("unchecked")
@@ -58,19 +101,12 @@ public abstract class LongTypeIdentifierJavaType<T extends LongTypeIdentifier> e
             return null;
         }
 
-        if (value instanceof Long) {
-            try {
-                return getJavaType().getDeclaredConstructor(Long.class).newInstance(value);
-            } catch (Exception ex) {
-                throw new IllegalStateException(ex);
-            }
-        } else if (value instanceof LongTypeIdentifier) {
-            try {
-                return getJavaType().getDeclaredConstructor(Long.class)
-                        .newInstance(((LongTypeIdentifier) value).longValue());
-            } catch (Exception ex) {
-                throw new IllegalStateException(ex);
-            }
+        if (value instanceof Long longValue) {
+            return factory.apply(longValue);
+        } else if (value instanceof Number number) {
+            return factory.apply(number.longValue());
+        } else if (value instanceof LongTypeIdentifier identifier) {
+            return factory.apply(identifier.longValue());
         }
 
         throw unknownWrap(value.getClass());
@@ -1,7 +1,5 @@
 package cbnu.subscribe_service.common.generic;
 
-import java.util.Arrays;
-
 public abstract class ValueObject<T extends ValueObject<T>> {
 
     @Override
@@ -22,28 +20,12 @@ public abstract class ValueObject<T extends ValueObject<T>> {
             return false;
         }
 
-        return Arrays.equals(getEqualityFields(), other.getEqualityFields());
+        return ValueObjectEquality.equals(this, other);
     }
 
+    // 클래스 계층의 모든 인스턴스 필드 기준 (필드 접근자는 클래스별로 한 번만 만든다)
     @Override
     public int hashCode() {
-        int hash = 17;
-        for (Object each : getEqualityFields()) {
-            hash = hash * 31 + (each == null ? 0 : each.hashCode());
-        }
-        return hash;
-    }
-
-    protected Object[] getEqualityFields() {
-        return Arrays.stream(getClass().getDeclaredFields())
-                .map(field -> {
-                    try {
-                        field.setAccessible(true);
-                        return field.get(this);
-                    } catch (IllegalAccessException e) {
-                        throw new RuntimeException(e);
-                    }
-                })
-                .toArray();
+        return ValueObjectEquality.hashCode(this);
     }
 }
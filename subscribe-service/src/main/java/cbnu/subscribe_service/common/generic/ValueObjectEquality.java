@@ -0,0 +1,202 @@
+package cbnu.subscribe_service.common.generic;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * ValueObject 의 equals/hashCode 계산기.
+ * 클래스마다 한 번만 필드 getter(MethodHandle)를 만들어 두고, 비교/해시 시에는 배열을 만들지 않고 필드를 직접 읽는다.
+ * 원시 타입 필드는 박싱 없이 비교한다.
+ */
+final class ValueObjectEquality {
+
+    private static final ClassValue<FieldAccessor[]> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected FieldAccessor[] computeValue(Class<?> type) {
+            return resolveAccessors(type);
+        }
+    };
+
+    private ValueObjectEquality() {
+    }
+
+    static boolean equals(Object self, Object other) {
+        for (FieldAccessor accessor : ACCESSORS.get(self.getClass())) {
+            if (!accessor.equals(self, other)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static int hashCode(Object self) {
+        int hash = 17;
+        for (FieldAccessor accessor : ACCESSORS.get(self.getClass())) {
+            hash = hash * 31 + accessor.hashCode(self);
+        }
+        return hash;
+    }
+
+    // ValueObject 아래 클래스 계층의 인스턴스 필드 (상위 클래스 필드부터)
+    private static FieldAccessor[] resolveAccessors(Class<?> type) {
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != ValueObject.class; current = current.getSuperclass()) {
+            hierarchy.add(0, current);
+        }
+
+        List<FieldAccessor> accessors = new ArrayList<>();
+        for (Class<?> declaringClass : hierarchy) {
+            for (Field field : declaringClass.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                    continue;
+                }
+                accessors.add(FieldAccessor.of(declaringClass, field));
+            }
+        }
+        return accessors.toArray(FieldAccessor[]::new);
+    }
+
+    private abstract static class FieldAccessor {
+
+        static FieldAccessor of(Class<?> declaringClass, Field field) {
+            try {
+                MethodHandle getter = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup())
+                        .unreflectGetter(field);
+                Class<?> fieldType = field.getType();
+                if (!fieldType.isPrimitive()) {
+                    return new ReferenceAccessor(getter.asType(MethodType.methodType(Object.class, Object.class)));
+                }
+                if (fieldType == boolean.class) {
+                    return new BooleanAccessor(getter.asType(MethodType.methodType(boolean.class, Object.class)));
+                }
+                if (fieldType == float.class || fieldType == double.class) {
+                    return new DoubleAccessor(getter.asType(MethodType.methodType(double.class, Object.class)));
+                }
+                // byte, short, char, int, long
+                return new LongAccessor(getter.asType(MethodType.methodType(long.class, Object.class)));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot access value object field: " + field, e);
+            }
+        }
+
+        abstract boolean equals(Object self, Object other);
+
+        abstract int hashCode(Object self);
+    }
+
+    private static final class ReferenceAccessor extends FieldAccessor {
+
+        private final MethodHandle getter;
+
+        ReferenceAccessor(MethodHandle getter) {
+            this.getter = getter;
+        }
+
+        @Override
+        boolean equals(Object self, Object other) {
+            try {
+                return Objects.equals((Object) getter.invokeExact(self), (Object) getter.invokeExact(other));
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        int hashCode(Object self) {
+            try {
+                return Objects.hashCode((Object) getter.invokeExact(self));
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static final class LongAccessor extends FieldAccessor {
+
+        private final MethodHandle getter;
+
+        LongAccessor(MethodHandle getter) {
+            this.getter = getter;
+        }
+
+        @Override
+        boolean equals(Object self, Object other) {
+            try {
+                return (long) getter.invokeExact(self) == (long) getter.invokeExact(other);
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        int hashCode(Object self) {
+            try {
+                return Long.hashCode((long) getter.invokeExact(self));
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static final class DoubleAccessor extends FieldAccessor {
+
+        private final MethodHandle getter;
+
+        DoubleAccessor(MethodHandle getter) {
+            this.getter = getter;
+        }
+
+        // 박싱된 Double.equals 와 같은 의미 (NaN == NaN, 0.0 != -0.0)
+        @Override
+        boolean equals(Object self, Object other) {
+            try {
+                return Double.doubleToLongBits((double) getter.invokeExact(self))
+                        == Double.doubleToLongBits((double) getter.invokeExact(other));
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        int hashCode(Object self) {
+            try {
+                return Double.hashCode((double) getter.invokeExact(self));
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static final class BooleanAccessor extends FieldAccessor {
+
+        private final MethodHandle getter;
+
+        BooleanAccessor(MethodHandle getter) {
+            this.getter = getter;
+        }
+
+        @Override
+        boolean equals(Object self, Object other) {
+            try {
+                return (boolean) getter.invokeExact(self) == (boolean) getter.invokeExact(other);
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        int hashCode(Object self) {
+            try {
+                return Boolean.hashCode((boolean) getter.invokeExact(self));
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -1,9 +1,9 @@
 package cbnu.subscribe_service.point.domain;
 
-import cbnu.subscribe_service.common.exception.WrongUserIdException;
 import cbnu.subscribe_service.common.generic.AggregateRoot;
 import cbnu.subscribe_service.domain.UserId;
 import cbnu.subscribe_service.point.domain.PointId.PointIdJavaType;
+import jakarta.persistence.AttributeOverride;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
@@ -14,10 +14,10 @@ import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotNull;
-import java.util.Objects;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.JavaType;
 
 @Getter
@@ -36,16 +36,24 @@ public class Point extends AggregateRoot<Point, PointId> {
     @Embedded
     private UserId userId;
 
+    // 원장의 머리 행. 잔액과 마지막 순번은 원장에 기록할 때 조건부 UPDATE 로만 바뀐다 (엔티티 저장으로 덮어쓰지 않는다)
     @NotNull
     @Embedded
+    @AttributeOverride(name = "totalPoint", column = @Column(name = "total_point", updatable = false))
     private Money money;
 
+    @NotNull
+    @ColumnDefault("0")
+    @Column(name = "last_seq_no", updatable = false)
+    private Long lastSequence;
+
     @Version
     private Long version;
 
     private Point(Money money, UserId userId) {
         this.money = money;
         this.userId = userId;
+        this.lastSequence = 0L;
     }
 
     public static Point make(Long userId) {
@@ -54,28 +62,6 @@ public class Point extends AggregateRoot<Point, PointId> {
 
     }
 
-    public void rechargePoint(Long userId, Long point) {
-        verifyUserId(userId);
-        this.money = this.money.recharge(point);
-    }
-
-    public void usePoint(Long userId, Long point) {
-        verifyUserId(userId);
-        this.money = this.money.use(point);
-    }
-
-    public Long presentPoint(Point toPoint, Long presentPoint) {
-        usePoint(userId.getId(), presentPoint);
-        toPoint.rechargePoint(toPoint.getUserId().getId(),presentPoint);
-        return money.getTotalPoint();
-    }
-
-    private void verifyUserId(Long userId) {
-        if (!Objects.equals(this.userId.getId(), userId)) {
-            throw new WrongUserIdException("유저정보가 일치하지 않습니다");
-        }
-    }
-
     @Override
     public PointId getId() {
         return pointId;
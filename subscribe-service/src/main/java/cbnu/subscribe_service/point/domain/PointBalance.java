@@ -0,0 +1,11 @@
+package cbnu.subscribe_service.point.domain;
+
+import cbnu.subscribe_service.domain.UserId;
+
+// lastSequence 번째 원장 항목까지 반영한 잔액
+public record PointBalance(UserId userId, Money money, Long lastSequence) {
+
+    public Long totalPoint() {
+        return money.getTotalPoint();
+    }
+}
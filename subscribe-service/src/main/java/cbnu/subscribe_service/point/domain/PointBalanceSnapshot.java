@@ -0,0 +1,61 @@
+package cbnu.subscribe_service.point.domain;
+
+import cbnu.subscribe_service.common.generic.Domain;
+import cbnu.subscribe_service.domain.UserId;
+import cbnu.subscribe_service.point.domain.PointSnapshotId.PointSnapshotIdJavaType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JavaType;
+
+// seq_no 까지의 원장을 합산한 잔액. 첫 항목을 기록할 때 순번 0 의 시작 잔액을 남기고,
+// 이후에는 압축 작업이 원장 합계와 point 행의 잔액이 일치하는 것을 확인한 뒤 앞으로 옮긴다
+@Getter
+@Entity
+@Table(name = "point_balance_snapshot", uniqueConstraints = @UniqueConstraint(
+        name = "uk__point_balance_snapshot__user_seq", columnNames = {"user_id", "last_seq_no"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointBalanceSnapshot extends Domain<PointBalanceSnapshot, PointSnapshotId> {
+
+    @Id
+    @Column(name = "point_snapshot_id")
+    @JavaType(PointSnapshotIdJavaType.class)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private PointSnapshotId pointSnapshotId;
+
+    @NotNull
+    @Embedded
+    private UserId userId;
+
+    @NotNull
+    @Column(name = "last_seq_no")
+    private Long lastSequence;
+
+    @NotNull
+    @Embedded
+    private Money money;
+
+    private PointBalanceSnapshot(UserId userId, Long lastSequence, Money money) {
+        this.userId = userId;
+        this.lastSequence = lastSequence;
+        this.money = money;
+    }
+
+    public static PointBalanceSnapshot of(PointBalance balance) {
+        return new PointBalanceSnapshot(balance.userId(), balance.lastSequence(), balance.money());
+    }
+
+    @Override
+    public PointSnapshotId getId() {
+        return pointSnapshotId;
+    }
+}
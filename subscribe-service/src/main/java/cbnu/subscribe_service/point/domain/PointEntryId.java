@@ -0,0 +1,16 @@
+package cbnu.subscribe_service.point.domain;
+
+import cbnu.subscribe_service.common.generic.LongTypeIdentifier;
+import cbnu.subscribe_service.common.generic.LongTypeIdentifierJavaType;
+
+public class PointEntryId extends LongTypeIdentifier {
+    public PointEntryId(Long id) {
+        super(id);
+    }
+
+    public static class PointEntryIdJavaType extends LongTypeIdentifierJavaType<PointEntryId> {
+        public PointEntryIdJavaType() {
+            super(PointEntryId.class, PointEntryId::new);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package cbnu.subscribe_service.point.domain;
+
+import lombok.Getter;
+
+@Getter
+public enum PointEntryType {
+
+    RECHARGE(true), USE(false), GIFT_IN(true), GIFT_OUT(false), REFUND(true);
+
+    private final boolean credit;
+
+    PointEntryType(boolean credit) {
+        this.credit = credit;
+    }
+
+    public Long signedAmount(Long point) {
+        return credit ? point : -point;
+    }
+}
@@ -24,7 +24,7 @@ public class PointId extends LongTypeIdentifier {
 
     public static class PointIdJavaType extends LongTypeIdentifierJavaType<PointId> {
         public PointIdJavaType() {
-            super(PointId.class);
+            super(PointId.class, PointId::new);
         }
     }
 }
@@ -0,0 +1,72 @@
+package cbnu.subscribe_service.point.domain;
+
+import cbnu.subscribe_service.common.generic.Domain;
+import cbnu.subscribe_service.domain.UserId;
+import cbnu.subscribe_service.point.domain.PointEntryId.PointEntryIdJavaType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JavaType;
+
+// 포인트 원장 항목. 한 번 기록되면 바뀌지 않는다
+// 순번은 point 행의 락을 잡은 채로 받아오므로 겹치지 않는다. (user_id, seq_no) 유니크 제약은 그 불변식의 안전장치다
+@Getter
+@Entity
+@Immutable
+@Table(name = "point_ledger_entry", uniqueConstraints = @UniqueConstraint(
+        name = "uk__point_ledger_entry__user_seq", columnNames = {"user_id", "seq_no"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointLedgerEntry extends Domain<PointLedgerEntry, PointEntryId> {
+
+    @Id
+    @Column(name = "point_entry_id")
+    @JavaType(PointEntryIdJavaType.class)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private PointEntryId pointEntryId;
+
+    @NotNull
+    @Embedded
+    private UserId userId;
+
+    @NotNull
+    @Column(name = "seq_no")
+    private Long sequence;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type")
+    private PointEntryType type;
+
+    // 잔액 변화량 (입금은 양수, 출금은 음수)
+    @NotNull
+    @Column(name = "amount")
+    private Long amount;
+
+    private PointLedgerEntry(UserId userId, Long sequence, PointEntryType type, Long point) {
+        this.userId = userId;
+        this.sequence = sequence;
+        this.type = type;
+        this.amount = type.signedAmount(point);
+    }
+
+    public static PointLedgerEntry of(UserId userId, Long sequence, PointEntryType type, Long point) {
+        return new PointLedgerEntry(userId, sequence, type, point);
+    }
+
+    @Override
+    public PointEntryId getId() {
+        return pointEntryId;
+    }
+}
@@ -0,0 +1,16 @@
+package cbnu.subscribe_service.point.domain;
+
+import cbnu.subscribe_service.common.generic.LongTypeIdentifier;
+import cbnu.subscribe_service.common.generic.LongTypeIdentifierJavaType;
+
+public class PointSnapshotId extends LongTypeIdentifier {
+    public PointSnapshotId(Long id) {
+        super(id);
+    }
+
+    public static class PointSnapshotIdJavaType extends LongTypeIdentifierJavaType<PointSnapshotId> {
+        public PointSnapshotIdJavaType() {
+            super(PointSnapshotId.class, PointSnapshotId::new);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package cbnu.subscribe_service.point.repository;
+
+import cbnu.subscribe_service.domain.UserId;
+import cbnu.subscribe_service.point.domain.PointBalanceSnapshot;
+import cbnu.subscribe_service.point.domain.PointSnapshotId;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+interface PointBalanceSnapshotRepository extends JpaRepository<PointBalanceSnapshot, PointSnapshotId> {
+
+    Optional<PointBalanceSnapshot> findFirstByUserIdOrderByLastSequenceDesc(UserId userId);
+
+    @Modifying
+    @Query("delete from PointBalanceSnapshot s where s.userId = :userId and s.lastSequence < :lastSequence")
+    int deleteOlderThan(@Param("userId") UserId userId, @Param("lastSequence") Long lastSequence);
+}
@@ -0,0 +1,27 @@
+package cbnu.subscribe_service.point.repository;
+
+import cbnu.subscribe_service.domain.UserId;
+import cbnu.subscribe_service.point.domain.PointEntryId;
+import cbnu.subscribe_service.point.domain.PointLedgerEntry;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+interface PointLedgerEntryRepository extends JpaRepository<PointLedgerEntry, PointEntryId> {
+
+    @Query("select new cbnu.subscribe_service.point.repository.PointLedgerTail("
+            + "coalesce(sum(e.amount), 0L), coalesce(max(e.sequence), :after)) "
+            + "from PointLedgerEntry e where e.userId = :userId and e.sequence > :after and e.sequence <= :upTo")
+    PointLedgerTail sumBetween(@Param("userId") UserId userId, @Param("after") Long after, @Param("upTo") Long upTo);
+
+    // PK 범위 조회. 압축 작업이 마지막으로 읽은 항목 이후에 기록된 것만 본다
+    // 행마다 엔티티나 DTO 를 만들지 않고 두 컬럼만 읽는다 (항목 id 는 어댑터에서 wrapAll 로 한 번에 변환)
+    @Query(value = "select e.point_entry_id, e.user_id from point_ledger_entry e "
+            + "where e.point_entry_id > :after order by e.point_entry_id limit :limit", nativeQuery = true)
+    List<Object[]> findWritesAfter(@Param("after") Long after, @Param("limit") int limit);
+
+    // (user_id, seq_no) 인덱스 범위만 센다
+    @Query("select count(e) from PointLedgerEntry e where e.userId = :userId and e.sequence > :after")
+    long countAfter(@Param("userId") UserId userId, @Param("after") Long after);
+}
@@ -0,0 +1,5 @@
+package cbnu.subscribe_service.point.repository;
+
+// point 행에 있는 현재 잔액과 마지막 원장 순번
+record PointLedgerHead(Long totalPoint, Long lastSequence) {
+}
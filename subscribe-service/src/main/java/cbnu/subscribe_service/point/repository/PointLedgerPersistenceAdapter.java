@@ -0,0 +1,110 @@
+package cbnu.subscribe_service.point.repository;
+
+import cbnu.subscribe_service.common.annotation.PersistenceAdapter;
+import cbnu.subscribe_service.common.exception.NotFoundDataException;
+import cbnu.subscribe_service.domain.Threshold;
+import cbnu.subscribe_service.domain.UserId;
+import cbnu.subscribe_service.point.domain.Money;
+import cbnu.subscribe_service.point.domain.PointBalance;
+import cbnu.subscribe_service.point.domain.PointBalanceSnapshot;
+import cbnu.subscribe_service.point.domain.PointEntryId;
+import cbnu.subscribe_service.point.domain.PointEntryId.PointEntryIdJavaType;
+import cbnu.subscribe_service.point.domain.PointEntryType;
+import cbnu.subscribe_service.point.domain.PointLedgerEntry;
+import cbnu.subscribe_service.point.service.persistence.AppendPointEntryPort;
+import cbnu.subscribe_service.point.service.persistence.CompactPointLedgerPort;
+import cbnu.subscribe_service.point.service.persistence.LoadPointBalancePort;
+import cbnu.subscribe_service.point.service.persistence.RecentLedgerWriters;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+
+@PersistenceAdapter
+@RequiredArgsConstructor
+class PointLedgerPersistenceAdapter implements LoadPointBalancePort, AppendPointEntryPort, CompactPointLedgerPort {
+
+    private static final PointEntryIdJavaType ENTRY_ID_TYPE = new PointEntryIdJavaType();
+
+    private final PointRepository pointRepository;
+    private final PointLedgerEntryRepository pointLedgerEntryRepository;
+    private final PointBalanceSnapshotRepository pointBalanceSnapshotRepository;
+
+    @Override
+    public PointBalance loadBalance(UserId userId) {
+        return pointRepository.findHead(userId)
+                .map(head -> toBalance(userId, head))
+                .orElseThrow(() -> new NotFoundDataException("해당 Point를 찾을 수 없습니다"));
+    }
+
+    // point 행을 먼저 갱신해서 락과 순번을 받은 뒤 그 순번으로 항목을 추가한다
+    @Override
+    public Optional<PointBalance> append(UserId userId, PointEntryType type, Long point) {
+        Long amount = type.signedAmount(point);
+        if (pointRepository.advance(userId, amount, Threshold.MIN.getValue(), Threshold.MAX.getValue()) == 0) {
+            return Optional.empty();
+        }
+        PointBalance balance = loadBalance(userId);
+        if (balance.lastSequence() == 1L) {
+            // 첫 항목이면 원장 이전의 잔액을 순번 0 스냅샷으로 남겨서 원장만으로 잔액을 다시 계산할 수 있게 한다
+            pointBalanceSnapshotRepository.save(PointBalanceSnapshot.of(
+                    new PointBalance(userId, Money.make(balance.totalPoint() - amount), 0L)));
+        }
+        pointLedgerEntryRepository.save(PointLedgerEntry.of(userId, balance.lastSequence(), type, point));
+        return Optional.of(balance);
+    }
+
+    @Override
+    public RecentLedgerWriters findWritersAfter(Long afterEntryId, int limit) {
+        List<PointLedgerWrite> writes = toWrites(pointLedgerEntryRepository.findWritesAfter(afterEntryId, limit));
+        if (writes.isEmpty()) {
+            return new RecentLedgerWriters(List.of(), afterEntryId, 0);
+        }
+        Set<UserId> userIds = new LinkedHashSet<>();
+        writes.forEach(write -> userIds.add(write.userId()));
+        return new RecentLedgerWriters(List.copyOf(userIds), writes.get(writes.size() - 1).entryId().longValue(),
+                writes.size());
+    }
+
+    @Override
+    public long countTail(UserId userId) {
+        return pointLedgerEntryRepository.countAfter(userId, latestSnapshot(userId).lastSequence());
+    }
+
+    @Override
+    public PointBalance replay(UserId userId, Long upToSequence) {
+        PointBalance base = latestSnapshot(userId);
+        PointLedgerTail tail = pointLedgerEntryRepository.sumBetween(userId, base.lastSequence(), upToSequence);
+        return new PointBalance(userId, Money.make(base.totalPoint() + tail.amount()), tail.lastSequence());
+    }
+
+    @Override
+    public void saveSnapshot(PointBalance balance) {
+        pointBalanceSnapshotRepository.saveAndFlush(PointBalanceSnapshot.of(balance));
+        pointBalanceSnapshotRepository.deleteOlderThan(balance.userId(), balance.lastSequence());
+    }
+
+    // 아직 원장에 기록한 적이 없으면 순번 0 스냅샷도 없다
+    private PointBalance latestSnapshot(UserId userId) {
+        return pointBalanceSnapshotRepository.findFirstByUserIdOrderByLastSequenceDesc(userId)
+                .map(snapshot -> new PointBalance(userId, snapshot.getMoney(), snapshot.getLastSequence()))
+                .orElseGet(() -> new PointBalance(userId, Money.make(0L), 0L));
+    }
+
+    private List<PointLedgerWrite> toWrites(List<Object[]> rows) {
+        List<PointEntryId> entryIds = ENTRY_ID_TYPE.wrapAll(rows.stream()
+                .map(row -> ((Number) row[0]).longValue())
+                .toList());
+        List<PointLedgerWrite> writes = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            writes.add(new PointLedgerWrite(entryIds.get(i), UserId.make(((Number) rows.get(i)[1]).longValue())));
+        }
+        return writes;
+    }
+
+    private PointBalance toBalance(UserId userId, PointLedgerHead head) {
+        return new PointBalance(userId, Money.make(head.totalPoint()), head.lastSequence());
+    }
+}
@@ -0,0 +1,5 @@
+package cbnu.subscribe_service.point.repository;
+
+// 스냅샷 이후 구간의 원장 항목 합계와 마지막 순번
+record PointLedgerTail(Long amount, Long lastSequence) {
+}
@@ -0,0 +1,8 @@
+package cbnu.subscribe_service.point.repository;
+
+import cbnu.subscribe_service.domain.UserId;
+import cbnu.subscribe_service.point.domain.PointEntryId;
+
+// 원장 항목 id 와 기록한 사용자 (압축 대상을 찾을 때 항목 전체를 읽지 않는다)
+record PointLedgerWrite(PointEntryId entryId, UserId userId) {
+}
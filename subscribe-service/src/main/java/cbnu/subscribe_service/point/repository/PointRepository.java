@@ -5,10 +5,26 @@ import cbnu.subscribe_service.point.domain.Point;
 import cbnu.subscribe_service.point.domain.PointId;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 interface PointRepository extends JpaRepository<Point, PointId> {
 
     Optional<Point> findPointByUserId(UserId userId);
 
     boolean existsByUserId(UserId userId);
+
+    // 한도 검사, 잔액 변경, 순번 증가를 한 문장으로 처리한다. 행 락을 커밋까지 잡으므로 같은 사용자의 기록은 여기서 차례로 줄을 선다
+    // 같은 트랜잭션에서 읽은 다른 엔티티의 변경이 사라지지 않도록 영속성 컨텍스트는 비우지 않는다 (머리 행은 findHead 로 다시 읽는다)
+    @Modifying
+    @Query("update Point p set p.money.totalPoint = p.money.totalPoint + :amount, "
+            + "p.lastSequence = p.lastSequence + 1, p.version = p.version + 1 "
+            + "where p.userId = :userId and p.money.totalPoint + :amount between :min and :max")
+    int advance(@Param("userId") UserId userId, @Param("amount") Long amount, @Param("min") Long min,
+                @Param("max") Long max);
+
+    @Query("select new cbnu.subscribe_service.point.repository.PointLedgerHead(p.money.totalPoint, p.lastSequence) "
+            + "from Point p where p.userId = :userId")
+    Optional<PointLedgerHead> findHead(@Param("userId") UserId userId);
 }
@@ -0,0 +1,27 @@
+package cbnu.subscribe_service.point.scheduler;
+
+import cbnu.subscribe_service.point.service.web.CompactPointLedgerUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointLedgerCompactionScheduler {
+
+    private final CompactPointLedgerUseCase compactPointLedgerUseCase;
+
+    @Scheduled(fixedDelayString = "${point.ledger.compaction.fixed-delay-ms:60000}")
+    public void compact() {
+        try {
+            int compacted = compactPointLedgerUseCase.compact();
+            if (compacted > 0) {
+                log.info("Compacted point ledger for {} users", compacted);
+            }
+        } catch (Exception e) {
+            log.error("Failed to compact point ledger", e);
+        }
+    }
+}
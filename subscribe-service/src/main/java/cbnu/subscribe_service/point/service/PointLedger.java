@@ -0,0 +1,48 @@
+package cbnu.subscribe_service.point.service;
+
+import cbnu.subscribe_service.common.exception.PointBelowThresholdException;
+import cbnu.subscribe_service.common.exception.PointLimitExceededException;
+import cbnu.subscribe_service.common.exception.WrongThresholdRangeException;
+import cbnu.subscribe_service.domain.UserId;
+import cbnu.subscribe_service.point.domain.PointBalance;
+import cbnu.subscribe_service.point.domain.PointEntryType;
+import cbnu.subscribe_service.point.service.persistence.AppendPointEntryPort;
+import cbnu.subscribe_service.point.service.persistence.LoadPointBalancePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 포인트 원장.
+ * 움직임은 바뀌지 않는 항목으로 추가만 하고, 사용자별 point 행은 현재 잔액과 마지막 순번을 가진 머리 역할만 한다.
+ * 기록할 때는 point 행을 조건부 UPDATE 한 번으로 한도 검사, 잔액 변경, 순번 증가를 처리하고 그 순번으로 항목을 추가한다.
+ * 같은 사용자에 대한 기록은 그 행 락에서 차례로 기다리므로 순번이 충돌해서 재시도하는 일이 없다.
+ */
+@Component
+@RequiredArgsConstructor
+class PointLedger {
+
+    private final LoadPointBalancePort loadPointBalancePort;
+    private final AppendPointEntryPort appendPointEntryPort;
+
+    PointBalance balance(UserId userId) {
+        return loadPointBalancePort.loadBalance(userId);
+    }
+
+    // 기록 후 잔액
+    PointBalance record(UserId userId, PointEntryType type, Long point) {
+        if (point == null || point <= 0) {
+            throw new WrongThresholdRangeException("포인트가 1 미만입니다");
+        }
+        return appendPointEntryPort.append(userId, type, point)
+                .orElseThrow(() -> rejected(userId, type));
+    }
+
+    // 조건부 UPDATE 가 아무 행도 바꾸지 못한 이유를 돌려준다 (사용자가 없으면 balance 가 NotFoundDataException 을 던진다)
+    private RuntimeException rejected(UserId userId, PointEntryType type) {
+        balance(userId);
+        if (type.isCredit()) {
+            return new PointLimitExceededException("포인트 충전 값이 최대 값을 초과했습니다");
+        }
+        return new PointBelowThresholdException("현재 보유 포인트를 초과했습니다.");
+    }
+}
@@ -0,0 +1,88 @@
+package cbnu.subscribe_service.point.service;
+
+import cbnu.subscribe_service.common.annotation.UseCase;
+import cbnu.subscribe_service.domain.UserId;
+import cbnu.subscribe_service.point.domain.PointBalance;
+import cbnu.subscribe_service.point.service.persistence.CompactPointLedgerPort;
+import cbnu.subscribe_service.point.service.persistence.RecentLedgerWriters;
+import cbnu.subscribe_service.point.service.web.CompactPointLedgerUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 스냅샷 이후 항목이 쌓인 사용자의 스냅샷을 앞으로 옮긴다. 옮기기 전에 원장 합계가 point 행의 잔액과 같은지 확인해서
+// 원장을 다시 계산해야 할 때(감사, 복구) 읽는 항목 수를 일정하게 유지한다
+// 원장 전체를 집계하지 않고, 마지막으로 읽은 항목 이후에 기록한 사용자만 골라 그 사용자의 꼬리 길이를 센다.
+// 커서는 인스턴스 메모리에 있으므로 재시작하면 처음부터 다시 읽지만, 한 번 실행에 읽는 양은 batchSize * maxPages 로 제한된다
+@Slf4j
+@UseCase
+class PointLedgerCompactionService implements CompactPointLedgerUseCase {
+
+    private final PointLedger pointLedger;
+    private final CompactPointLedgerPort compactPointLedgerPort;
+    private final TransactionTemplate transactionTemplate;
+    private final long minTail;
+    private final int batchSize;
+    private final int maxPages;
+
+    // 마지막으로 확인한 원장 항목 id
+    private long lastEntryId = 0L;
+
+    PointLedgerCompactionService(
+            PointLedger pointLedger,
+            CompactPointLedgerPort compactPointLedgerPort,
+            PlatformTransactionManager transactionManager,
+            @Value("${point.ledger.compaction.min-tail:50}") long minTail,
+            @Value("${point.ledger.compaction.batch-size:500}") int batchSize,
+            @Value("${point.ledger.compaction.max-pages:20}") int maxPages
+    ) {
+        this.pointLedger = pointLedger;
+        this.compactPointLedgerPort = compactPointLedgerPort;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.minTail = minTail;
+        this.batchSize = batchSize;
+        this.maxPages = Math.max(1, maxPages);
+    }
+
+    @Override
+    public synchronized int compact() {
+        int compacted = 0;
+        for (int page = 0; page < maxPages; page++) {
+            RecentLedgerWriters writers = compactPointLedgerPort.findWritersAfter(lastEntryId, batchSize);
+            for (UserId userId : writers.userIds()) {
+                if (compactPointLedgerPort.countTail(userId) >= minTail && compact(userId)) {
+                    compacted++;
+                }
+            }
+            // 처리가 끝난 뒤에 커서를 옮겨서, 중간에 실패하면 다음 실행이 같은 구간을 다시 본다
+            lastEntryId = writers.lastEntryId();
+            if (writers.scanned() < batchSize) {
+                break;
+            }
+        }
+        return compacted;
+    }
+
+    private boolean compact(UserId userId) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                // point 행에 보이는 순번까지의 항목은 같은 트랜잭션에서 커밋됐으므로 모두 보인다
+                PointBalance head = pointLedger.balance(userId);
+                PointBalance replayed = compactPointLedgerPort.replay(userId, head.lastSequence());
+                if (!replayed.totalPoint().equals(head.totalPoint())) {
+                    log.error("Point ledger does not match balance for user: {} (ledger: {}, balance: {}, seq: {})",
+                            userId.getId(), replayed.totalPoint(), head.totalPoint(), head.lastSequence());
+                    return false;
+                }
+                compactPointLedgerPort.saveSnapshot(head);
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 순번으로 먼저 스냅샷을 만든 경우
+            log.debug("Snapshot already exists for user: {}", userId.getId());
+            return false;
+        }
+    }
+}
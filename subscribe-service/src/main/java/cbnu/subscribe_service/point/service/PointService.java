@@ -1,13 +1,13 @@
 package cbnu.subscribe_service.point.service;
 
 import cbnu.subscribe_service.common.annotation.UseCase;
+import cbnu.subscribe_service.common.transaction.TransientRetryTemplate;
 import cbnu.subscribe_service.domain.UserId;
 import cbnu.subscribe_service.point.domain.Money;
 import cbnu.subscribe_service.point.domain.Point;
-import cbnu.subscribe_service.point.domain.PointId;
+import cbnu.subscribe_service.point.domain.PointEntryType;
 import cbnu.subscribe_service.point.service.persistence.ExistsPointByUserIdPort;
 import cbnu.subscribe_service.point.service.persistence.LoadPointByUserIdPort;
-import cbnu.subscribe_service.point.service.persistence.LoadPointPort;
 import cbnu.subscribe_service.point.service.persistence.RegisterPointPort;
 import cbnu.subscribe_service.point.service.web.LoadPointByUserUseCase;
 import cbnu.subscribe_service.point.service.web.LoadPointQuery;
@@ -16,20 +16,48 @@ import cbnu.subscribe_service.point.service.web.PresentPointCommand;
 import cbnu.subscribe_service.point.service.web.PresentPointUseCase;
 import cbnu.subscribe_service.point.service.web.RechargePointCommand;
 import cbnu.subscribe_service.point.service.web.RechargePointUseCase;
+import cbnu.subscribe_service.point.service.web.RefundPointCommand;
+import cbnu.subscribe_service.point.service.web.RefundPointUseCase;
 import cbnu.subscribe_service.point.service.web.RegisterPointCommand;
 import cbnu.subscribe_service.point.service.web.RegisterPointUseCase;
-import lombok.RequiredArgsConstructor;
+import cbnu.subscribe_service.point.service.web.UsePointCommand;
+import cbnu.subscribe_service.point.service.web.UsePointUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @UseCase
 @Transactional
-@RequiredArgsConstructor
 class PointService implements RegisterPointUseCase, RechargePointUseCase, LoadPointByUserUseCase, LoadPointQuery,
-        PresentPointUseCase {
+        PresentPointUseCase, UsePointUseCase, RefundPointUseCase {
 
     private final RegisterPointPort registerPointPort;
     private final LoadPointByUserIdPort loadPointByUserIdPort;
     private final ExistsPointByUserIdPort existsPointByUserIdPort;
+    private final PointLedger pointLedger;
+    private final PointTransferEngine pointTransferEngine;
+    private final TransientRetryTemplate retryTemplate;
+
+    PointService(
+            RegisterPointPort registerPointPort,
+            LoadPointByUserIdPort loadPointByUserIdPort,
+            ExistsPointByUserIdPort existsPointByUserIdPort,
+            PointLedger pointLedger,
+            PointTransferEngine pointTransferEngine,
+            PlatformTransactionManager transactionManager,
+            @Value("${point.ledger.retry.max-attempts:5}") int maxAttempts,
+            @Value("${point.ledger.retry.backoff-base-ms:10}") long backoffBaseMillis,
+            @Value("${point.ledger.retry.backoff-max-ms:200}") long backoffMaxMillis
+    ) {
+        this.registerPointPort = registerPointPort;
+        this.loadPointByUserIdPort = loadPointByUserIdPort;
+        this.existsPointByUserIdPort = existsPointByUserIdPort;
+        this.pointLedger = pointLedger;
+        this.pointTransferEngine = pointTransferEngine;
+        this.retryTemplate = new TransientRetryTemplate(transactionManager, maxAttempts, backoffBaseMillis,
+                backoffMaxMillis);
+    }
 
     @Override
     public void register(RegisterPointCommand registerPointCommand) {
@@ -39,11 +67,32 @@ class PointService implements RegisterPointUseCase, RechargePointUseCase, LoadPo
         }
     }
 
+    // 원장 기록은 point 행 락을 기다리다 락 대기 초과로 실패할 수 있으므로 새 트랜잭션에서 재시도한다.
+    // 구독 처리처럼 바깥 트랜잭션 안에서 호출되면 그 트랜잭션에 참여하고, 재시도는 바깥에서 한다
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Money recharge(RechargePointCommand rechargePointCommand) {
-        Point point = loadPointByUserIdPort.loadByUserId(UserId.make(rechargePointCommand.userId()));
-        point.rechargePoint(rechargePointCommand.userId(), rechargePointCommand.point());
-        return point.getMoney();
+        return retryTemplate.execute(status -> pointLedger.record(UserId.make(rechargePointCommand.userId()),
+                PointEntryType.RECHARGE, rechargePointCommand.point()).money());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Money use(UsePointCommand usePointCommand) {
+        return retryTemplate.execute(status -> pointLedger.record(UserId.make(usePointCommand.userId()),
+                PointEntryType.USE, usePointCommand.point()).money());
+    }
+
+    // 남은 기간이 하루 미만이면 환불액이 0 이므로 기록하지 않는다
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Money refund(RefundPointCommand refundPointCommand) {
+        UserId userId = UserId.make(refundPointCommand.userId());
+        if (refundPointCommand.point() == 0) {
+            return pointLedger.balance(userId).money();
+        }
+        return retryTemplate.execute(status -> pointLedger.record(userId, PointEntryType.REFUND,
+                refundPointCommand.point()).money());
     }
 
     @Override
@@ -53,15 +102,15 @@ class PointService implements RegisterPointUseCase, RechargePointUseCase, LoadPo
 
     @Override
     public LoadPointResponse load(Long userId) {
-        Point point = loadPointByUserIdPort.loadByUserId(UserId.make(userId));
-        return new LoadPointResponse(point.getUserId().getId(),point.getMoney().getTotalPoint());
+        return new LoadPointResponse(userId, pointLedger.balance(UserId.make(userId)).totalPoint());
     }
 
+    // 재시도마다 새 트랜잭션이 필요하므로 바깥 트랜잭션 없이 이체 엔진에 맡긴다
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoadPointResponse present(PresentPointCommand presentPointCommand) {
-        Point userPoint = loadPointByUserIdPort.loadByUserId(UserId.make(presentPointCommand.userId()));
-        Point opponentPoint = loadPointByUserIdPort.loadByUserId(UserId.make(presentPointCommand.toUserId()));
-        Long currentPoint = userPoint.presentPoint(opponentPoint, presentPointCommand.sendPoint());
+        Long currentPoint = pointTransferEngine.transfer(presentPointCommand.userId(), presentPointCommand.toUserId(),
+                presentPointCommand.sendPoint());
         return new LoadPointResponse(presentPointCommand.userId(), currentPoint);
     }
 }
@@ -0,0 +1,55 @@
+package cbnu.subscribe_service.point.service;
+
+import cbnu.subscribe_service.common.exception.WrongThresholdRangeException;
+import cbnu.subscribe_service.common.transaction.TransientRetryTemplate;
+import cbnu.subscribe_service.domain.UserId;
+import cbnu.subscribe_service.point.domain.PointEntryType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 포인트 이체.
+ * 두 사용자의 point 행을 항상 userId 오름차순으로 조건부 UPDATE 해서(PointLedger.record) A→B, B→A 가 동시에 와도
+ * 락 순서가 엇갈리지 않는다. 잔액 검사는 UPDATE 조건에 있으므로 읽고 쓰는 사이에 끼어들 틈이 없다.
+ * 락 대기 초과, 교착 희생 같은 일시적 충돌만 지터를 준 백오프로 제한된 횟수만큼 재시도한다.
+ */
+@Component
+class PointTransferEngine {
+
+    private final PointLedger pointLedger;
+    private final TransientRetryTemplate retryTemplate;
+
+    PointTransferEngine(
+            PointLedger pointLedger,
+            PlatformTransactionManager transactionManager,
+            @Value("${point.transfer.max-attempts:5}") int maxAttempts,
+            @Value("${point.transfer.backoff-base-ms:10}") long backoffBaseMillis,
+            @Value("${point.transfer.backoff-max-ms:200}") long backoffMaxMillis
+    ) {
+        this.pointLedger = pointLedger;
+        this.retryTemplate = new TransientRetryTemplate(transactionManager, maxAttempts, backoffBaseMillis,
+                backoffMaxMillis);
+    }
+
+    // 이체 후 보내는 사람의 잔액
+    Long transfer(Long fromUserId, Long toUserId, Long point) {
+        if (point == null || point <= 0) {
+            throw new WrongThresholdRangeException("선물 포인트가 1 미만입니다");
+        }
+        UserId from = UserId.make(fromUserId);
+        UserId to = UserId.make(toUserId);
+        return retryTemplate.execute(status -> transferOnce(from, to, point));
+    }
+
+    private Long transferOnce(UserId from, UserId to, Long point) {
+        if (from.getId() <= to.getId()) {
+            pointLedger.record(from, PointEntryType.GIFT_OUT, point);
+            pointLedger.record(to, PointEntryType.GIFT_IN, point);
+        } else {
+            pointLedger.record(to, PointEntryType.GIFT_IN, point);
+            pointLedger.record(from, PointEntryType.GIFT_OUT, point);
+        }
+        return pointLedger.balance(from).totalPoint();
+    }
+}
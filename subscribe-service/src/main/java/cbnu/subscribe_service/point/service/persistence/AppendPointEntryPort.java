@@ -0,0 +1,12 @@
+package cbnu.subscribe_service.point.service.persistence;
+
+import cbnu.subscribe_service.domain.UserId;
+import cbnu.subscribe_service.point.domain.PointBalance;
+import cbnu.subscribe_service.point.domain.PointEntryType;
+import java.util.Optional;
+
+public interface AppendPointEntryPort {
+
+    // 기록 후 잔액. 사용자가 없거나 잔액 한도를 벗어나면 기록하지 않고 비어 있는 값을 돌려준다
+    Optional<PointBalance> append(UserId userId, PointEntryType type, Long point);
+}
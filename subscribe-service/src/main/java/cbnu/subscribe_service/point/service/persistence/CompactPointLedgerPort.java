@@ -0,0 +1,16 @@
+package cbnu.subscribe_service.point.service.persistence;
+
+import cbnu.subscribe_service.domain.UserId;
+import cbnu.subscribe_service.point.domain.PointBalance;
+
+public interface CompactPointLedgerPort {
+
+    RecentLedgerWriters findWritersAfter(Long afterEntryId, int limit);
+
+    long countTail(UserId userId);
+
+    // 최신 스냅샷에 upToSequence 번째까지의 원장 항목을 더한 잔액
+    PointBalance replay(UserId userId, Long upToSequence);
+
+    void saveSnapshot(PointBalance balance);
+}
@@ -0,0 +1,9 @@
+package cbnu.subscribe_service.point.service.persistence;
+
+import cbnu.subscribe_service.domain.UserId;
+import cbnu.subscribe_service.point.domain.PointBalance;
+
+public interface LoadPointBalancePort {
+
+    PointBalance loadBalance(UserId userId);
+}
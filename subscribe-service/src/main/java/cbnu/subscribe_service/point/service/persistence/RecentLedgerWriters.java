@@ -0,0 +1,8 @@
+package cbnu.subscribe_service.point.service.persistence;
+
+import cbnu.subscribe_service.domain.UserId;
+import java.util.List;
+
+// afterEntryId 이후 원장에 기록한 사용자(중복 제거)와 읽은 마지막 항목 id. 읽은 항목이 없으면 lastEntryId 는 그대로
+public record RecentLedgerWriters(List<UserId> userIds, Long lastEntryId, int scanned) {
+}
@@ -0,0 +1,5 @@
+package cbnu.subscribe_service.point.service.web;
+
+public interface CompactPointLedgerUseCase {
+    int compact();
+}
@@ -0,0 +1,4 @@
+package cbnu.subscribe_service.point.service.web;
+
+public record RefundPointCommand(Long userId, Long point) {
+}
@@ -0,0 +1,7 @@
+package cbnu.subscribe_service.point.service.web;
+
+import cbnu.subscribe_service.point.domain.Money;
+
+public interface RefundPointUseCase {
+    Money refund(RefundPointCommand refundPointCommand);
+}
@@ -0,0 +1,4 @@
+package cbnu.subscribe_service.point.service.web;
+
+public record UsePointCommand(Long userId, Long point) {
+}
@@ -0,0 +1,17 @@
+package cbnu.subscribe_service.subscription.domain;
+
+import java.time.Instant;
+
+public record Entitlement(Long userId, SubscriptionType type, Instant endDate) {
+
+    public Authorization authorize(String requiredType) {
+        if (type.covers(SubscriptionType.valueOf(requiredType))) {
+            return Authorization.AUTHENTICATED;
+        }
+        return Authorization.UNAUTHENTICATED;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !endDate.isAfter(now);
+    }
+}
@@ -4,7 +4,6 @@ import cbnu.subscribe_service.common.exception.SubscriptionExpiredException;
 import cbnu.subscribe_service.common.exception.WrongUserIdException;
 import cbnu.subscribe_service.common.generic.AggregateRoot;
 import cbnu.subscribe_service.domain.UserId;
-import cbnu.subscribe_service.point.domain.Point;
 import cbnu.subscribe_service.subscription.domain.SubscriptionId.SubscriptionIdJavaType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
@@ -61,30 +60,29 @@ public class Subscription extends AggregateRoot<Subscription, SubscriptionId> {
         this.type = SubscriptionType.valueOf(type);
     }
 
-    public static Subscription apply(Point point, Long days, Long userId, String type) {
-        SubscriptionType subscriptionType = SubscriptionType.valueOf(type);
-        DiscountType discountType = DiscountType.daysRate(days);
-        long price = subscriptionType.getPrice() * days * (100 - discountType.getRate()) / 100;
-        point.usePoint(userId, price);
+    public static Subscription apply(Long days, Long userId, String type) {
         return new Subscription(days, userId, type);
     }
 
-    public void update(Point point, Long days, Long userId, String type) {
+    public static Long priceOf(Long days, String type) {
         SubscriptionType subscriptionType = SubscriptionType.valueOf(type);
         DiscountType discountType = DiscountType.daysRate(days);
-        long price = subscriptionType.getPrice() * days * (100 - discountType.getRate()) / 100;
-        point.usePoint(userId, price);
+        return subscriptionType.getPrice() * days * (100 - discountType.getRate()) / 100;
+    }
+
+    public void update(Long days, Long userId, String type) {
+        verifyUserId(userId);
         this.subscriptionTime = new SubscriptionTime(days);
-        this.type = subscriptionType;
+        this.type = SubscriptionType.valueOf(type);
     }
 
     public Authorization verifyAuthentication(Long userId, String type) {
         verifyUserId(userId);
-        SubscriptionType accessRights = SubscriptionType.valueOf(type);
-        if (accessRights.getPrice() <= this.type.getPrice()) {
-            return Authorization.AUTHENTICATED;
-        }
-        return Authorization.UNAUTHENTICATED;
+        return toEntitlement().authorize(type);
+    }
+
+    public Entitlement toEntitlement() {
+        return new Entitlement(userId.getId(), type, subscriptionTime.getEndDate());
     }
 
     public Long refund(Long userId) {
@@ -26,7 +26,7 @@ public class SubscriptionId extends LongTypeIdentifier {
 
     public static class SubscriptionIdJavaType extends LongTypeIdentifierJavaType<SubscriptionId> {
         public SubscriptionIdJavaType() {
-            super(SubscriptionId.class);
+            super(SubscriptionId.class, SubscriptionId::new);
         }
     }
 }
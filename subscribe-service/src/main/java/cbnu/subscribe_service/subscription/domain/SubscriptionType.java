@@ -11,4 +11,8 @@ public enum SubscriptionType {
     SubscriptionType(Long price) {
         this.price = price;
     }
+
+    public boolean covers(SubscriptionType required) {
+        return required.getPrice() <= this.price;
+    }
 }
@@ -0,0 +1,67 @@
+package cbnu.subscribe_service.subscription.repository;
+
+import cbnu.subscribe_service.common.annotation.PersistenceAdapter;
+import cbnu.subscribe_service.subscription.domain.Entitlement;
+import cbnu.subscribe_service.subscription.service.persistence.EntitlementCachePort;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+// 인스턴스 로컬 LRU. 다른 인스턴스의 변경은 ttl 이 지나야 반영된다
+@PersistenceAdapter
+@ConditionalOnProperty(name = "subscription.entitlement-cache.type", havingValue = "local", matchIfMissing = true)
+class LocalEntitlementCacheAdapter implements EntitlementCachePort {
+
+    private final Map<Long, CachedEntitlement> entries;
+    private final Duration ttl;
+
+    LocalEntitlementCacheAdapter(
+            @Value("${subscription.entitlement-cache.max-size:10000}") int maxSize,
+            @Value("${subscription.entitlement-cache.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedEntitlement> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    @Override
+    public Optional<Entitlement> find(Long userId) {
+        CachedEntitlement cached = entries.get(userId);
+        if (cached == null) {
+            return Optional.empty();
+        }
+        if (!cached.expiresAt().isAfter(Instant.now())) {
+            entries.remove(userId);
+            return Optional.empty();
+        }
+        return Optional.of(cached.entitlement());
+    }
+
+    @Override
+    public void put(Entitlement entitlement) {
+        Instant now = Instant.now();
+        if (entitlement.isExpired(now)) {
+            return;
+        }
+        Instant ttlExpiry = now.plus(ttl);
+        Instant expiresAt = entitlement.endDate().isBefore(ttlExpiry) ? entitlement.endDate() : ttlExpiry;
+        entries.put(entitlement.userId(), new CachedEntitlement(entitlement, expiresAt));
+    }
+
+    @Override
+    public void evict(Long userId) {
+        entries.remove(userId);
+    }
+
+    private record CachedEntitlement(Entitlement entitlement, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,77 @@
+package cbnu.subscribe_service.subscription.repository;
+
+import cbnu.subscribe_service.common.annotation.PersistenceAdapter;
+import cbnu.subscribe_service.subscription.domain.Entitlement;
+import cbnu.subscribe_service.subscription.domain.SubscriptionType;
+import cbnu.subscribe_service.subscription.service.persistence.EntitlementCachePort;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+// 인스턴스 간 공유. 값은 "타입:만료시각(epoch ms)" 이고 endDate 에 맞춰 Redis 에서 만료된다
+@Slf4j
+@PersistenceAdapter
+@ConditionalOnProperty(name = "subscription.entitlement-cache.type", havingValue = "redis")
+class RedisEntitlementCacheAdapter implements EntitlementCachePort {
+
+    private static final String KEY_PREFIX = "ENTITLEMENT:";
+    private static final String DELIMITER = ":";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    RedisEntitlementCacheAdapter(
+            StringRedisTemplate redisTemplate,
+            @Value("${subscription.entitlement-cache.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    @Override
+    public Optional<Entitlement> find(Long userId) {
+        try {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+            if (value == null) {
+                return Optional.empty();
+            }
+            int delimiter = value.indexOf(DELIMITER);
+            return Optional.of(new Entitlement(
+                    userId,
+                    SubscriptionType.valueOf(value.substring(0, delimiter)),
+                    Instant.ofEpochMilli(Long.parseLong(value.substring(delimiter + 1)))
+            ));
+        } catch (RuntimeException e) {
+            log.warn("Failed to read entitlement cache for user: {}", userId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(Entitlement entitlement) {
+        Duration untilEnd = Duration.between(Instant.now(), entitlement.endDate());
+        if (untilEnd.isNegative() || untilEnd.isZero()) {
+            return;
+        }
+        try {
+            String value = entitlement.type().name() + DELIMITER + entitlement.endDate().toEpochMilli();
+            redisTemplate.opsForValue().set(KEY_PREFIX + entitlement.userId(), value,
+                    untilEnd.compareTo(ttl) < 0 ? untilEnd : ttl);
+        } catch (RuntimeException e) {
+            log.warn("Failed to write entitlement cache for user: {}", entitlement.userId(), e);
+        }
+    }
+
+    @Override
+    public void evict(Long userId) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + userId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to evict entitlement cache for user: {}", userId, e);
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package cbnu.subscribe_service.subscription.service;
 
 import cbnu.subscribe_service.common.annotation.UseCase;
+import cbnu.subscribe_service.common.transaction.TransientRetryTemplate;
 import cbnu.subscribe_service.domain.UserId;
-import cbnu.subscribe_service.point.domain.Point;
-import cbnu.subscribe_service.point.service.web.LoadPointByUserUseCase;
+import cbnu.subscribe_service.point.domain.Money;
+import cbnu.subscribe_service.point.service.web.RefundPointCommand;
+import cbnu.subscribe_service.point.service.web.RefundPointUseCase;
+import cbnu.subscribe_service.point.service.web.UsePointCommand;
+import cbnu.subscribe_service.point.service.web.UsePointUseCase;
 import cbnu.subscribe_service.subscription.domain.Authorization;
+import cbnu.subscribe_service.subscription.domain.Entitlement;
 import cbnu.subscribe_service.subscription.domain.Subscription;
 import cbnu.subscribe_service.subscription.service.persistence.DeleteSubscriptionPort;
+import cbnu.subscribe_service.subscription.service.persistence.EntitlementCachePort;
 import cbnu.subscribe_service.subscription.service.persistence.ExistsSubscriptionByUserIdPort;
 import cbnu.subscribe_service.subscription.service.persistence.LoadSubscriptionPort;
 import cbnu.subscribe_service.subscription.service.persistence.RegisterSubscriptionPort;
@@ -22,30 +28,70 @@ import cbnu.subscribe_service.subscription.service.web.TerminateSubscriptionUseC
 import cbnu.subscribe_service.subscription.service.web.VerifyUserAccessRightsCommand;
 import cbnu.subscribe_service.subscription.service.web.VerifyUserAccessRightsResponse;
 import cbnu.subscribe_service.subscription.service.web.VerifyUserAccessRightsUseCase;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
-import lombok.RequiredArgsConstructor;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @UseCase
 @Transactional
-@RequiredArgsConstructor
 class SubscriptionService implements SubscribeMemberShipUseCase, LoadSubscriptionQuery, TerminateSubscriptionUseCase,
         VerifyUserAccessRightsUseCase, RenewalSubscriptionUseCase {
 
-    private final LoadPointByUserUseCase loadPointByUserUseCase;
+    private final UsePointUseCase usePointUseCase;
+    private final RefundPointUseCase refundPointUseCase;
     private final RegisterSubscriptionPort subscriptionPort;
     private final LoadSubscriptionPort loadSubscriptionPort;
     private final DeleteSubscriptionPort deleteSubscriptionPort;
     private final ExistsSubscriptionByUserIdPort existsSubscriptionByUserIdPort;
+    private final EntitlementCachePort entitlementCachePort;
+    private final TransientRetryTemplate retryTemplate;
 
+    SubscriptionService(
+            UsePointUseCase usePointUseCase,
+            RefundPointUseCase refundPointUseCase,
+            RegisterSubscriptionPort subscriptionPort,
+            LoadSubscriptionPort loadSubscriptionPort,
+            DeleteSubscriptionPort deleteSubscriptionPort,
+            ExistsSubscriptionByUserIdPort existsSubscriptionByUserIdPort,
+            EntitlementCachePort entitlementCachePort,
+            PlatformTransactionManager transactionManager,
+            @Value("${point.ledger.retry.max-attempts:5}") int maxAttempts,
+            @Value("${point.ledger.retry.backoff-base-ms:10}") long backoffBaseMillis,
+            @Value("${point.ledger.retry.backoff-max-ms:200}") long backoffMaxMillis
+    ) {
+        this.usePointUseCase = usePointUseCase;
+        this.refundPointUseCase = refundPointUseCase;
+        this.subscriptionPort = subscriptionPort;
+        this.loadSubscriptionPort = loadSubscriptionPort;
+        this.deleteSubscriptionPort = deleteSubscriptionPort;
+        this.existsSubscriptionByUserIdPort = existsSubscriptionByUserIdPort;
+        this.entitlementCachePort = entitlementCachePort;
+        this.retryTemplate = new TransientRetryTemplate(transactionManager, maxAttempts, backoffBaseMillis,
+                backoffMaxMillis);
+    }
+
+    // 포인트 원장 기록과 구독 변경을 한 트랜잭션으로 묶고, 락 대기 초과나 버전 충돌이 나면 통째로 다시 실행한다
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public SubscribeMemberShipResponse subscribe(SubscribeMemberShipCommand subscribeMemberShipCommand) {
-        Point point = loadPointByUserUseCase.load(UserId.make(subscribeMemberShipCommand.userId()));
+        return retryTemplate.execute(status -> subscribeOnce(subscribeMemberShipCommand));
+    }
+
+    private SubscribeMemberShipResponse subscribeOnce(SubscribeMemberShipCommand subscribeMemberShipCommand) {
         if (!existsSubscriptionByUserIdPort.exists(UserId.make(subscribeMemberShipCommand.userId()))) {
-            Subscription subscription = Subscription.apply(point, subscribeMemberShipCommand.days(),
+            usePointUseCase.use(new UsePointCommand(subscribeMemberShipCommand.userId(),
+                    Subscription.priceOf(subscribeMemberShipCommand.days(), subscribeMemberShipCommand.type())));
+            Subscription subscription = Subscription.apply(subscribeMemberShipCommand.days(),
                     subscribeMemberShipCommand.userId(), subscribeMemberShipCommand.type());
             subscription = subscriptionPort.register(subscription);
+            evictEntitlementAfterCommit(subscribeMemberShipCommand.userId());
             return SubscribeMemberShipResponseMapper.convert(subscription);
         }
         return null;
@@ -64,32 +110,67 @@ class SubscriptionService implements SubscribeMemberShipUseCase, LoadSubscriptio
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TerminateSubscriptionResponse terminate(Long userId) {
+        return retryTemplate.execute(status -> terminateOnce(userId));
+    }
+
+    private TerminateSubscriptionResponse terminateOnce(Long userId) {
         Subscription subscription = loadSubscriptionPort.loadByUserId(UserId.make(userId));
-        Point point = loadPointByUserUseCase.load(UserId.make(userId));
         Long refundPoint = subscription.refund(userId);
-        Long previousPoint = point.getMoney().getTotalPoint();
-        point.rechargePoint(userId, refundPoint);
+        Money currentPoint = refundPointUseCase.refund(new RefundPointCommand(userId, refundPoint));
         deleteSubscriptionPort.delete(subscription);
-        return new TerminateSubscriptionResponse(userId, previousPoint, refundPoint, point.getMoney().getTotalPoint());
+        evictEntitlementAfterCommit(userId);
+        return new TerminateSubscriptionResponse(userId, currentPoint.getTotalPoint() - refundPoint, refundPoint,
+                currentPoint.getTotalPoint());
     }
 
+    // 캐시 적중 시에는 트랜잭션을 열지 않는다. 구독 변경은 커밋 후 캐시를 지우고, 캐시는 endDate 를 넘겨 유지되지 않는다
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public VerifyUserAccessRightsResponse verify(VerifyUserAccessRightsCommand verifyUserAccessRightsCommand) {
-        Subscription subscription = loadSubscriptionPort.loadByUserId(
-                UserId.make(verifyUserAccessRightsCommand.userId()));
-        Authorization authorization = subscription.verifyAuthentication(verifyUserAccessRightsCommand.userId(),
-                verifyUserAccessRightsCommand.type());
-        return new VerifyUserAccessRightsResponse(verifyUserAccessRightsCommand.userId(), authorization);
+        Long userId = verifyUserAccessRightsCommand.userId();
+        Optional<Entitlement> cached = entitlementCachePort.find(userId)
+                .filter(entitlement -> !entitlement.isExpired(Instant.now()));
+        if (cached.isPresent()) {
+            return new VerifyUserAccessRightsResponse(userId,
+                    cached.get().authorize(verifyUserAccessRightsCommand.type()));
+        }
+
+        Subscription subscription = loadSubscriptionPort.loadByUserId(UserId.make(userId));
+        Authorization authorization = subscription.verifyAuthentication(userId, verifyUserAccessRightsCommand.type());
+        entitlementCachePort.put(subscription.toEntitlement());
+        return new VerifyUserAccessRightsResponse(userId, authorization);
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void renewal(RenewalSubscriptionCommand renewalSubscriptionCommand) {
-        Point point = loadPointByUserUseCase.load(UserId.make(renewalSubscriptionCommand.userId()));
+        retryTemplate.executeWithoutResult(status -> renewalOnce(renewalSubscriptionCommand));
+    }
+
+    private void renewalOnce(RenewalSubscriptionCommand renewalSubscriptionCommand) {
         if (existsSubscriptionByUserIdPort.exists(UserId.make(renewalSubscriptionCommand.userId()))) {
             Subscription subscription = loadSubscriptionPort.loadByUserId(UserId.make(renewalSubscriptionCommand.userId()));
-            subscription.update(point, renewalSubscriptionCommand.days(), renewalSubscriptionCommand.userId(),
+            usePointUseCase.use(new UsePointCommand(renewalSubscriptionCommand.userId(),
+                    Subscription.priceOf(renewalSubscriptionCommand.days(), renewalSubscriptionCommand.type())));
+            subscription.update(renewalSubscriptionCommand.days(), renewalSubscriptionCommand.userId(),
                     renewalSubscriptionCommand.type());
+            evictEntitlementAfterCommit(renewalSubscriptionCommand.userId());
+        }
+    }
+
+    // 커밋 전에 지우면 동시 조회가 이전 구독으로 캐시를 다시 채울 수 있다
+    private void evictEntitlementAfterCommit(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entitlementCachePort.evict(userId);
+                }
+            });
+            return;
         }
+        entitlementCachePort.evict(userId);
     }
 }
@@ -0,0 +1,13 @@
+package cbnu.subscribe_service.subscription.service.persistence;
+
+import cbnu.subscribe_service.subscription.domain.Entitlement;
+import java.util.Optional;
+
+public interface EntitlementCachePort {
+
+    Optional<Entitlement> find(Long userId);
+
+    void put(Entitlement entitlement);
+
+    void evict(Long userId);
+}
@@ -0,0 +1,66 @@
+package cbnu.subscribe_service.point.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cbnu.subscribe_service.domain.UserId;
+import cbnu.subscribe_service.point.service.persistence.CompactPointLedgerPort;
+import cbnu.subscribe_service.point.service.web.CompactPointLedgerUseCase;
+import cbnu.subscribe_service.point.service.web.LoadPointQuery;
+import cbnu.subscribe_service.point.service.web.RechargePointCommand;
+import cbnu.subscribe_service.point.service.web.RechargePointUseCase;
+import cbnu.subscribe_service.point.service.web.RegisterPointCommand;
+import cbnu.subscribe_service.point.service.web.RegisterPointUseCase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+// 압축은 마지막으로 본 항목 이후에 기록한 사용자만 확인하고, 꼬리가 minTail 이상인 사용자만 스냅샷을 옮기는지 확인
+@SpringBootTest(properties = {"point.ledger.compaction.min-tail=20", "point.ledger.compaction.batch-size=7"})
+class PointLedgerCompactionTest {
+
+    @Autowired
+    private RegisterPointUseCase registerPointUseCase;
+
+    @Autowired
+    private RechargePointUseCase rechargePointUseCase;
+
+    @Autowired
+    private LoadPointQuery loadPointQuery;
+
+    @Autowired
+    private CompactPointLedgerUseCase compactPointLedgerUseCase;
+
+    @Autowired
+    private CompactPointLedgerPort compactPointLedgerPort;
+
+    @Test
+    void onlyUsersWithLongTailsAreCompacted() {
+        UserId busy = UserId.make(9301L);
+        UserId quiet = UserId.make(9302L);
+        recharge(busy, 25);
+        recharge(quiet, 3);
+
+        compactPointLedgerUseCase.compact();
+
+        assertThat(compactPointLedgerPort.countTail(busy)).isZero();
+        assertThat(compactPointLedgerPort.countTail(quiet)).isEqualTo(3);
+        assertThat(loadPointQuery.load(busy.getId()).point()).isEqualTo(25 * 10L);
+        assertThat(loadPointQuery.load(quiet.getId()).point()).isEqualTo(3 * 10L);
+
+        // 이미 본 항목은 다시 읽지 않으므로 새 기록이 없으면 압축할 사용자도 없다
+        assertThat(compactPointLedgerUseCase.compact()).isZero();
+
+        // 새로 기록해서 꼬리가 길어지면 다시 후보가 된다
+        recharge(quiet, 20);
+        assertThat(compactPointLedgerUseCase.compact()).isEqualTo(1);
+        assertThat(compactPointLedgerPort.countTail(quiet)).isZero();
+        assertThat(loadPointQuery.load(quiet.getId()).point()).isEqualTo(23 * 10L);
+    }
+
+    private void recharge(UserId userId, int times) {
+        registerPointUseCase.register(new RegisterPointCommand(userId.getId()));
+        for (int i = 0; i < times; i++) {
+            rechargePointUseCase.recharge(new RechargePointCommand(userId.getId(), 10L));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package cbnu.subscribe_service.point.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cbnu.subscribe_service.point.service.web.LoadPointQuery;
+import cbnu.subscribe_service.point.service.web.RechargePointCommand;
+import cbnu.subscribe_service.point.service.web.RechargePointUseCase;
+import cbnu.subscribe_service.point.service.web.RegisterPointCommand;
+import cbnu.subscribe_service.point.service.web.RegisterPointUseCase;
+import cbnu.subscribe_service.subscription.domain.Subscription;
+import cbnu.subscribe_service.subscription.service.web.LoadSubscriptionQuery;
+import cbnu.subscribe_service.subscription.service.web.SubscribeMemberShipCommand;
+import cbnu.subscribe_service.subscription.service.web.SubscribeMemberShipUseCase;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+// 같은 사용자 원장에 동시에 기록하면 point 행 락에서 차례로 기록되는지 확인. 재시도 없이(한 번만 시도) 모두 반영되어야 한다
+@SpringBootTest(properties = "point.ledger.retry.max-attempts=1")
+class PointLedgerRetryTest {
+
+    private static final int THREADS = 8;
+    private static final int RECHARGES = 200;
+    private static final long RECHARGE_POINT = 10L;
+
+    @Autowired
+    private RegisterPointUseCase registerPointUseCase;
+
+    @Autowired
+    private RechargePointUseCase rechargePointUseCase;
+
+    @Autowired
+    private SubscribeMemberShipUseCase subscribeMemberShipUseCase;
+
+    @Autowired
+    private LoadPointQuery loadPointQuery;
+
+    @Autowired
+    private LoadSubscriptionQuery loadSubscriptionQuery;
+
+    @Test
+    void concurrentRechargesAreAllRecorded() throws Exception {
+        Long userId = 9201L;
+        registerPointUseCase.register(new RegisterPointCommand(userId));
+
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < RECHARGES; i++) {
+            tasks.add(() -> rechargePointUseCase.recharge(new RechargePointCommand(userId, RECHARGE_POINT)));
+        }
+        runConcurrently(tasks);
+
+        assertThat(loadPointQuery.load(userId).point()).isEqualTo(RECHARGES * RECHARGE_POINT);
+    }
+
+    @Test
+    void subscribeRacingRechargesKeepsLedgerAndSubscriptionTogether() throws Exception {
+        Long userId = 9202L;
+        long initialPoint = 100_000L;
+        registerPointUseCase.register(new RegisterPointCommand(userId));
+        rechargePointUseCase.recharge(new RechargePointCommand(userId, initialPoint));
+
+        List<Callable<Object>> tasks = new ArrayList<>();
+        tasks.add(() -> subscribeMemberShipUseCase.subscribe(new SubscribeMemberShipCommand(userId, "PREMIUM", 30L)));
+        for (int i = 0; i < RECHARGES; i++) {
+            tasks.add(() -> rechargePointUseCase.recharge(new RechargePointCommand(userId, RECHARGE_POINT)));
+        }
+        runConcurrently(tasks);
+
+        assertThat(loadSubscriptionQuery.load(userId).userId()).isEqualTo(userId);
+        assertThat(loadPointQuery.load(userId).point())
+                .isEqualTo(initialPoint + RECHARGES * RECHARGE_POINT - Subscription.priceOf(30L, "PREMIUM"));
+    }
+
+    // 모든 작업을 동시에 시작하고, 하나라도 예외로 끝나면 그 예외로 실패한다
+    private void runConcurrently(List<Callable<Object>> tasks) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Object>> futures = new ArrayList<>();
+        for (Callable<Object> task : tasks) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        for (Future<Object> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,109 @@
+package cbnu.subscribe_service.point.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cbnu.subscribe_service.common.exception.PointBelowThresholdException;
+import cbnu.subscribe_service.point.service.web.CompactPointLedgerUseCase;
+import cbnu.subscribe_service.point.service.web.LoadPointQuery;
+import cbnu.subscribe_service.point.service.web.PresentPointCommand;
+import cbnu.subscribe_service.point.service.web.PresentPointUseCase;
+import cbnu.subscribe_service.point.service.web.RechargePointCommand;
+import cbnu.subscribe_service.point.service.web.RechargePointUseCase;
+import cbnu.subscribe_service.point.service.web.RegisterPointCommand;
+import cbnu.subscribe_service.point.service.web.RegisterPointUseCase;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+// 교차 이체를 동시에 대량으로 실행해도 교착 없이 끝나고 포인트 총합이 보존되는지 확인 (원장 압축과 함께)
+// 재시도 한도는 운영 기본값(point.transfer.max-attempts=5)을 그대로 쓴다. 같은 사용자의 기록은 행 락에서 기다리므로 한도를 넘지 않아야 한다
+@SpringBootTest(properties = "point.ledger.compaction.min-tail=20")
+class PointTransferStressTest {
+
+    private static final int THREADS = 32;
+    private static final int TRANSFERS = 4000;
+    private static final long INITIAL_POINT = 10_000L;
+
+    @Autowired
+    private RegisterPointUseCase registerPointUseCase;
+
+    @Autowired
+    private RechargePointUseCase rechargePointUseCase;
+
+    @Autowired
+    private PresentPointUseCase presentPointUseCase;
+
+    @Autowired
+    private LoadPointQuery loadPointQuery;
+
+    @Autowired
+    private CompactPointLedgerUseCase compactPointLedgerUseCase;
+
+    @Test
+    void crossTransfersConservePoints() throws Exception {
+        List<Long> userIds = List.of(9001L, 9002L, 9003L, 9004L);
+        for (Long userId : userIds) {
+            registerPointUseCase.register(new RegisterPointCommand(userId));
+            rechargePointUseCase.recharge(new RechargePointCommand(userId, INITIAL_POINT));
+        }
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger insufficient = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < TRANSFERS; i++) {
+            // 연속된 두 요청은 같은 두 사용자 간의 반대 방향 이체 (A→B, B→A)
+            int pair = i / 2;
+            Long a = userIds.get(pair % userIds.size());
+            Long b = userIds.get((pair + 1) % userIds.size());
+            Long from = i % 2 == 0 ? a : b;
+            Long to = i % 2 == 0 ? b : a;
+            long point = ThreadLocalRandom.current().nextLong(1, 500);
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    presentPointUseCase.present(new PresentPointCommand(from, to, point));
+                    succeeded.incrementAndGet();
+                } catch (PointBelowThresholdException e) {
+                    insufficient.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        // 이체 도중에도 스냅샷을 앞으로 옮긴다
+        for (int i = 0; i < 5; i++) {
+            compactPointLedgerUseCase.compact();
+        }
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        List<Long> balances = balancesOf(userIds);
+        assertThat(balances).allSatisfy(point -> assertThat(point).isNotNegative());
+        assertThat(balances.stream().mapToLong(Long::longValue).sum()).isEqualTo(INITIAL_POINT * userIds.size());
+        assertThat(succeeded.get() + insufficient.get()).isEqualTo(TRANSFERS);
+        assertThat(succeeded.get()).isPositive();
+
+        // 스냅샷으로 압축해도 잔액은 그대로
+        compactPointLedgerUseCase.compact();
+        assertThat(balancesOf(userIds)).isEqualTo(balances);
+    }
+
+    private List<Long> balancesOf(List<Long> userIds) {
+        return userIds.stream()
+                .map(userId -> loadPointQuery.load(userId).point())
+                .toList();
+    }
+}
@@ -0,0 +1,98 @@
+package cbnu.subscribe_service.subscription.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import cbnu.subscribe_service.common.exception.NotFoundDataException;
+import cbnu.subscribe_service.common.exception.PointBelowThresholdException;
+import cbnu.subscribe_service.point.service.web.RechargePointCommand;
+import cbnu.subscribe_service.point.service.web.RechargePointUseCase;
+import cbnu.subscribe_service.point.service.web.RegisterPointCommand;
+import cbnu.subscribe_service.point.service.web.RegisterPointUseCase;
+import cbnu.subscribe_service.subscription.domain.Authorization;
+import cbnu.subscribe_service.subscription.domain.SubscriptionType;
+import cbnu.subscribe_service.subscription.service.persistence.EntitlementCachePort;
+import cbnu.subscribe_service.subscription.service.web.RenewalSubscriptionCommand;
+import cbnu.subscribe_service.subscription.service.web.RenewalSubscriptionUseCase;
+import cbnu.subscribe_service.subscription.service.web.SubscribeMemberShipCommand;
+import cbnu.subscribe_service.subscription.service.web.SubscribeMemberShipUseCase;
+import cbnu.subscribe_service.subscription.service.web.TerminateSubscriptionUseCase;
+import cbnu.subscribe_service.subscription.service.web.VerifyUserAccessRightsCommand;
+import cbnu.subscribe_service.subscription.service.web.VerifyUserAccessRightsUseCase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+// 구독 변경이 커밋되면 권한 캐시가 지워지고, 롤백되면 그대로 남는지 확인 (기본 local 캐시)
+@SpringBootTest
+class EntitlementCacheEvictionTest {
+
+    @Autowired
+    private RegisterPointUseCase registerPointUseCase;
+
+    @Autowired
+    private RechargePointUseCase rechargePointUseCase;
+
+    @Autowired
+    private SubscribeMemberShipUseCase subscribeMemberShipUseCase;
+
+    @Autowired
+    private RenewalSubscriptionUseCase renewalSubscriptionUseCase;
+
+    @Autowired
+    private TerminateSubscriptionUseCase terminateSubscriptionUseCase;
+
+    @Autowired
+    private VerifyUserAccessRightsUseCase verifyUserAccessRightsUseCase;
+
+    @Autowired
+    private EntitlementCachePort entitlementCachePort;
+
+    @Test
+    void renewalAndTerminationEvictCachedEntitlement() {
+        Long userId = 9101L;
+        prepare(userId, 1_000_000L);
+        subscribeMemberShipUseCase.subscribe(new SubscribeMemberShipCommand(userId, "STANDARD", 30L));
+
+        assertThat(verify(userId, "BASIC")).isEqualTo(Authorization.AUTHENTICATED);
+        assertThat(verify(userId, "PREMIUM")).isEqualTo(Authorization.UNAUTHENTICATED);
+        assertThat(entitlementCachePort.find(userId)).hasValueSatisfying(
+                entitlement -> assertThat(entitlement.type()).isEqualTo(SubscriptionType.STANDARD));
+
+        renewalSubscriptionUseCase.renewal(new RenewalSubscriptionCommand(userId, "PREMIUM", 30L));
+
+        assertThat(entitlementCachePort.find(userId)).isEmpty();
+        assertThat(verify(userId, "PREMIUM")).isEqualTo(Authorization.AUTHENTICATED);
+
+        terminateSubscriptionUseCase.terminate(userId);
+
+        assertThat(entitlementCachePort.find(userId)).isEmpty();
+        assertThatThrownBy(() -> verify(userId, "BASIC")).isInstanceOf(NotFoundDataException.class);
+    }
+
+    @Test
+    void failedRenewalKeepsCachedEntitlement() {
+        Long userId = 9102L;
+        Long standardPrice = 30L * SubscriptionType.STANDARD.getPrice();
+        prepare(userId, standardPrice);
+        subscribeMemberShipUseCase.subscribe(new SubscribeMemberShipCommand(userId, "STANDARD", 30L));
+        assertThat(verify(userId, "STANDARD")).isEqualTo(Authorization.AUTHENTICATED);
+
+        // 남은 포인트로는 PREMIUM 연장이 불가능하므로 롤백된다
+        assertThatThrownBy(() -> renewalSubscriptionUseCase.renewal(
+                new RenewalSubscriptionCommand(userId, "PREMIUM", 30L)))
+                .isInstanceOf(PointBelowThresholdException.class);
+
+        assertThat(entitlementCachePort.find(userId)).hasValueSatisfying(
+                entitlement -> assertThat(entitlement.type()).isEqualTo(SubscriptionType.STANDARD));
+    }
+
+    private void prepare(Long userId, Long point) {
+        registerPointUseCase.register(new RegisterPointCommand(userId));
+        rechargePointUseCase.recharge(new RechargePointCommand(userId, point));
+    }
+
+    private Authorization verify(Long userId, String type) {
+        return verifyUserAccessRightsUseCase.verify(new VerifyUserAccessRightsCommand(userId, type)).authorization();
+    }
+}
@@ -0,0 +1,219 @@
+package capstone.cycle.common.security.service;
+
+import capstone.cycle.common.domain.service.RedisBatchOperations;
+import capstone.cycle.common.security.dto.AccessTokenClaims;
+import capstone.cycle.common.security.dto.UserDetailsImpl;
+import capstone.cycle.common.security.filter.JwtAuthorizationFilter;
+import capstone.cycle.user.dto.UserDTO;
+import capstone.cycle.user.entity.User;
+import capstone.cycle.user.repository.UserRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 변경 전(필터와 SecurityService 에서 요청마다 parserBuilder() 로 파서를 새로 만들어 두 번 파싱, 블랙리스트 두 번 확인)과
+// 변경 후(공유 파서로 한 번 파싱하고 토큰 해시로 검증 결과 재사용)를 토큰 검증만, 그리고 인증 필터 전체로 비교
+// 블랙리스트는 로컬 필터에서 걸러지고 principal 은 캐시에 있는 상태 (Redis/DB 왕복 없음)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class AccessTokenVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-at-least-256-bits-long";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private Key secretKey;
+    private JwtUtil jwtUtil;
+    private RedisTokenService redisTokenService;
+    private PrincipalCache principalCache;
+    private JwtAuthorizationFilter filter;
+    private LegacyJwtAuthorizationFilter legacyFilter;
+    private String token;
+
+    // 요청/응답은 스레드마다 따로 둔다
+    @State(Scope.Thread)
+    public static class Exchange {
+
+        private MockHttpServletRequest request;
+        private MockHttpServletResponse response;
+
+        @Setup(Level.Trial)
+        public void setUp(AccessTokenVerificationBenchmark benchmark) {
+            request = new MockHttpServletRequest("GET", "/api/u/v1/posts");
+            request.addHeader("Authorization", "Bearer " + benchmark.token);
+            response = new MockHttpServletResponse();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException, ServletException, IOException {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        jwtUtil = new JwtUtil();
+        set("secretKeyPlain", SECRET);
+        set("accessTokenValidityInMilliseconds", TimeUnit.HOURS.toMillis(1));
+        set("verifiedCacheMaxSize", 10_000);
+        jwtUtil.init();
+        token = jwtUtil.generateAccessToken(UserDTO.builder().userId(1L).role("ROLE_USER").build());
+
+        // Redis 연결 없이 로컬 Bloom 필터에서 블랙리스트가 아님이 결정되도록 준비
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        StringRedisTemplate redisTemplate = new StringRedisTemplate();
+        BlacklistBloomFilter blacklistBloomFilter = new BlacklistBloomFilter(
+                new RedisMessageListenerContainer(), TimeUnit.HOURS.toMillis(1), 100_000, 0.01);
+        blacklistBloomFilter.markReady();
+        redisTokenService = new RedisTokenService(redisTemplate, new RedisBatchOperations(redisTemplate), jwtUtil,
+                blacklistBloomFilter, meterRegistry, new TokenStatistics(redisTemplate, meterRegistry));
+
+        // 두 경로 모두 principal 캐시에 적중하도록 미리 채운다
+        User user = User.createUser("benchmark", "KAKAO", "benchmark@cycle.test", "benchmark", "ROLE_USER",
+                null, "서울특별시", "강남구");
+        principalCache = new PrincipalCache(meterRegistry, 10_000, TimeUnit.HOURS.toSeconds(1));
+        principalCache.get(1L, userId -> UserDetailsImpl.from(user));
+        SecurityServiceImpl securityService = new SecurityServiceImpl(userRepository(user), principalCache);
+        filter = new JwtAuthorizationFilter(jwtUtil, securityService, redisTokenService);
+        legacyFilter = new LegacyJwtAuthorizationFilter();
+
+        // 검증 실패로 일찍 끝나는 경로를 재지 않도록 두 필터 모두 인증까지 마치는지 확인
+        Exchange exchange = new Exchange();
+        exchange.setUp(this);
+        if (runFilter(filter, exchange) == null || runFilter(legacyFilter, exchange) == null) {
+            throw new IllegalStateException("filters did not authenticate the benchmark token");
+        }
+    }
+
+    // 변경 전 토큰 검증: validateAccessToken 과 getUserIdFromToken 이 각각 새 파서로 파싱
+    @Benchmark
+    public Long verifyBefore() {
+        parseWithNewParser(token);
+        return Long.parseLong(parseWithNewParser(token).getSubject());
+    }
+
+    // 변경 후 토큰 검증 (캐시 미스): 공유 파서로 한 번 파싱
+    @Benchmark
+    public AccessTokenClaims verifyAfterUncached() {
+        return jwtUtil.extractClaim(token, AccessTokenClaims::from);
+    }
+
+    // 변경 후 토큰 검증 (캐시 적중): 토큰 SHA-256 으로 조회
+    @Benchmark
+    public AccessTokenClaims verifyAfterCached() {
+        return jwtUtil.verifyAccessToken(token);
+    }
+
+    // 변경 전 인증 필터 전체
+    @Benchmark
+    public Object filterChainBefore(Exchange exchange) throws ServletException, IOException {
+        return runFilter(legacyFilter, exchange);
+    }
+
+    // 변경 후 인증 필터 전체 (JwtAuthorizationFilter + SecurityServiceImpl)
+    @Benchmark
+    public Object filterChainAfter(Exchange exchange) throws ServletException, IOException {
+        return runFilter(filter, exchange);
+    }
+
+    private Object runFilter(OncePerRequestFilter target, Exchange exchange) throws ServletException, IOException {
+        try {
+            target.doFilter(exchange.request, exchange.response, NO_OP_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private io.jsonwebtoken.Claims parseWithNewParser(String accessToken) {
+        return Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build()
+                .parseClaimsJws(accessToken)
+                .getBody();
+    }
+
+    // principal 은 PrincipalCache 에서 나오므로 findById 만 응답하면 된다
+    private static UserRepository userRepository(User user) {
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> Optional.of(user);
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "UserRepository";
+                    default -> null;
+                });
+    }
+
+    private void set(String name, Object value) throws ReflectiveOperationException {
+        Field field = JwtUtil.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(jwtUtil, value);
+    }
+
+    // 변경 전 JwtAuthorizationFilter 와 SecurityServiceImpl.saveUserInSecurityContext(String) 의 요청당 처리
+    private class LegacyJwtAuthorizationFilter extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            String bearerToken = request.getHeader("Authorization");
+            String accessToken = bearerToken != null && bearerToken.startsWith("Bearer ") ? bearerToken.substring(7) : null;
+            if (accessToken != null) {
+                if (redisTokenService.isBlacklisted(accessToken)) {
+                    response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Token is blacklisted");
+                    return;
+                }
+                // jwtUtil.validateAccessToken(accessToken)
+                parseWithNewParser(accessToken);
+                // securityService.saveUserInSecurityContext(accessToken)
+                if (redisTokenService.isBlacklisted(accessToken)) {
+                    throw new IllegalStateException("blacklisted");
+                }
+                Long userId = Long.parseLong(parseWithNewParser(accessToken).getSubject());
+                UserDetailsImpl userDetails = principalCache.get(userId, id -> {
+                    throw new IllegalStateException("principal must be cached");
+                });
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(
+                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+                SecurityContextHolder.setContext(context);
+            }
+            filterChain.doFilter(request, response);
+        }
+    }
+}
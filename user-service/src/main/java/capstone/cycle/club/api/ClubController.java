@@ -229,9 +229,10 @@ public class ClubController {
     @GetMapping("/search")
     public ResponseEntity<Slice<ClubListResponseDTO>> searchClubs(
             @RequestParam String keyword,
-            @RequestParam(required = false) Long lastClubId
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Long lastClubId  // 이전 버전 클라이언트 호환용
     ) {
-        Slice<ClubListResponseDTO> clubs= clubService.searchClubs(keyword, lastClubId, PAGE_SIZE);
+        Slice<ClubListResponseDTO> clubs= clubService.searchClubs(keyword, cursor, lastClubId, PAGE_SIZE);
         return ResponseEntity.ok(clubs);
     }
 }
@@ -1,6 +1,7 @@
 package capstone.cycle.club.dto;
 
 import capstone.cycle.club.entity.Club;
+import capstone.cycle.file.entity.ImageVariant;
 import lombok.*;
 
 
@@ -20,8 +21,13 @@ public class ClubListResponseDTO {
     private int memberCount;
     private String city;  // locality(시) 정보만 표시
     private String clubImageUrl;
+    private String cursor;  // 검색 결과 다음 페이지 요청용
 
     public static ClubListResponseDTO from(Club club) {
+        return from(club, null);
+    }
+
+    public static ClubListResponseDTO from(Club club, String cursor) {
         return ClubListResponseDTO.builder()
                 .id(club.getId())
                 .name(club.getName())
@@ -29,7 +35,8 @@ public class ClubListResponseDTO {
                 .leaderName(club.getLeader().getNickname())
                 .memberCount(club.getMemberCount())
                 .city(club.getActivityArea().getLocality())
-                .clubImageUrl(club.getClubImage() != null ? club.getClubImage().getPath() : null)
+                .clubImageUrl(club.getClubImage() != null ? club.getClubImage().getPath(ImageVariant.THUMB) : null)
+                .cursor(cursor)
                 .build();
     }
 
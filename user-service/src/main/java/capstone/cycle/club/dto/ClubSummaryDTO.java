@@ -1,6 +1,7 @@
 package capstone.cycle.club.dto;
 
 import capstone.cycle.club.entity.Club;
+import capstone.cycle.file.entity.ImageVariant;
 import lombok.*;
 
 @Getter
@@ -19,7 +20,7 @@ public class ClubSummaryDTO {
         return ClubSummaryDTO.builder()
                 .clubId(club.getId())
                 .clubName(club.getName())
-                .clubImageUrl(club.getClubImage() != null ? club.getClubImage().getPath() : null)
+                .clubImageUrl(club.getClubImage() != null ? club.getClubImage().getPath(ImageVariant.THUMB) : null)
                 .build();
     }
 }
@@ -1,6 +1,7 @@
 package capstone.cycle.club.dto.request;
 
 import capstone.cycle.club.entity.Club;
+import capstone.cycle.file.entity.ImageVariant;
 import capstone.cycle.club.entity.request.ClubJoinRequest;
 import capstone.cycle.club.entity.request.JoinRequestStatus;
 import com.fasterxml.jackson.annotation.JsonFormat;
@@ -27,7 +28,7 @@ public class MyClubRequestDTO {
         return MyClubRequestDTO.builder()
                 .clubId(club.getId())
                 .clubName(club.getName())
-                .clubImageUrl(club.getClubImage() != null ? club.getClubImage().getPath() : null)
+                .clubImageUrl(club.getClubImage() != null ? club.getClubImage().getPath(ImageVariant.THUMB) : null)
                 .status(request.getStatus())
                 .message(request.getMessage())
                 .requestedAt(request.getCreatedAt())
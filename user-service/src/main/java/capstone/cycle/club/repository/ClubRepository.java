@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -59,18 +60,12 @@ public interface ClubRepository extends JpaRepository<Club, Long> {
             "WHERE cm.user.id = :userId")
     List<Club> findMyClubs(@Param("userId") Long userId);
 
+    // 검색 결과 id 목록의 동호회 (순서는 호출 측에서 맞춘다)
     @Query("SELECT c FROM Club c " +
             "LEFT JOIN FETCH c.leader " +
             "LEFT JOIN FETCH c.clubImage " +
-            "WHERE LOWER(c.name) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "OR LOWER(c.description) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "AND (:lastClubId IS NULL OR c.id < :lastClubId) " +
-            "ORDER BY c.id DESC ")
-    Slice<Club> searchClubs(
-            @Param("keyword") String keyword,
-            @Param("lastClubId") Long lastClubId,
-            Pageable pageable
-    );
+            "WHERE c.id IN :ids")
+    List<Club> findAllWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
 
     @Query("SELECT c FROM Club c " +
             "LEFT JOIN FETCH c.leader " +
@@ -16,7 +16,12 @@ import capstone.cycle.club.repository.ClubMemberRepository;
 import capstone.cycle.club.repository.ClubRepository;
 import capstone.cycle.file.entity.File;
 import capstone.cycle.file.service.FileService;
+import capstone.cycle.post.entity.PostCategory;
 import capstone.cycle.post.repository.PostRepository;
+import capstone.cycle.post.service.PostFeedCache;
+import capstone.cycle.search.dto.SearchCursor;
+import capstone.cycle.search.dto.SearchHit;
+import capstone.cycle.search.service.SearchService;
 import capstone.cycle.user.entity.Location;
 import capstone.cycle.user.entity.User;
 import capstone.cycle.user.error.UserErrorResult;
@@ -26,11 +31,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -44,6 +53,8 @@ public class ClubService {
     private final UserRepository userRepository;
     private final FileService fileService;
     private final PostRepository postRepository;
+    private final PostFeedCache postFeedCache;
+    private final SearchService searchService;
     private static final int MAX_CLUB_MEMBERSHIP = 3;
     private static final long POPULAR_POST_LIKE_THRESHOLD = 10;
 
@@ -122,6 +133,7 @@ public class ClubService {
 
         // 클럽 내 게시글과 관련된 데이터 삭제
         postRepository.deleteAllByClubId(clubId);  // 게시글과 연관된 댓글, 좋아요도 CASCADE로 삭제
+        postFeedCache.evict(PostCategory.ALL, PostCategory.POPULAR);
 
         // 클럽 멤버십 관련 데이터 삭제
         clubMemberRepository.deleteAllByClubId(clubId);
@@ -336,14 +348,36 @@ public class ClubService {
                 .collect(Collectors.toList());
     }
 
-    public Slice<ClubListResponseDTO> searchClubs(String keyword, Long lastClubId, int size) {
+    public Slice<ClubListResponseDTO> searchClubs(String keyword, String cursor, Long lastClubId, int size) {
         if (keyword == null || keyword.trim().isEmpty()) {
             throw new ClubException(ClubErrorResult.INVALID_SEARCH_KEYWORD);
         }
 
         Pageable pageable = PageRequest.of(0, size);
-        return clubRepository.searchClubs(keyword.trim(), lastClubId, pageable)
-                .map(ClubListResponseDTO::from);
+        SearchCursor searchCursor = null;
+        if (cursor != null && !cursor.isBlank()) {
+            searchCursor = SearchCursor.decode(cursor);
+        } else if (lastClubId != null) {
+            // 이전 버전 클라이언트는 마지막 동호회 id 를 보내므로 그 동호회의 (점수, id) 위치에서 이어서 조회
+            // 그 사이 동호회가 삭제되었거나 더 이상 검색어와 맞지 않으면 이어갈 위치를 알 수 없으므로 빈 페이지
+            Optional<SearchCursor> anchor = searchService.clubCursorOf(keyword.trim(), lastClubId);
+            if (anchor.isEmpty()) {
+                return new SliceImpl<>(List.of(), pageable, false);
+            }
+            searchCursor = anchor.get();
+        }
+        Slice<SearchHit> hits = searchService.searchClubs(keyword.trim(), searchCursor, pageable);
+
+        Map<Long, Club> clubsById = clubRepository.findAllWithDetailsByIdIn(hits.map(SearchHit::id).getContent())
+                .stream()
+                .collect(Collectors.toMap(Club::getId, Function.identity()));
+
+        // 관련도 순서를 유지
+        List<ClubListResponseDTO> clubs = hits.getContent().stream()
+                .filter(hit -> clubsById.containsKey(hit.id()))
+                .map(hit -> ClubListResponseDTO.from(clubsById.get(hit.id()), hit.toCursor().encode()))
+                .toList();
+        return new SliceImpl<>(clubs, pageable, hits.hasNext());
     }
 
     // =========== 공통 조회 메서드 ===========
@@ -27,13 +27,12 @@ public class CommentResponseDTO {
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy.MM.dd HH:mm:ss")
     private LocalDateTime updatedAt;
 
-    public CommentResponseDTO(Comment comment, Long currentUserId) {
+    public CommentResponseDTO(Comment comment, boolean likedByCurrentUser) {
         this.id = comment.getId();
         this.content = comment.getContent();
         this.author = SimpleUserInfoDTO.from(comment.getAuthor());
         this.likeCount = comment.getLikeCount();
-        this.likedByCurrentUser = comment.getLikes().stream()
-                .anyMatch(like -> like.getUser().getId().equals(currentUserId));
+        this.likedByCurrentUser = likedByCurrentUser;
         this.createdAt = comment.getCreatedAt();
         this.updatedAt = comment.getUpdatedAt();
 
@@ -49,7 +48,26 @@ public class CommentResponseDTO {
     }
 
     // 정적 팩토리 메서드
-    public static CommentResponseDTO from(Comment comment, Long currentUserId) {
-        return new CommentResponseDTO(comment, currentUserId);
+    public static CommentResponseDTO from(Comment comment, boolean likedByCurrentUser) {
+        return new CommentResponseDTO(comment, likedByCurrentUser);
+    }
+
+    // 댓글 트리 조회용 (대댓글이면 replies 는 null)
+    public static CommentResponseDTO of(CommentRow row, boolean likedByCurrentUser, List<CommentResponseDTO> replies) {
+        return CommentResponseDTO.builder()
+                .id(row.id())
+                .content(row.content())
+                .author(SimpleUserInfoDTO.builder()
+                        .id(row.authorId())
+                        .nickname(row.authorNickname())
+                        .profileImageUrl(row.authorProfileImageUrl())
+                        .build())
+                .parentId(row.parentId())
+                .replies(replies)
+                .likeCount(row.likeCount())
+                .likedByCurrentUser(likedByCurrentUser)
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .build();
     }
 }
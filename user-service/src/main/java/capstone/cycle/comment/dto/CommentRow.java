@@ -0,0 +1,17 @@
+package capstone.cycle.comment.dto;
+
+import java.time.LocalDateTime;
+
+// 댓글 트리 조회용 프로젝션 (엔티티/연관관계 로딩 없이 필요한 컬럼만 조회)
+public record CommentRow(
+        Long id,
+        Long parentId,
+        String content,
+        Long authorId,
+        String authorNickname,
+        String authorProfileImageUrl,
+        int likeCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
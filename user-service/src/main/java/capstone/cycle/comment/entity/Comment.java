@@ -4,6 +4,7 @@ import capstone.cycle.post.entity.Post;
 import capstone.cycle.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -13,6 +14,9 @@ import java.util.Collections;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_comment_post_created", columnList = "post_id,created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -44,6 +48,12 @@ public class Comment {
     @OneToMany(mappedBy = "comment", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<CommentLike> likes = new ArrayList<>();
 
+    // 좋아요 수 (comment_likes 집계 대신 원자적 증감으로 유지)
+    // 엔티티 저장 시 덮어쓰지 않도록 UPDATE 대상에서 제외하고, CommentRepository 의 증감 쿼리로만 변경한다
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int likeCount;
+
     @CreationTimestamp
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -58,6 +68,7 @@ public class Comment {
                 .post(post)
                 .author(author)
                 .likes(new ArrayList<>())  // likes 리스트 초기화 추가
+                .likeCount(0)
                 .replies(new ArrayList<>()) // replies 리스트 초기화 추가
                 .build();
     }
@@ -70,6 +81,7 @@ public class Comment {
                 .author(author)
                 .parent(parent)
                 .likes(new ArrayList<>())
+                .likeCount(0)
                 .replies(new ArrayList<>())
                 .build();
     }
@@ -84,6 +96,7 @@ public class Comment {
                 .parent(this.parent)
                 .replies(this.replies)
                 .likes(this.likes)
+                .likeCount(this.likeCount)
                 .createdAt(this.createdAt)
                 .build();
     }
@@ -113,51 +126,12 @@ public class Comment {
                 .parent(this.parent)
                 .replies(newReplies)
                 .likes(this.likes)
+                .likeCount(this.likeCount)
                 .createdAt(this.createdAt)
                 .updatedAt(this.updatedAt)
                 .build();
     }
 
-    // 좋아요 추가
-    public Comment addLike(CommentLike like) {
-        List<CommentLike> newLikes = new ArrayList<>(this.likes);
-        newLikes.add(like);
-
-        return Comment.builder()
-                .id(this.id)
-                .content(this.content)
-                .post(this.post)
-                .author(this.author)
-                .parent(this.parent)
-                .replies(this.replies)
-                .likes(newLikes)
-                .createdAt(this.createdAt)
-                .updatedAt(this.updatedAt)
-                .build();
-    }
-
-    // 좋아요 제거
-    public Comment removeLike(CommentLike like) {
-        List<CommentLike> newLikes = new ArrayList<>(this.likes);
-        newLikes.remove(like);
-
-        return Comment.builder()
-                .id(this.id)
-                .content(this.content)
-                .post(this.post)
-                .author(this.author)
-                .parent(this.parent)
-                .replies(this.replies)
-                .likes(newLikes)
-                .createdAt(this.createdAt)
-                .updatedAt(this.updatedAt)
-                .build();
-    }
-
-    public int getLikeCount() {
-        return this.likes.size();
-    }
-
     public boolean isReply() {
         return this.parent != null;
     }
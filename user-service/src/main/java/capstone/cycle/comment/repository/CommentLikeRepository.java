@@ -7,10 +7,10 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-//사용 X
 @Repository
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
 
@@ -29,9 +29,29 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
             @Param("userId") Long userId
     );
 
-    // 특정 댓글의 좋아요 수 조회
-    @Query("SELECT COUNT(cl) FROM CommentLike cl WHERE cl.comment.id = :commentId")
-    int countByCommentId(@Param("commentId") Long commentId);
+    // 여러 댓글 중 사용자가 좋아요한 댓글 id
+    @Query("SELECT cl.comment.id FROM CommentLike cl " +
+            "WHERE cl.user.id = :userId AND cl.comment.id IN :commentIds")
+    List<Long> findLikedCommentIdsIn(
+            @Param("userId") Long userId,
+            @Param("commentIds") Collection<Long> commentIds
+    );
+
+    // (comment_id, user_id) 유니크 인덱스로 중복 좋아요는 무시, 실제 삽입된 행 수 반환
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO comment_likes (comment_id, user_id) VALUES (:commentId, :userId)", nativeQuery = true)
+    int insertIgnore(
+            @Param("commentId") Long commentId,
+            @Param("userId") Long userId
+    );
+
+    // 게시글 댓글 중 사용자가 좋아요한 댓글 id
+    @Query("SELECT cl.comment.id FROM CommentLike cl " +
+            "WHERE cl.comment.post.id = :postId AND cl.user.id = :userId")
+    List<Long> findLikedCommentIds(
+            @Param("postId") Long postId,
+            @Param("userId") Long userId
+    );
 
     // 특정 댓글의 모든 좋아요 조회
     @Query("SELECT cl FROM CommentLike cl " +
@@ -39,11 +59,11 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
             "WHERE cl.comment.id = :commentId")
     List<CommentLike> findAllByCommentIdWithUser(@Param("commentId") Long commentId);
 
-    // 좋아요 삭제 (벌크 연산)
+    // 좋아요 삭제 (벌크 연산), 삭제된 행 수 반환
     @Modifying
     @Query("DELETE FROM CommentLike cl " +
             "WHERE cl.comment.id = :commentId AND cl.user.id = :userId")
-    void deleteByCommentIdAndUserId(
+    int deleteByCommentIdAndUserId(
             @Param("commentId") Long commentId,
             @Param("userId") Long userId
     );
@@ -1,8 +1,10 @@
 package capstone.cycle.comment.repository;
 
+import capstone.cycle.comment.dto.CommentRow;
 import capstone.cycle.comment.entity.Comment;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -23,26 +25,17 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             "ORDER BY c.createdAt DESC")
     List<Comment> findByPostIdWithDetailsAndReplies(@Param("postId") Long postId);*/
 
-    // 루트 댓글만 조회
-    @Query("SELECT DISTINCT c FROM Comment c " +
-            "LEFT JOIN FETCH c.author a " +
-            "LEFT JOIN FETCH c.likes " +
-            "WHERE c.post.id = :postId AND c.parent IS NULL " +
-            "ORDER BY c.createdAt ASC")
-    List<Comment> findParentCommentsByPostId(@Param("postId") Long postId);
-
-    // 대댓글 조회
-    @Query("SELECT DISTINCT c FROM Comment c " +
-            "LEFT JOIN FETCH c.author a " +
-            "LEFT JOIN FETCH c.likes " +
-            "WHERE c.parent.id IN :parentIds " +
-            "ORDER BY c.createdAt ASC")
-    List<Comment> findRepliesByParentIds(@Param("parentIds") List<Long> parentIds);
+    // 게시글의 댓글/대댓글 전체 (트리 조립용 프로젝션)
+    @Query("SELECT new capstone.cycle.comment.dto.CommentRow(" +
+            "c.id, c.parent.id, c.content, a.id, a.nickname, a.snsProfileImageUrl, c.likeCount, c.createdAt, c.updatedAt) " +
+            "FROM Comment c " +
+            "JOIN c.author a " +
+            "WHERE c.post.id = :postId " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentRow> findCommentRowsByPostId(@Param("postId") Long postId);
 
     @Query("SELECT c FROM Comment c " +
             "LEFT JOIN FETCH c.author a " +
-            "LEFT JOIN FETCH c.likes cl " +
-            "LEFT JOIN FETCH cl.user " +
             "WHERE c.id = :commentId AND c.post.id = :postId")
     Optional<Comment> findByIdAndPostIdWithDetails(
             @Param("commentId") Long commentId,
@@ -59,6 +52,21 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             @Param("authorId") Long authorId
     );
 
+    // 좋아요 토글 전 댓글 행 잠금: 삭제와 경합하지 않게 하고 같은 댓글의 토글을 직렬화 (없으면 빈 값)
+    @Query(value = "SELECT id FROM comment WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "UPDATE comment SET like_count = like_count + 1 WHERE id = :id", nativeQuery = true)
+    int incrementLikeCount(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "UPDATE comment SET like_count = like_count - 1 WHERE id = :id AND like_count > 0", nativeQuery = true)
+    int decrementLikeCount(@Param("id") Long id);
+
+    @Query("SELECT c.likeCount FROM Comment c WHERE c.id = :id")
+    Optional<Integer> findLikeCountById(@Param("id") Long id);
+
     @Query("SELECT c FROM Comment c " +
             "LEFT JOIN FETCH c.parent " +
             "WHERE c.id = :commentId")
@@ -78,7 +86,6 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     // 게시글 최신 댓글 1개(대댓글 X)
     @Query("SELECT c FROM Comment c " +
             "LEFT JOIN FETCH c.author " +
-            "LEFT JOIN FETCH c.likes " +
             "WHERE  c.post.id = :postId " +
             "AND c.parent IS NULL " +
             "ORDER BY c.createdAt DESC")
@@ -0,0 +1,27 @@
+package capstone.cycle.comment.scheduler;
+
+import capstone.cycle.comment.service.CommentLikeCountReconciler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentLikeCountReconcileScheduler {
+
+    private final CommentLikeCountReconciler commentLikeCountReconciler;
+
+    @Scheduled(cron = "0 30 4 * * *") // 매일 새벽 4시 30분에 실행
+    public void reconcileLikeCounts() {
+        try {
+            long repaired = commentLikeCountReconciler.reconcile();
+            if (repaired > 0) {
+                log.warn("Repaired like count drift on {} comments", repaired);
+            }
+        } catch (Exception e) {
+            log.error("Error during comment like count reconciliation", e);
+        }
+    }
+}
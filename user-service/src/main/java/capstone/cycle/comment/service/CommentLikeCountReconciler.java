@@ -0,0 +1,135 @@
+package capstone.cycle.comment.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * comment.like_count 를 comment_likes 실제 행 수와 맞춘다.
+ * 컬럼 추가 직후 한 번 전체를 채우는 backfill 과, 주기적으로 어긋난 값만 고치는 reconcile 에서 함께 사용한다.
+ * id 구간마다 트랜잭션 하나로 댓글 행을 FOR UPDATE 로 잠근 뒤 좋아요 행을 세고,
+ * 읽어 둔 like_count 가 그대로일 때만 고친다 (토글도 댓글 행을 먼저 잠그므로 그 사이 카운트가 바뀌지 않는다).
+ */
+@Slf4j
+@Component
+public class CommentLikeCountReconciler {
+
+    private static final String BACKFILL_MARKER_KEY = "MIGRATION:COMMENT_LIKE_COUNT_BACKFILL";
+    private static final String BACKFILL_LOCK_KEY = BACKFILL_MARKER_KEY + ":LOCK";
+    private static final Duration BACKFILL_LOCK_TTL = Duration.ofHours(1);
+
+    private static final String LOCK_CHUNK_SQL =
+            "SELECT id, like_count FROM comment WHERE id BETWEEN ? AND ? FOR UPDATE";
+    private static final String COUNT_CHUNK_SQL =
+            "SELECT comment_id, COUNT(*) AS cnt FROM comment_likes " +
+            "WHERE comment_id BETWEEN ? AND ? GROUP BY comment_id";
+    // 읽어 둔 값과 같을 때만 교체
+    private static final String REPAIR_SQL =
+            "UPDATE comment SET like_count = ? WHERE id = ? AND like_count = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public CommentLikeCountReconciler(
+            JdbcTemplate jdbcTemplate,
+            RedisTemplate<String, String> redisTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${comment.like-count.reconcile-chunk-size:1000}") int chunkSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    // 최초 기동 시 한 번만 실행. 모든 구간이 성공한 뒤에만 완료 마커를 남긴다
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnce() {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(BACKFILL_MARKER_KEY))) {
+                return;
+            }
+            // 여러 인스턴스가 동시에 돌지 않도록 실행 중 표시 (실패하거나 죽으면 TTL 후 다시 시도 가능)
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(BACKFILL_LOCK_KEY, "1", BACKFILL_LOCK_TTL);
+            if (!Boolean.TRUE.equals(acquired)) {
+                return;
+            }
+            try {
+                log.info("Backfilling comment like counts");
+                long repaired = reconcile();
+                redisTemplate.opsForValue().set(BACKFILL_MARKER_KEY, "1");
+                log.info("Backfilled like counts for {} comments", repaired);
+            } finally {
+                redisTemplate.delete(BACKFILL_LOCK_KEY);
+            }
+        } catch (Exception e) {
+            log.error("Failed to backfill comment like counts", e);
+        }
+    }
+
+    // 어긋난 댓글 수 반환. 한 구간이라도 실패하면 예외를 그대로 던진다 (이미 커밋된 구간은 유지)
+    public long reconcile() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM comment", Long.class);
+        if (maxId == null || maxId == 0) {
+            return 0;
+        }
+
+        long repaired = 0;
+        for (long from = 1; from <= maxId; from += chunkSize) {
+            long chunkStart = from;
+            long chunkEnd = Math.min(from + chunkSize - 1, maxId);
+            Integer chunkRepaired = transactionTemplate.execute(status -> reconcileChunk(chunkStart, chunkEnd));
+            repaired += chunkRepaired != null ? chunkRepaired : 0;
+        }
+        return repaired;
+    }
+
+    private int reconcileChunk(long from, long to) {
+        Map<Long, Long> storedCounts = new HashMap<>();
+        jdbcTemplate.query(LOCK_CHUNK_SQL,
+                rs -> {
+                    storedCounts.put(rs.getLong("id"), rs.getLong("like_count"));
+                },
+                from, to);
+        if (storedCounts.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> actualCounts = new HashMap<>();
+        jdbcTemplate.query(COUNT_CHUNK_SQL,
+                rs -> {
+                    actualCounts.put(rs.getLong("comment_id"), rs.getLong("cnt"));
+                },
+                from, to);
+
+        List<Object[]> repairs = new ArrayList<>();
+        storedCounts.forEach((commentId, stored) -> {
+            long actual = actualCounts.getOrDefault(commentId, 0L);
+            if (actual != stored) {
+                repairs.add(new Object[]{actual, commentId, stored});
+            }
+        });
+        if (repairs.isEmpty()) {
+            return 0;
+        }
+
+        int repaired = 0;
+        for (int updated : jdbcTemplate.batchUpdate(REPAIR_SQL, repairs)) {
+            repaired += Math.max(updated, 0);
+        }
+        return repaired;
+    }
+}
@@ -3,21 +3,17 @@ package capstone.cycle.comment.service;
 import capstone.cycle.club.repository.ClubMemberRepository;
 import capstone.cycle.comment.dto.CommentResponseDTO;
 import capstone.cycle.comment.entity.Comment;
-import capstone.cycle.comment.entity.CommentLike;
 import capstone.cycle.comment.error.CommentErrorResult;
 import capstone.cycle.comment.error.CommentException;
 import capstone.cycle.comment.repository.CommentLikeRepository;
 import capstone.cycle.comment.repository.CommentRepository;
 import capstone.cycle.user.dto.SimpleUserInfoDTO;
-import capstone.cycle.user.entity.User;
-import capstone.cycle.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.stream.Collectors;
+import java.util.List;
 
-//사용X
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -25,7 +21,6 @@ public class CommentLikeService {
 
     private final CommentLikeRepository commentLikeRepository;
     private final CommentRepository commentRepository;
-    private final UserRepository userRepository;
     private final ClubMemberRepository clubMemberRepository;
 
 
@@ -39,35 +34,34 @@ public class CommentLikeService {
             validateClubMemberForLike(comment.getPost().getClub().getId(), userId);
         }
 
-        boolean hasLiked = commentLikeRepository.existsByCommentIdAndUserId(commentId, userId);
-        boolean newLikeStatus;
+        // 댓글 행을 먼저 잠가 삭제된 댓글에 대한 FK 위반이 INSERT IGNORE 에 묻히지 않게 한다
+        commentRepository.lockById(commentId)
+                .orElseThrow(() -> new CommentException(CommentErrorResult.COMMENT_NOT_FOUND));
 
-        if (hasLiked) {
-            // 좋아요 삭제
-            commentLikeRepository.deleteByCommentIdAndUserId(commentId, userId);
-            newLikeStatus = false;  // 좋아요가 삭제된 상태
+        // 삭제가 되면 좋아요 취소, 삭제할 행이 없으면 INSERT IGNORE 로 추가 (동시 요청에도 행은 하나만 남는다)
+        boolean likedByCurrentUser;
+        if (commentLikeRepository.deleteByCommentIdAndUserId(commentId, userId) > 0) {
+            commentRepository.decrementLikeCount(commentId);
+            likedByCurrentUser = false;
         } else {
-            // 좋아요 추가
-            User user = userRepository.getReferenceById(userId);
-            CommentLike newLike = CommentLike.createCommentLike(comment, user);
-            commentLikeRepository.save(newLike);
-            newLikeStatus = true;  // 좋아요가 추가된 상태
+            if (commentLikeRepository.insertIgnore(commentId, userId) > 0) {
+                commentRepository.incrementLikeCount(commentId);
+            }
+            likedByCurrentUser = true;
         }
 
-        // 현재 좋아요 수 조회
-        int currentLikeCount = commentLikeRepository.countByCommentId(commentId);
+        int likeCount = commentRepository.findLikeCountById(commentId)
+                .orElseThrow(() -> new CommentException(CommentErrorResult.COMMENT_NOT_FOUND));
 
-        // 상태가 변경된 후의 댓글 정보로 DTO 생성
+        // 대댓글 목록은 댓글 목록 조회 API 에서 내려주므로 토글 응답에는 포함하지 않는다
         return CommentResponseDTO.builder()
                 .id(comment.getId())
                 .content(comment.getContent())
                 .author(SimpleUserInfoDTO.from(comment.getAuthor()))
                 .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
-                .replies(comment.getReplies().stream()
-                        .map(reply -> CommentResponseDTO.from(reply, userId))
-                        .collect(Collectors.toList()))
-                .likeCount(currentLikeCount)  // 실제 DB의 현재 좋아요 수
-                .likedByCurrentUser(newLikeStatus)  // 방금 변경된 좋아요 상태
+                .replies(comment.getParent() != null ? null : List.of())
+                .likeCount(likeCount)
+                .likedByCurrentUser(likedByCurrentUser)
                 .createdAt(comment.getCreatedAt())
                 .updatedAt(comment.getUpdatedAt())
                 .build();
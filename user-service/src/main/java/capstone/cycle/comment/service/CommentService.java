@@ -5,13 +5,14 @@ import capstone.cycle.comment.dto.CommentCreateDTO;
 import capstone.cycle.comment.dto.CommentResponseDTO;
 import capstone.cycle.comment.dto.CommentUpdateDTO;
 import capstone.cycle.comment.entity.Comment;
-import capstone.cycle.comment.entity.CommentLike;
 import capstone.cycle.comment.error.CommentErrorResult;
 import capstone.cycle.comment.error.CommentException;
+import capstone.cycle.comment.repository.CommentLikeRepository;
 import capstone.cycle.comment.repository.CommentRepository;
 import capstone.cycle.common.security.role.UserRole;
 import capstone.cycle.post.entity.Post;
 import capstone.cycle.post.repository.PostRepository;
+import capstone.cycle.post.service.PopularPostRanking;
 import capstone.cycle.user.entity.User;
 import capstone.cycle.user.error.UserErrorResult;
 import capstone.cycle.user.error.UserException;
@@ -21,17 +22,18 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
     private final CommentRepository commentRepository;
+    private final CommentLikeRepository commentLikeRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final ClubMemberRepository clubMemberRepository;
+    private final PopularPostRanking popularPostRanking;
+    private final CommentTreeLoader commentTreeLoader;
 
     @Transactional
     public CommentResponseDTO createComment(Long postId, Long userId, CommentCreateDTO commentCreateDTO) {
@@ -70,11 +72,11 @@ public class CommentService {
         }
 
         // 댓글 수 증가
-        Post updatedPost = post.incrementCommentCount();
-        postRepository.save(updatedPost);
+        postRepository.incrementCommentCount(postId);
+        popularPostRanking.onComment(postId, 1);
 
         Comment savedComment = commentRepository.save(comment);
-        return CommentResponseDTO.from(savedComment, userId);
+        return CommentResponseDTO.from(savedComment, false);
     }
 
     @Transactional(readOnly = true)
@@ -83,43 +85,7 @@ public class CommentService {
             throw new CommentException(CommentErrorResult.POST_NOT_FOUND);
         }
 
-        // 1. 루트 댓글만 조회
-        List<Comment> parentComments = commentRepository.findParentCommentsByPostId(postId);
-
-        // 2. 대댓글 조회
-        final Map<Long, List<CommentResponseDTO>> replyDTOMap;
-        if (!parentComments.isEmpty()) {
-            List<Long> parentIds = parentComments.stream()
-                    .map(Comment::getId)
-                    .collect(Collectors.toList());
-
-            List<Comment> replies = commentRepository.findRepliesByParentIds(parentIds);
-
-            // 대댓글들을 DTO로 변환하여 맵에 저장
-            replyDTOMap = Map.copyOf(replies.stream()
-                    .map(reply -> CommentResponseDTO.from(reply, currentUserId))
-                    .collect(Collectors.groupingBy(CommentResponseDTO::getParentId)));
-        } else {
-            replyDTOMap = Map.of();
-        }
-
-        // 3. 부모 댓글 DTO 생성할 때 해당하는 대댓글 목록 포함
-        return parentComments.stream()
-                .map(parent -> {
-                    CommentResponseDTO dto = CommentResponseDTO.from(parent, currentUserId);
-                    return CommentResponseDTO.builder()
-                            .id(dto.getId())
-                            .content(dto.getContent())
-                            .author(dto.getAuthor())
-                            .parentId(null)  // 부모 댓글이므로 null
-                            .replies(replyDTOMap.getOrDefault(parent.getId(), List.of()))
-                            .likeCount(dto.getLikeCount())
-                            .likedByCurrentUser(dto.isLikedByCurrentUser())
-                            .createdAt(dto.getCreatedAt())
-                            .updatedAt(dto.getUpdatedAt())
-                            .build();
-                })
-                .collect(Collectors.toList());
+        return commentTreeLoader.load(postId, currentUserId);
     }
 
     @Transactional
@@ -138,7 +104,7 @@ public class CommentService {
 
         Comment updatedComment = comment.updateContent(commentUpdateDTO.getContent());
         Comment savedComment = commentRepository.save(updatedComment);
-        return CommentResponseDTO.from(savedComment, userId);
+        return CommentResponseDTO.from(savedComment, commentLikeRepository.existsByCommentIdAndUserId(commentId, userId));
     }
 
     @Transactional
@@ -158,30 +124,6 @@ public class CommentService {
         deleteCommentAndUpdateCount(comment);
     }
 
-    @Transactional
-    public CommentResponseDTO toggleLike(Long postId, Long commentId, Long userId) {
-        Comment comment = findCommentWithValidation(postId, commentId);
-        User user = userRepository.getReferenceById(userId);
-
-        boolean hasLiked = comment.getLikes().stream()
-                .anyMatch(like -> like.getUser().getId().equals(userId));
-
-        Comment updatedComment;
-        if (hasLiked) {
-            CommentLike existingLike = comment.getLikes().stream()
-                    .filter(like -> like.getUser().getId().equals(userId))
-                    .findFirst()
-                    .orElseThrow(() -> new CommentException(CommentErrorResult.COMMENT_NOT_FOUND));
-            updatedComment = comment.removeLike(existingLike);
-        } else {
-            CommentLike newLike = CommentLike.createCommentLike(comment, user);
-            updatedComment = comment.addLike(newLike);
-        }
-
-        Comment savedComment = commentRepository.save(updatedComment);
-        return CommentResponseDTO.from(savedComment, userId);
-    }
-
     private Comment findCommentWithValidation(Long postId, Long commentId) {
         return commentRepository.findByIdAndPostIdWithDetails(commentId, postId)
                 .orElseThrow(() -> new CommentException(CommentErrorResult.COMMENT_NOT_FOUND));
@@ -202,10 +144,10 @@ public class CommentService {
 
     // 댓글 삭제 및 게시글 댓글 수 갱신을 위한 메서드
     private void deleteCommentAndUpdateCount(Comment comment) {
-        Post post = comment.getPost();
-        Post updatedPost = post.decrementCommentCount();
-        postRepository.save(updatedPost);
+        Long postId = comment.getPost().getId();
+        postRepository.decrementCommentCount(postId);
         commentRepository.delete(comment);
+        popularPostRanking.onComment(postId, -1);
     }
 
     // 클럽 회원 권한 체크
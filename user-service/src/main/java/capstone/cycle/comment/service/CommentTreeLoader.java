@@ -0,0 +1,60 @@
+package capstone.cycle.comment.service;
+
+import capstone.cycle.comment.dto.CommentResponseDTO;
+import capstone.cycle.comment.dto.CommentRow;
+import capstone.cycle.comment.repository.CommentLikeRepository;
+import capstone.cycle.comment.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시글 댓글 트리 조회.
+ * 댓글/대댓글 프로젝션(좋아요 수 컬럼 포함)과 현재 사용자가 좋아요한 댓글 id 를 각각 한 번씩 조회한 뒤
+ * 한 번의 순회로 트리를 만든다. 좋아요 행이나 사용자 엔티티는 로딩하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentTreeLoader {
+
+    private final CommentRepository commentRepository;
+    private final CommentLikeRepository commentLikeRepository;
+
+    public List<CommentResponseDTO> load(Long postId, Long currentUserId) {
+        List<CommentRow> rows = commentRepository.findCommentRowsByPostId(postId);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> likedCommentIds = currentUserId == null
+                ? Set.of()
+                : new HashSet<>(commentLikeRepository.findLikedCommentIds(postId, currentUserId));
+
+        // 부모 id -> 대댓글 목록. 부모 DTO 는 이 리스트를 그대로 참조하므로 조회 순서와 무관하게 채워진다
+        Map<Long, List<CommentResponseDTO>> repliesByParentId = new HashMap<>(capacityFor(rows.size()));
+        List<CommentResponseDTO> roots = new ArrayList<>();
+
+        for (CommentRow row : rows) {
+            boolean liked = likedCommentIds.contains(row.id());
+
+            if (row.parentId() == null) {
+                List<CommentResponseDTO> replies = repliesByParentId.computeIfAbsent(row.id(), id -> new ArrayList<>());
+                roots.add(CommentResponseDTO.of(row, liked, replies));
+            } else {
+                repliesByParentId.computeIfAbsent(row.parentId(), id -> new ArrayList<>())
+                        .add(CommentResponseDTO.of(row, liked, null));
+            }
+        }
+        return roots;
+    }
+
+    private static int capacityFor(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+}
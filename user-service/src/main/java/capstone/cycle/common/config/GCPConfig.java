@@ -3,6 +3,7 @@ package capstone.cycle.common.config;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
@@ -11,7 +12,9 @@ import java.io.IOException;
 
 @Configuration
 public class GCPConfig {
+    // file.storage.type=local 이면 GCS 대신 LocalBlobStorage 를 사용하므로 생성하지 않는다
     @Bean
+    @ConditionalOnProperty(name = "file.storage.type", havingValue = "gcs", matchIfMissing = true)
     public Storage gcpStorage() {
         try {
             ClassPathResource resource = new ClassPathResource("inductive-way-434109-d7-e165d734ee87.json");
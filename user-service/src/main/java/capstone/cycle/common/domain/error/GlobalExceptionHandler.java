@@ -10,6 +10,8 @@ import capstone.cycle.like.error.LikeErrorResult;
 import capstone.cycle.like.error.LikeException;
 import capstone.cycle.post.error.PostErrorResult;
 import capstone.cycle.post.error.PostException;
+import capstone.cycle.search.error.SearchErrorResult;
+import capstone.cycle.search.error.SearchException;
 import capstone.cycle.user.error.UserErrorResult;
 import capstone.cycle.user.error.UserException;
 import lombok.Getter;
@@ -118,6 +120,14 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                 .body(new ErrorResponse(errorResult.getStatus().value(), errorResult.getMessage()));
     }
 
+    @ExceptionHandler({SearchException.class})
+    public ResponseEntity<ErrorResponse> handleSearchException(final SearchException exception) {
+        log.warn("SearchException occur: {}", exception.getSearchErrorResult().getMessage(), exception);
+        SearchErrorResult errorResult = exception.getSearchErrorResult();
+        return ResponseEntity.status(errorResult.getStatus())
+                .body(new ErrorResponse(errorResult.getStatus().value(), errorResult.getMessage()));
+    }
+
     @RequiredArgsConstructor
     @Getter
     static class ErrorResponse {
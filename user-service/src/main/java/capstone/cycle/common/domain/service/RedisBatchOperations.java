@@ -0,0 +1,60 @@
+package capstone.cycle.common.domain.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 여러 키를 다루는 Redis 작업 모음.
+ * 키마다 왕복하지 않도록 SCAN 결과를 배치로 묶고, 배치 안의 명령은 파이프라인으로 보낸다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisBatchOperations {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // pattern 에 맞는 키를 batchSize 개씩 넘긴다 (KEYS 처럼 Redis 를 막지 않음)
+    public void scanInBatches(String pattern, int batchSize, Consumer<List<String>> batchConsumer) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(pattern)
+                .count(batchSize)
+                .build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> batch = new ArrayList<>(batchSize);
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == batchSize || !cursor.hasNext()) {
+                    batchConsumer.accept(List.copyOf(batch));
+                    batch.clear();
+                }
+            }
+        }
+    }
+
+    // 키 순서대로 값 반환 (없으면 null)
+    public List<String> multiGet(List<String> keys) {
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        return values != null ? values : new ArrayList<>(Collections.nCopies(keys.size(), null));
+    }
+
+    // 키 순서대로 남은 TTL(ms) 반환. -1 은 TTL 없음, -2 는 키 없음
+    public List<Long> pTtls(List<String> keys) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            keys.forEach(key -> connection.keyCommands().pTtl(key.getBytes(StandardCharsets.UTF_8)));
+            return null;
+        });
+        List<Long> ttls = new ArrayList<>(results.size());
+        results.forEach(result -> ttls.add(result instanceof Long ttl ? ttl : -2L));
+        return ttls;
+    }
+}
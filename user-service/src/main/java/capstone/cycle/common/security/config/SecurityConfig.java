@@ -2,7 +2,8 @@ package capstone.cycle.common.security.config;
 
 import capstone.cycle.common.domain.error.ExceptionHandlerFilter;
 import capstone.cycle.common.security.filter.JwtAuthorizationFilter;
-import capstone.cycle.common.security.service.RedisTokenService;
+import capstone.cycle.common.security.service.TokenKeySweeper;
+import capstone.cycle.common.security.service.TokenStatistics;
 import capstone.cycle.refreshtoken.scheduler.RefreshTokenCleanupScheduler;
 import capstone.cycle.refreshtoken.service.RefreshTokenService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,8 +23,9 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     @Bean
-    public RefreshTokenCleanupScheduler refreshTokenCleanupScheduler(RedisTokenService redisTokenService) {
-        return new RefreshTokenCleanupScheduler(redisTokenService);
+    public RefreshTokenCleanupScheduler refreshTokenCleanupScheduler(TokenKeySweeper tokenKeySweeper,
+                                                                     TokenStatistics tokenStatistics) {
+        return new RefreshTokenCleanupScheduler(tokenKeySweeper, tokenStatistics);
     }
 
     private static final String[] SWAGGER_URIS = {
@@ -0,0 +1,19 @@
+package capstone.cycle.common.security.dto;
+
+import io.jsonwebtoken.Claims;
+
+// 서명 검증이 끝난 액세스 토큰의 인증 정보 (요청 처리 중 다시 파싱하지 않도록 전달)
+public record AccessTokenClaims(Long userId, String role, long expiresAt) {
+
+    public static AccessTokenClaims from(Claims claims) {
+        return new AccessTokenClaims(
+                Long.parseLong(claims.getSubject()),
+                claims.get("role", String.class),
+                claims.getExpiration().getTime()
+        );
+    }
+
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+}
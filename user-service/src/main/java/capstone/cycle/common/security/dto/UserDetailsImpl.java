@@ -29,6 +29,15 @@ public class UserDetailsImpl implements UserDetails {
         return new UserDetailsImpl(user);
     }
 
+    // 토큰 클레임만으로 만든 principal (id, role 외 사용자 정보는 비어 있음)
+    public static UserDetailsImpl fromClaims(Long userId, String role) {
+        String authority = role != null && !role.startsWith("ROLE_") ? "ROLE_" + role : role;
+        return new UserDetailsImpl(User.builder()
+                .id(userId)
+                .role(authority)
+                .build());
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         String role = user.getRole();
@@ -1,5 +1,6 @@
 package capstone.cycle.common.security.filter;
 
+import capstone.cycle.common.security.dto.AccessTokenClaims;
 import capstone.cycle.common.security.service.JwtUtil;
 import capstone.cycle.common.security.service.RedisTokenService;
 import capstone.cycle.common.security.service.SecurityService;
@@ -43,10 +44,10 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
                     return;
                 }
 
+                // 파싱과 서명 검증은 여기서 한 번만 수행
                 try {
-                    if (jwtUtil.validateAccessToken(accessToken)) {
-                        securityService.saveUserInSecurityContext(accessToken);
-                    }
+                    AccessTokenClaims claims = jwtUtil.verifyAccessToken(accessToken);
+                    securityService.saveUserInSecurityContext(claims);
                 } catch (Exception e) {
                     log.warn("Token validation failed: {}", e.getMessage());
                     SecurityContextHolder.clearContext();
@@ -0,0 +1,24 @@
+package capstone.cycle.common.security.scheduler;
+
+import capstone.cycle.common.security.service.RedisTokenService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlacklistFilterSyncScheduler {
+
+    private final RedisTokenService redisTokenService;
+
+    @Scheduled(fixedDelayString = "${security.blacklist.bloom.resync-interval-ms:300000}") // 기본 5분마다 실행
+    public void resyncBlacklistFilter() {
+        try {
+            redisTokenService.reloadBlacklistFilter();
+        } catch (Exception e) {
+            log.error("Error during blacklist filter resync", e);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package capstone.cycle.common.security.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 블랙리스트 토큰 해시의 로컬 Bloom 필터.
+ * 필터에 없으면 블랙리스트가 아니므로 Redis 를 조회하지 않고, 필터에 있을 때만 Redis 로 확인한다 (오탐만 있고 누락은 없음).
+ * 토큰 만료 시각 기준으로 버킷을 나눠서 만료된 버킷은 통째로 버린다.
+ * 다른 인스턴스에서 추가된 항목은 Redis pub/sub 로 전달받고, 누락에 대비해 주기적으로 Redis 에서 다시 채운다.
+ */
+@Slf4j
+@Component
+public class BlacklistBloomFilter implements MessageListener {
+
+    public static final String CHANNEL = "BL:CHANNEL";
+    private static final String MESSAGE_DELIMITER = ":";
+
+    private final ConcurrentSkipListMap<Long, Bucket> buckets = new ConcurrentSkipListMap<>();
+    private final long bucketMillis;
+    private final int bitCount;
+    private final int hashCount;
+
+    // Redis 에서 기존 블랙리스트를 읽어오기 전에는 필터를 믿을 수 없다
+    private volatile boolean ready = false;
+
+    public BlacklistBloomFilter(
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${jwt.access-token-validity}") long accessTokenValidityMillis,
+            @Value("${security.blacklist.bloom.expected-insertions:100000}") int expectedInsertions,
+            @Value("${security.blacklist.bloom.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        // 블랙리스트 항목은 최대 액세스 토큰 유효기간만큼 유지되므로 살아있는 버킷은 많아야 2~3개
+        this.bucketMillis = Math.max(accessTokenValidityMillis, 60_000L);
+        this.bitCount = (int) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 블랙리스트일 가능성이 있으면 true (준비 전에는 항상 true)
+    public boolean mightContain(String tokenHash) {
+        if (!ready) {
+            return true;
+        }
+        long[] hashes = hashesOf(tokenHash);
+        long now = System.currentTimeMillis();
+        for (Bucket bucket : buckets.tailMap(bucketOf(now), true).values()) {
+            if (bucket.mightContain(hashes)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void put(String tokenHash, long expiresAt) {
+        long now = System.currentTimeMillis();
+        if (expiresAt <= now) {
+            return;
+        }
+        buckets.computeIfAbsent(bucketOf(expiresAt), index -> new Bucket(bitCount, hashCount))
+                .put(hashesOf(tokenHash));
+        // 만료된 버킷 정리
+        buckets.headMap(bucketOf(now)).clear();
+    }
+
+    public void markReady() {
+        ready = true;
+    }
+
+    public static String messageOf(String tokenHash, long expiresAt) {
+        return tokenHash + MESSAGE_DELIMITER + expiresAt;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int delimiter = body.lastIndexOf(MESSAGE_DELIMITER);
+            put(body.substring(0, delimiter), Long.parseLong(body.substring(delimiter + 1)));
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed blacklist message", e);
+        }
+    }
+
+    private long bucketOf(long epochMillis) {
+        return epochMillis / bucketMillis;
+    }
+
+    // 토큰 해시(SHA-256 hex) 앞 16바이트를 두 개의 64비트 해시로 사용 (double hashing)
+    private long[] hashesOf(String tokenHash) {
+        return new long[]{
+                HexFormat.fromHexDigitsToLong(tokenHash, 0, 16),
+                HexFormat.fromHexDigitsToLong(tokenHash, 16, 32)
+        };
+    }
+
+    private static final class Bucket {
+
+        private final AtomicLongArray words;
+        private final int bitCount;
+        private final int hashCount;
+
+        Bucket(int bitCount, int hashCount) {
+            this.words = new AtomicLongArray((bitCount + 63) >>> 6);
+            this.bitCount = bitCount;
+            this.hashCount = hashCount;
+        }
+
+        void put(long[] hashes) {
+            for (int i = 0; i < hashCount; i++) {
+                int bit = indexOf(hashes, i);
+                long mask = 1L << bit;
+                int word = bit >>> 6;
+                long current;
+                do {
+                    current = words.get(word);
+                    if ((current & mask) != 0) {
+                        break;
+                    }
+                } while (!words.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(long[] hashes) {
+            for (int i = 0; i < hashCount; i++) {
+                int bit = indexOf(hashes, i);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int indexOf(long[] hashes, int i) {
+            return (int) Math.floorMod(hashes[0] + i * hashes[1], (long) bitCount);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package capstone.cycle.common.security.service;
 
+import capstone.cycle.common.security.dto.AccessTokenClaims;
 import capstone.cycle.common.security.error.TokenErrorResult;
 import capstone.cycle.common.security.error.TokenException;
 import capstone.cycle.refreshtoken.entity.RefreshToken;
@@ -8,6 +9,7 @@ import capstone.cycle.user.dto.UserDTO;
 import capstone.cycle.user.repository.UserRepository;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -25,8 +27,10 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -41,12 +45,31 @@ public class JwtUtil {
     @Value("${jwt.access-token-validity}")
     private long accessTokenValidityInMilliseconds; // 30분
 
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private int verifiedCacheMaxSize;
+
     private Key secretKey;
 
+    // 불변 객체라서 스레드 간 공유 가능
+    private JwtParser jwtParser;
+
+    // 최근 검증한 액세스 토큰 (토큰 해시 -> 클레임). 만료 시각까지만 유효
+    private Map<String, AccessTokenClaims> verifiedTokens;
+
     @PostConstruct
     void init() {
         byte[] keyBytes = secretKeyPlain.getBytes(StandardCharsets.UTF_8);
         this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        int maxSize = verifiedCacheMaxSize;
+        this.verifiedTokens = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, AccessTokenClaims> eldest) {
+                return size() > maxSize;
+            }
+        });
     }
 
 
@@ -72,24 +95,30 @@ public class JwtUtil {
     }
 
     public boolean validateAccessToken(String token) {
-        try {
-            if (token == null || token.isEmpty()) {
-                throw new TokenException(TokenErrorResult.ACCESS_TOKEN_NEED);
-            }
+        verifyAccessToken(token);
+        return true;
+    }
 
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
+    // 요청당 한 번만 파싱/서명 검증하고, 같은 토큰은 만료 전까지 캐시된 클레임을 재사용
+    public AccessTokenClaims verifyAccessToken(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new TokenException(TokenErrorResult.ACCESS_TOKEN_NEED);
+        }
 
-            return true;
-        } catch (ExpiredJwtException e) {
+        String tokenHash = TokenDigest.sha256(token);
+        AccessTokenClaims cached = verifiedTokens.get(tokenHash);
+        if (cached != null) {
+            if (!cached.isExpired(System.currentTimeMillis())) {
+                return cached;
+            }
+            verifiedTokens.remove(tokenHash);
             log.warn("Access token has expired");
             throw new TokenException(TokenErrorResult.TOKEN_EXPIRED);
-        } catch (Exception e) {
-            log.error("Token validation error", e);
-            throw new TokenException(TokenErrorResult.INVALID_TOKEN);
         }
+
+        AccessTokenClaims claims = extractClaim(token, AccessTokenClaims::from);
+        verifiedTokens.put(tokenHash, claims);
+        return claims;
     }
 
     public UserDTO getUserDetailsFromToken(String token) {
@@ -137,11 +166,7 @@ public class JwtUtil {
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
         log.debug("Extracting claim from token");
         try {
-            final Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            final Claims claims = jwtParser.parseClaimsJws(token).getBody();
 
             T result = claimsResolver.apply(claims);
             log.debug("Successfully extracted claim from token");
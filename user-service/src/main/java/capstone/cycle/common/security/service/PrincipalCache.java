@@ -0,0 +1,75 @@
+package capstone.cycle.common.security.service;
+
+import capstone.cycle.common.security.dto.UserDetailsImpl;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 인증 principal LRU 캐시 (인스턴스 로컬).
+ * 요청마다 사용자 행을 읽지 않도록 userId 별 UserDetailsImpl 을 TTL 동안 보관한다.
+ * 사용자 정보가 바뀌면 evict 로 무효화하고, 다른 인스턴스의 캐시는 TTL 이 지나면 갱신된다.
+ */
+@Component
+public class PrincipalCache {
+
+    private final Map<Long, Entry> entries;
+    private final long ttlMillis;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public PrincipalCache(
+            MeterRegistry meterRegistry,
+            @Value("${security.principal-cache.max-size:10000}") int maxSize,
+            @Value("${security.principal-cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.ttlMillis = Duration.ofSeconds(ttlSeconds).toMillis();
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxSize;
+            }
+        });
+        this.hitCounter = meterRegistry.counter("security.principal.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("security.principal.cache", "result", "miss");
+    }
+
+    public UserDetailsImpl get(Long userId, Function<Long, UserDetailsImpl> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(userId);
+        if (entry != null && entry.expiresAt() > now) {
+            hitCounter.increment();
+            return entry.principal();
+        }
+        missCounter.increment();
+        UserDetailsImpl principal = loader.apply(userId);
+        entries.put(userId, new Entry(principal, now + ttlMillis));
+        return principal;
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 무효화 (커밋 전 데이터로 캐시가 다시 채워지는 것 방지)
+    public void evict(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.remove(userId);
+                }
+            });
+            return;
+        }
+        entries.remove(userId);
+    }
+
+    private record Entry(UserDetailsImpl principal, long expiresAt) {
+    }
+}
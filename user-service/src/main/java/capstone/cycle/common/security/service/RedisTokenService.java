@@ -1,33 +1,84 @@
 package capstone.cycle.common.security.service;
 
+import capstone.cycle.common.domain.service.RedisBatchOperations;
 import capstone.cycle.common.security.error.TokenErrorResult;
 import capstone.cycle.common.security.error.TokenException;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 
 @Service
-@RequiredArgsConstructor
 public class RedisTokenService {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisBatchOperations redisBatchOperations;
     private final JwtUtil jwtUtil;
-    private static final String REFRESH_TOKEN_PREFIX = "RT:";
-    private static final String USED_TOKEN_PREFIX = "USED:";
-    private static final String BLACKLIST_PREFIX = "BL:";
+    private final BlacklistBloomFilter blacklistBloomFilter;
+    private final MeterRegistry meterRegistry;
+    private final TokenStatistics tokenStatistics;
 
+    static final String REFRESH_TOKEN_PREFIX = "RT:";
+    // 역인덱스: RefreshToken 해시 -> userId (RT:<userId> 와 같은 TTL)
+    static final String REFRESH_TOKEN_INDEX_PREFIX = "RTI:";
+    static final String USED_TOKEN_PREFIX = "USED:";
+    static final String BLACKLIST_PREFIX = "BL:";
+    private static final int TOKEN_HASH_LENGTH = 64;
+    private static final int BLACKLIST_SCAN_BATCH = 500;
+    private static final int REFRESH_TOKEN_SCAN_BATCH = 500;
 
-    // RefreshToken 저장
+    // RefreshToken 회전 (재사용 확인, 현재 토큰 비교, 사용 표시, 새 토큰 저장을 한 번에 수행)
+    // 스크립트가 다루는 키는 모두 KEYS 로 넘기고, 사용 표시 키는 {RT:<userId>} 해시 태그로 RT:<userId> 와 같은 슬롯에 둔다 (Redis Cluster)
+    // KEYS[1] = RT:<userId>, KEYS[2] = USED:{RT:<userId>}:<이전 해시> / ARGV = 이전 해시, 새 해시, ttl(ms), userId
+    // 반환: userId (성공), 0 (교체됐거나 없는 토큰), -userId (이미 사용된 토큰 재사용 -> 해당 사용자 토큰 폐기)
+    private static final RedisScript<Long> ROTATE_REFRESH_TOKEN_SCRIPT = RedisScript.of(
+            "if redis.call('EXISTS', KEYS[2]) == 1 then " +
+            "  redis.call('DEL', KEYS[1]) " +
+            "  return -tonumber(ARGV[4]) " +
+            "end " +
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end " +
+            "redis.call('SET', KEYS[2], '1', 'PX', ARGV[3]) " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+            "return tonumber(ARGV[4])",
+            Long.class);
+
+    public RedisTokenService(
+            RedisTemplate<String, String> redisTemplate,
+            RedisBatchOperations redisBatchOperations,
+            JwtUtil jwtUtil,
+            BlacklistBloomFilter blacklistBloomFilter,
+            MeterRegistry meterRegistry,
+            TokenStatistics tokenStatistics
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisBatchOperations = redisBatchOperations;
+        this.jwtUtil = jwtUtil;
+        this.blacklistBloomFilter = blacklistBloomFilter;
+        this.meterRegistry = meterRegistry;
+        this.tokenStatistics = tokenStatistics;
+    }
+
+    // RefreshToken 저장 (RT:<userId> 에는 토큰 해시를 저장하고, 역인덱스를 먼저 기록)
+    // 역인덱스는 다른 슬롯에 있으므로 따로 기록한다. 이전 토큰의 인덱스는 TTL 로 만료되고, 조회할 때 RT:<userId> 와 비교해서 걸러진다
     public void saveRefreshToken(Long userId, String refreshToken, long ttl) {
-        String key = REFRESH_TOKEN_PREFIX + userId;
+        String tokenHash = TokenDigest.sha256(refreshToken);
         try {
-            redisTemplate.opsForValue().set(key, refreshToken, ttl, TimeUnit.MILLISECONDS);
+            redisTemplate.opsForValue().set(REFRESH_TOKEN_INDEX_PREFIX + tokenHash, userId.toString(), ttl, TimeUnit.MILLISECONDS);
+            redisTemplate.opsForValue().set(REFRESH_TOKEN_PREFIX + userId, tokenHash, ttl, TimeUnit.MILLISECONDS);
+            tokenStatistics.refreshTokenSaved(userId, System.currentTimeMillis() + ttl);
+            meterRegistry.counter("token.refresh.issued").increment();
             log.info("Successfully saved refresh token for user: {}", userId);
         } catch (Exception e) {
             log.error("Error saving refresh token for user: {}", userId, e);
@@ -35,7 +86,7 @@ public class RedisTokenService {
         }
     }
 
-    // RefreshToken 조회
+    // 저장된 RefreshToken 해시 조회
     public String getRefreshToken(Long userId) {
         String key = REFRESH_TOKEN_PREFIX + userId;
         String token = redisTemplate.opsForValue().get(key);
@@ -43,32 +94,57 @@ public class RedisTokenService {
         return token;
     }
 
-    // RefreshToken 삭제
+    // RefreshToken 삭제 (남은 역인덱스는 RT:<userId> 가 없으므로 더 이상 유효하지 않다)
     public void deleteRefreshToken(Long userId) {
-        String key = REFRESH_TOKEN_PREFIX + userId;
-        Boolean deleted = redisTemplate.delete(key);
-        log.info("Deleted refresh token for user: {}, success: {}", userId, deleted);
+        Boolean deleted = redisTemplate.delete(REFRESH_TOKEN_PREFIX + userId);
+        tokenStatistics.refreshTokenRemoved(userId);
+        log.info("Deleted refresh token for user: {}, success: {}", userId, Boolean.TRUE.equals(deleted));
     }
 
-    // 사용된 RefreshToken으로 표시
-    public void markTokenAsUsed(String token, long ttl) {
-        String key = USED_TOKEN_PREFIX + token;
-        redisTemplate.opsForValue().set(key, "true", ttl, TimeUnit.MILLISECONDS);
-        log.debug("Marked refresh token as used: {}", token);
+    // RefreshToken 회전. 역인덱스로 사용자를 찾고, 그 사용자의 키만 다루는 스크립트 한 번으로 처리한다. 성공하면 userId 반환
+    // 회전한 토큰의 역인덱스는 TTL 까지 남겨서 재사용을 감지한다
+    public Long rotateRefreshToken(String oldRefreshToken, String newRefreshToken, long ttl) {
+        String oldHash = TokenDigest.sha256(oldRefreshToken);
+        String newHash = TokenDigest.sha256(newRefreshToken);
+        String owner = redisTemplate.opsForValue().get(REFRESH_TOKEN_INDEX_PREFIX + oldHash);
+        if (owner == null) {
+            log.warn("Invalid or expired refresh token used");
+            throw new TokenException(TokenErrorResult.REFRESH_TOKEN_EXPIRED_OR_INVALID);
+        }
+
+        // 스크립트가 실패해도 새 인덱스는 RT:<userId> 와 맞지 않아 쓰이지 않는다
+        redisTemplate.opsForValue().set(REFRESH_TOKEN_INDEX_PREFIX + newHash, owner, ttl, TimeUnit.MILLISECONDS);
+        Long result = redisTemplate.execute(ROTATE_REFRESH_TOKEN_SCRIPT,
+                List.of(REFRESH_TOKEN_PREFIX + owner, usedTokenKey(owner, oldHash)),
+                oldHash, newHash, Long.toString(ttl), owner);
+
+        if (result == null || result == 0) {
+            log.warn("Invalid or expired refresh token used");
+            throw new TokenException(TokenErrorResult.REFRESH_TOKEN_EXPIRED_OR_INVALID);
+        }
+        if (result < 0) {
+            log.warn("Refresh token reuse detected for user: {}", -result);
+            tokenStatistics.refreshTokenRemoved(-result);
+            throw new TokenException(TokenErrorResult.TOKEN_REUSE_DETECTED);
+        }
+        tokenStatistics.refreshTokenSaved(result, System.currentTimeMillis() + ttl);
+        return result;
     }
 
-    // RefreshToken이 이미 사용되었는지 확인
-    public boolean isTokenUsed(String token) {
-        String key = USED_TOKEN_PREFIX + token;
-        Boolean exists = redisTemplate.hasKey(key);
-        return Boolean.TRUE.equals(exists);
+    private static String usedTokenKey(String userId, String tokenHash) {
+        return USED_TOKEN_PREFIX + "{" + REFRESH_TOKEN_PREFIX + userId + "}:" + tokenHash;
     }
 
-    // AccessToken을 블랙리스트에 추가
+    // AccessToken을 블랙리스트에 추가 (키에는 토큰 원문 대신 SHA-256 해시, 값은 만료 시각)
     public void addToBlacklist(String accessToken, long ttl) {
-        String key = BLACKLIST_PREFIX + accessToken;
+        String tokenHash = TokenDigest.sha256(accessToken);
+        long expiresAt = System.currentTimeMillis() + ttl;
         try {
-            redisTemplate.opsForValue().set(key, "true", ttl, TimeUnit.MILLISECONDS);
+            redisTemplate.opsForValue().set(BLACKLIST_PREFIX + tokenHash, Long.toString(expiresAt), ttl, TimeUnit.MILLISECONDS);
+            blacklistBloomFilter.put(tokenHash, expiresAt);
+            tokenStatistics.blacklisted(Map.of(tokenHash, expiresAt));
+            redisTemplate.convertAndSend(BlacklistBloomFilter.CHANNEL, BlacklistBloomFilter.messageOf(tokenHash, expiresAt));
+            meterRegistry.counter("token.blacklist.added").increment();
             log.info("Added access token to blacklist, expires in {} ms", ttl);
         } catch (Exception e) {
             log.error("Error adding token to blacklist", e);
@@ -76,53 +152,81 @@ public class RedisTokenService {
         }
     }
 
-    // AccessToken이 블랙리스트에 있는지 확인
+    // AccessToken이 블랙리스트에 있는지 확인 (로컬 필터에 걸린 경우에만 Redis 조회)
     public boolean isBlacklisted(String accessToken) {
-        String key = BLACKLIST_PREFIX + accessToken;
-        Boolean exists = redisTemplate.hasKey(key);
+        String tokenHash = TokenDigest.sha256(accessToken);
+        if (!blacklistBloomFilter.mightContain(tokenHash)) {
+            return false;
+        }
+        Boolean exists = redisTemplate.hasKey(BLACKLIST_PREFIX + tokenHash);
         return Boolean.TRUE.equals(exists);
     }
 
-    // 만료된 토큰들 정리
-    public void cleanupExpiredTokens() {
+    @EventListener(ApplicationReadyEvent.class)
+    public void initBlacklistFilter() {
         try {
-            // 사용된 토큰 정리
-            Set<String> usedTokens = redisTemplate.keys(USED_TOKEN_PREFIX + "*");
-            if (usedTokens != null && !usedTokens.isEmpty()) {
-                redisTemplate.delete(usedTokens);
-                log.info("Cleaned up {} used tokens", usedTokens.size());
-            }
+            reloadBlacklistFilter();
+        } catch (Exception e) {
+            // 필터가 준비되지 않으면 모든 조회가 Redis 로 간다
+            log.error("Failed to initialize blacklist filter", e);
+        }
+    }
+
+    // Redis 의 블랙리스트 전체를 필터에 다시 채운다 (pub/sub 메시지 유실 대비)
+    // 토큰 원문을 키로 쓰던 이전 항목은 해시 키로 옮기고, 지표에도 다시 적재한다
+    public void reloadBlacklistFilter() {
+        AtomicLong loaded = new AtomicLong();
+        redisBatchOperations.scanInBatches(BLACKLIST_PREFIX + "*", BLACKLIST_SCAN_BATCH,
+                keys -> loaded.addAndGet(loadBlacklistBatch(keys)));
+        blacklistBloomFilter.markReady();
+        log.info("Loaded {} blacklisted tokens into local filter", loaded.get());
+    }
 
-            // 블랙리스트 토큰 정리
-            Set<String> blacklistedTokens = redisTemplate.keys(BLACKLIST_PREFIX + "*");
-            if (blacklistedTokens != null && !blacklistedTokens.isEmpty()) {
-                redisTemplate.delete(blacklistedTokens);
-                log.info("Cleaned up {} blacklisted tokens", blacklistedTokens.size());
+    private int loadBlacklistBatch(List<String> keys) {
+        List<String> values = redisBatchOperations.multiGet(keys);
+        List<String> legacyKeys = new ArrayList<>();
+        Map<String, Long> expiresAtByTokenHash = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            String suffix = keys.get(i).substring(BLACKLIST_PREFIX.length());
+            String value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            if (suffix.length() == TOKEN_HASH_LENGTH) {
+                blacklistBloomFilter.put(suffix, Long.parseLong(value));
+                expiresAtByTokenHash.put(suffix, Long.parseLong(value));
+            } else {
+                legacyKeys.add(keys.get(i));
             }
+        }
+        if (!legacyKeys.isEmpty()) {
+            migrateLegacyBlacklist(legacyKeys, expiresAtByTokenHash);
+        }
+        tokenStatistics.blacklisted(expiresAtByTokenHash);
+        return expiresAtByTokenHash.size();
+    }
 
-            // 활성 RefreshToken 개수 로깅
-            Set<String> activeTokens = redisTemplate.keys(REFRESH_TOKEN_PREFIX + "*");
-            if (activeTokens != null) {
-                log.info("Current active refresh tokens: {}", activeTokens.size());
+    private void migrateLegacyBlacklist(List<String> legacyKeys, Map<String, Long> expiresAtByTokenHash) {
+        List<Long> ttls = redisBatchOperations.pTtls(legacyKeys);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < legacyKeys.size(); i++) {
+            long ttl = ttls.get(i);
+            if (ttl > 0) {
+                String tokenHash = TokenDigest.sha256(legacyKeys.get(i).substring(BLACKLIST_PREFIX.length()));
+                redisTemplate.opsForValue().set(BLACKLIST_PREFIX + tokenHash, Long.toString(now + ttl), ttl, TimeUnit.MILLISECONDS);
+                blacklistBloomFilter.put(tokenHash, now + ttl);
+                expiresAtByTokenHash.put(tokenHash, now + ttl);
             }
-        } catch (Exception e) {
-            log.error("Error during token cleanup", e);
-            throw e;
         }
+        redisTemplate.delete(legacyKeys);
     }
 
-    // refresh token으로 userId를 찾음
+    // refresh token으로 userId를 찾음 (역인덱스로 찾은 뒤 현재 토큰인지 RT:<userId> 와 비교)
     public Long findUserIdByRefreshToken(String refreshToken) {
-        String storedToken = null;
-        Set<String> keys = redisTemplate.keys(REFRESH_TOKEN_PREFIX + "*");
-
-        if (keys != null) {
-            for (String key : keys) {
-                storedToken = redisTemplate.opsForValue().get(key);
-                if (refreshToken.equals(storedToken)) {
-                    return Long.parseLong(key.substring(REFRESH_TOKEN_PREFIX.length()));
-                }
-            }
+        String tokenHash = TokenDigest.sha256(refreshToken);
+        String userId = redisTemplate.opsForValue().get(REFRESH_TOKEN_INDEX_PREFIX + tokenHash);
+        if (userId != null && tokenHash.equals(redisTemplate.opsForValue().get(REFRESH_TOKEN_PREFIX + userId))) {
+            return Long.parseLong(userId);
         }
 
         // 저장된 토큰이 없다는 것은 이미 로그아웃 되었거나 만료된 토큰
@@ -130,6 +234,44 @@ public class RedisTokenService {
         throw new TokenException(TokenErrorResult.REFRESH_TOKEN_EXPIRED_OR_INVALID);
     }
 
+    // 토큰 원문을 저장하던 이전 RT:<userId> 항목을 해시 + 역인덱스 형식으로 옮긴다 (이미 옮긴 항목은 지표에만 다시 적재)
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateRefreshTokenIndex() {
+        try {
+            AtomicLong migrated = new AtomicLong();
+            redisBatchOperations.scanInBatches(REFRESH_TOKEN_PREFIX + "*", REFRESH_TOKEN_SCAN_BATCH,
+                    keys -> migrated.addAndGet(migrateRefreshTokenBatch(keys)));
+            if (migrated.get() > 0) {
+                log.info("Migrated {} refresh tokens to hashed index", migrated.get());
+            }
+        } catch (Exception e) {
+            log.error("Failed to migrate refresh token index", e);
+        }
+    }
+
+    private int migrateRefreshTokenBatch(List<String> keys) {
+        List<String> tokens = redisBatchOperations.multiGet(keys);
+        List<Long> ttls = redisBatchOperations.pTtls(keys);
+        Map<String, Long> expiresAtByUserId = new HashMap<>();
+        long now = System.currentTimeMillis();
+        int migrated = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            String token = tokens.get(i);
+            if (token == null || ttls.get(i) <= 0) {
+                continue;
+            }
+            String userId = keys.get(i).substring(REFRESH_TOKEN_PREFIX.length());
+            if (token.length() == TOKEN_HASH_LENGTH) {
+                expiresAtByUserId.put(userId, now + ttls.get(i));
+                continue;
+            }
+            saveRefreshToken(Long.parseLong(userId), token, ttls.get(i));
+            migrated++;
+        }
+        tokenStatistics.refreshTokensSaved(expiresAtByUserId);
+        return migrated;
+    }
+
     /**
      * 로그아웃 시 토큰 무효화 처리
      */
@@ -1,12 +1,17 @@
 package capstone.cycle.common.security.service;
 
+import capstone.cycle.common.security.dto.AccessTokenClaims;
 import capstone.cycle.user.dto.UserDTO;
 
 public interface SecurityService {
 
     public void saveUserInSecurityContext(UserDTO userDTO);
 
-    public void saveUserInSecurityContext(String accessToken);
+    // 블랙리스트/서명 검증이 끝난 토큰의 클레임으로 인증 정보 저장
+    public void saveUserInSecurityContext(AccessTokenClaims claims);
 
     public UserDTO getUserInfoSecurityContext();
+
+    // principal 캐시를 거친 사용자 정보 (토큰 재발급용)
+    public UserDTO getUserInfo(Long userId);
 }
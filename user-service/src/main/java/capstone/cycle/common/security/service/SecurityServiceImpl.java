@@ -1,5 +1,6 @@
 package capstone.cycle.common.security.service;
 
+import capstone.cycle.common.security.dto.AccessTokenClaims;
 import capstone.cycle.common.security.error.TokenErrorResult;
 import capstone.cycle.common.security.error.TokenException;
 import capstone.cycle.common.security.dto.UserDetailsImpl;
@@ -9,6 +10,7 @@ import capstone.cycle.user.entity.User;
 import capstone.cycle.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -25,8 +27,11 @@ import java.util.Collection;
 public class SecurityServiceImpl implements SecurityService{
 
     private final UserRepository userRepository;
-    private final JwtUtil jwtUtil;
-    private final RedisTokenService redisTokenService;
+    private final PrincipalCache principalCache;
+
+    // true 면 토큰 클레임(userId, role)만으로 principal 을 만든다 (DB 조회 없음, principal 의 사용자 정보는 id/role 만 채워짐)
+    @Value("${security.principal.from-claims:false}")
+    private boolean principalFromClaims;
 
     @Override
     public void saveUserInSecurityContext(UserDTO userDTO) {
@@ -41,16 +46,11 @@ public class SecurityServiceImpl implements SecurityService{
     }
 
     @Override
-    public void saveUserInSecurityContext(String accessToken) {
+    public void saveUserInSecurityContext(AccessTokenClaims claims) {
         try {
-            // 블랙리스트 체크
-            if (redisTokenService.isBlacklisted(accessToken)) {
-                log.warn("Attempt to use blacklisted token");
-                throw new TokenException(TokenErrorResult.TOKEN_BLACKLISTED);
-            }
-
-            Long userId = jwtUtil.getUserIdFromToken(accessToken);
-            UserDetails userDetails = loadUserById(userId);
+            UserDetails userDetails = principalFromClaims
+                    ? UserDetailsImpl.fromClaims(claims.userId(), claims.role())
+                    : loadUserById(claims.userId());
             saveAuthentication(userDetails);
             log.debug("Successfully saved user in security context from token");
         } catch (TokenException e) {
@@ -75,6 +75,11 @@ public class SecurityServiceImpl implements SecurityService{
         return null;
     }
 
+    @Override
+    public UserDTO getUserInfo(Long userId) {
+        return loadUserById(userId).getUser().toDTO();
+    }
+
     private void saveAuthentication(UserDetails userDetails) {
         Collection<? extends GrantedAuthority> authorities = userDetails.getAuthorities();
         UsernamePasswordAuthenticationToken authentication =
@@ -86,7 +91,12 @@ public class SecurityServiceImpl implements SecurityService{
         log.debug("Authentication saved in security context");
     }
 
-    private UserDetails loadUserById(Long userId) {
+    private UserDetailsImpl loadUserById(Long userId) {
+        return principalCache.get(userId, this::loadPrincipal);
+    }
+
+    // 캐시 미스일 때만 호출된다
+    private UserDetailsImpl loadPrincipal(Long userId) {
         log.debug("Loading user by userId: {}", userId);
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> {
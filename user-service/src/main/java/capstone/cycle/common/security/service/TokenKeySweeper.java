@@ -0,0 +1,139 @@
+package capstone.cycle.common.security.service;
+
+import capstone.cycle.common.domain.service.RedisBatchOperations;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TTL 없이 남은 토큰 키(이전 버그로 남은 키)를 SCAN 으로 조금씩 찾아 지운다. 모든 토큰 키는 TTL 로 만료되므로 TTL 이 있는 키는 건드리지 않는다.
+ * Redis 부하를 나누기 위해 배치 사이에 쉬므로 오래 걸릴 수 있어, 공용 스케줄러 스레드 대신 전용 스레드에서 실행한다.
+ * 이전 정리가 아직 실행 중이면 새로 시작하지 않는다.
+ */
+@Slf4j
+@Component
+public class TokenKeySweeper {
+
+    private static final List<String> PREFIXES = List.of(
+            RedisTokenService.USED_TOKEN_PREFIX,
+            RedisTokenService.BLACKLIST_PREFIX,
+            RedisTokenService.REFRESH_TOKEN_PREFIX,
+            RedisTokenService.REFRESH_TOKEN_INDEX_PREFIX
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisBatchOperations redisBatchOperations;
+    private final int scanCount;
+    private final long batchPauseMillis;
+    private final ExecutorService executor;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public TokenKeySweeper(
+            RedisTemplate<String, String> redisTemplate,
+            RedisBatchOperations redisBatchOperations,
+            @Value("${security.token-cleanup.scan-count:500}") int scanCount,
+            @Value("${security.token-cleanup.batch-pause-ms:20}") long batchPauseMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisBatchOperations = redisBatchOperations;
+        this.scanCount = scanCount;
+        this.batchPauseMillis = batchPauseMillis;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-key-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 전용 스레드에서 정리를 시작하고 바로 돌아온다. 이미 실행 중이면 false
+    public boolean sweepAsync() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    sweep();
+                } catch (Exception e) {
+                    log.error("Error during token key sweep", e);
+                } finally {
+                    running.set(false);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            return false;
+        }
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    // 모든 토큰 키 prefix 를 순회하며 TTL 없는 키를 지운다. 지운 키 수 반환
+    long sweep() {
+        long removed = 0;
+        for (String prefix : PREFIXES) {
+            removed += sweepKeys(prefix);
+        }
+        log.info("Token key sweep removed {} keys without TTL", removed);
+        return removed;
+    }
+
+    // prefix 의 키를 배치 단위로 순회하며 PTTL 을 파이프라인으로 확인
+    private long sweepKeys(String prefix) {
+        AtomicLong removed = new AtomicLong();
+        redisBatchOperations.scanInBatches(prefix + "*", scanCount, keys -> {
+            List<String> orphans = findKeysWithoutTtl(keys);
+            if (!orphans.isEmpty()) {
+                redisTemplate.delete(orphans);
+                removed.addAndGet(orphans.size());
+            }
+            pauseBetweenBatches();
+        });
+        if (removed.get() > 0) {
+            log.info("Removed {} {} keys without TTL", removed.get(), prefix);
+        }
+        return removed.get();
+    }
+
+    private List<String> findKeysWithoutTtl(List<String> keys) {
+        List<Long> ttls = redisBatchOperations.pTtls(keys);
+        List<String> orphans = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            // -1: TTL 없음, -2: 이미 만료됨
+            if (ttls.get(i) == -1L) {
+                orphans.add(keys.get(i));
+            }
+        }
+        return orphans;
+    }
+
+    private void pauseBetweenBatches() {
+        if (batchPauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(batchPauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Token key sweep interrupted", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,97 @@
+package capstone.cycle.common.security.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 토큰 지표 (살아있는 RefreshToken 수, 블랙리스트 크기).
+ * 토큰 키 전체를 SCAN 해서 세지 않도록 토큰을 쓸 때 만료 시각을 점수로 하는 sorted set 에 함께 기록한다.
+ * 단순 카운터는 TTL 로 만료된 토큰을 빼지 못하므로 만료 시각을 같이 두고, 지표를 읽을 때 만료된 항목을 잘라낸 뒤 ZCARD 로 센다.
+ * 같은 사용자/토큰을 다시 기록하면 점수만 바뀌므로 기동 시 다시 적재해도 중복으로 세지 않는다.
+ * 지표 기록이 실패해도 토큰 처리는 계속한다.
+ */
+@Slf4j
+@Component
+public class TokenStatistics {
+
+    // 멤버: userId, 점수: 만료 시각
+    static final String ACTIVE_REFRESH_TOKENS_KEY = "TOKEN_STATS:RT";
+    // 멤버: 토큰 해시, 점수: 만료 시각
+    static final String BLACKLIST_KEY = "TOKEN_STATS:BL";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final AtomicLong activeRefreshTokenCount = new AtomicLong();
+    private final AtomicLong blacklistSize = new AtomicLong();
+
+    public TokenStatistics(RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        meterRegistry.gauge("token.refresh.active", activeRefreshTokenCount);
+        meterRegistry.gauge("token.blacklist.size", blacklistSize);
+    }
+
+    public void refreshTokenSaved(Long userId, long expiresAt) {
+        record(ACTIVE_REFRESH_TOKENS_KEY, Map.of(userId.toString(), expiresAt));
+    }
+
+    // userId -> 만료 시각
+    public void refreshTokensSaved(Map<String, Long> expiresAtByUserId) {
+        record(ACTIVE_REFRESH_TOKENS_KEY, expiresAtByUserId);
+    }
+
+    public void refreshTokenRemoved(Long userId) {
+        try {
+            redisTemplate.opsForZSet().remove(ACTIVE_REFRESH_TOKENS_KEY, userId.toString());
+        } catch (Exception e) {
+            log.warn("Failed to record refresh token removal for user: {}", userId, e);
+        }
+    }
+
+    // 토큰 해시 -> 만료 시각
+    public void blacklisted(Map<String, Long> expiresAtByTokenHash) {
+        record(BLACKLIST_KEY, expiresAtByTokenHash);
+    }
+
+    // 만료된 항목을 잘라내고 게이지를 갱신 (O(log N + 만료된 항목 수))
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        activeRefreshTokenCount.set(countLive(ACTIVE_REFRESH_TOKENS_KEY, now));
+        blacklistSize.set(countLive(BLACKLIST_KEY, now));
+    }
+
+    public long activeRefreshTokenCount() {
+        return activeRefreshTokenCount.get();
+    }
+
+    public long blacklistSize() {
+        return blacklistSize.get();
+    }
+
+    private long countLive(String key, long now) {
+        ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+        zSet.removeRangeByScore(key, 0, now);
+        Long count = zSet.zCard(key);
+        return count != null ? count : 0L;
+    }
+
+    private void record(String key, Map<String, Long> expiresAtByMember) {
+        if (expiresAtByMember.isEmpty()) {
+            return;
+        }
+        Set<ZSetOperations.TypedTuple<String>> tuples = expiresAtByMember.entrySet().stream()
+                .map(entry -> ZSetOperations.TypedTuple.of(entry.getKey(), entry.getValue().doubleValue()))
+                .collect(Collectors.toSet());
+        try {
+            redisTemplate.opsForZSet().add(key, tuples);
+        } catch (Exception e) {
+            log.warn("Failed to record {} token statistics", key, e);
+        }
+    }
+}
@@ -1,49 +1,160 @@
 package capstone.cycle.file.api;
 
-import capstone.cycle.file.entity.File;
+import capstone.cycle.file.dto.ServedFile;
 import capstone.cycle.file.error.FileErrorResult;
 import capstone.cycle.file.error.FileException;
-import capstone.cycle.file.service.FileService;
-import lombok.RequiredArgsConstructor;
+import capstone.cycle.file.service.FileMetadataCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 로컬 업로드 디렉터리의 파일 서빙.
+ * 메타데이터는 LRU 캐시에서 읽고, ETag 조건부 요청과 단일 Range 요청을 처리한다.
+ * 본문은 Tomcat sendfile 이 가능하면 커널에 맡기고, 아니면 FileChannel.transferTo 로 전송한다.
+ */
 @RestController
 @RequestMapping("/api/files")
-@RequiredArgsConstructor
 public class FileController {
 
-    @Value("${file.upload-dir}")
-    private String uploadDir;
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
 
-    private final FileService fileService;
+    // 내용 주소 방식 파일은 URL 의 내용이 바뀌지 않으므로 1년 + immutable
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+    private static final CacheControl LEGACY = CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic();
+
+    private final FileMetadataCache fileMetadataCache;
+    private final Path uploadRoot;
+
+    public FileController(FileMetadataCache fileMetadataCache, @Value("${file.upload-dir}") String uploadDir) {
+        this.fileMetadataCache = fileMetadataCache;
+        this.uploadRoot = Paths.get(uploadDir).toAbsolutePath().normalize();
+    }
 
     @GetMapping("/{fileId}")
-    public ResponseEntity<Resource> serveFile(@PathVariable Long fileId) throws IOException {
-        File file = fileService.getFile(fileId);
-
-        Path filePath = Paths.get(uploadDir).resolve(file.getName());
-        Resource resource = new UrlResource(filePath.toUri());
-
-        if (resource.exists() || resource.isReadable()) {
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + file.getOriginalName() + "\"")
-                    .contentType(MediaType.parseMediaType(file.getContentType()))
-                    .body(resource);
-        } else {
+    public void serveFile(@PathVariable Long fileId, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ServedFile file = fileMetadataCache.get(fileId);
+
+        Path filePath = uploadRoot.resolve(file.objectName()).normalize();
+        if (!filePath.startsWith(uploadRoot) || !Files.isReadable(filePath)) {
+            fileMetadataCache.evict(fileId);
             throw new FileException(FileErrorResult.FILE_NOT_FOUND);
         }
+        long length = Files.size(filePath);
+
+        // 304 판단 (If-None-Match / If-Modified-Since). 응답 헤더도 함께 설정된다
+        String etag = file.etag();
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, (etag != null ? IMMUTABLE : LEGACY).getHeaderValue());
+        boolean notModified = etag != null
+                ? webRequest.checkNotModified(etag)
+                : webRequest.checkNotModified(Files.getLastModifiedTime(filePath).toMillis());
+        if (notModified) {
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                .filename(file.originalName(), StandardCharsets.UTF_8)
+                .build()
+                .toString());
+        response.setContentType(file.contentType());
+
+        long start = 0;
+        long end = length - 1;
+        HttpRange range = resolveRange(request, etag);
+        if (range != null) {
+            if (length == 0 || !isSatisfiable(range, length)) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            start = range.getRangeStart(length);
+            end = range.getRangeEnd(length);
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if (HttpMethod.HEAD.matches(request.getMethod()) || count <= 0) {
+            return;
+        }
+        transfer(request, response, filePath, start, count);
+    }
+
+    // 단일 Range 만 처리한다. 다중 Range 나 If-Range 불일치는 전체 응답 (RFC 9110 에서 허용)
+    private HttpRange resolveRange(HttpServletRequest request, String etag) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private boolean isSatisfiable(HttpRange range, long length) {
+        try {
+            return range.getRangeStart(length) <= range.getRangeEnd(length);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private void transfer(HttpServletRequest request, HttpServletResponse response, Path filePath, long start, long count)
+            throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, filePath.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
     }
 }
@@ -0,0 +1,18 @@
+package capstone.cycle.file.dto;
+
+// 로컬 파일 서빙에 필요한 메타데이터 스냅샷 (FileMetadataCache 에 보관)
+// contentAddressed 면 객체 키가 내용 해시라서 같은 URL 의 내용이 바뀌지 않는다
+public record ServedFile(
+        Long id,
+        String objectName,
+        String originalName,
+        String contentType,
+        String checksum,
+        boolean contentAddressed
+) {
+
+    // 강한 ETag (내용 주소 방식 파일만)
+    public String etag() {
+        return contentAddressed ? "\"" + checksum + "\"" : null;
+    }
+}
@@ -0,0 +1,15 @@
+package capstone.cycle.file.dto;
+
+// 스토리지에 업로드가 끝난 객체 정보 (File 행 저장 전 단계)
+// stored_blob 참조 하나를 예약한 상태이며, File 행으로 저장되거나 discard 로 해제되어야 한다
+// newlyStored 가 false 면 같은 내용의 객체가 이미 있어 업로드를 생략한 경우
+public record UploadedBlob(
+        String objectName,
+        String url,
+        String checksum,
+        long size,
+        String contentType,
+        String originalName,
+        boolean newlyStored
+) {
+}
@@ -28,6 +28,13 @@ public class File {
     private String extension;
     private String checksum;
 
+    // 리사이즈 변형 경로 (생성 전이면 null)
+    private String thumbPath;
+    private String mediumPath;
+
+    @Enumerated(EnumType.STRING)
+    private VariantStatus variantStatus;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id")
     private Post post;
@@ -46,9 +53,21 @@ public class File {
                 .size(size)
                 .extension(extension)
                 .checksum(checksum)
+                .variantStatus(contentType != null && contentType.startsWith("image/")
+                        ? VariantStatus.PENDING
+                        : VariantStatus.SKIPPED)
                 .post(post)
                 .build();
     }
+
+    // 용도에 맞는 이미지 경로 (변형이 아직 없으면 원본)
+    public String getPath(ImageVariant variant) {
+        String variantPath = switch (variant) {
+            case THUMB -> thumbPath;
+            case MEDIUM -> mediumPath;
+        };
+        return variantPath != null ? variantPath : path;
+    }
     public FileDTO toDTO() {
         return FileDTO.builder()
                 .id(this.id)
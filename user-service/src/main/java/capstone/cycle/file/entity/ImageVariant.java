@@ -0,0 +1,20 @@
+package capstone.cycle.file.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 이미지 리사이즈 변형 (긴 변 기준 최대 픽셀)
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+    THUMB("thumb", 320),    // 목록/카드용
+    MEDIUM("medium", 1080); // 미리보기용
+
+    private final String suffix;
+    private final int maxDimension;
+
+    // 원본 객체 키에서 변형 객체 키 생성 (원본이 내용 주소 방식이면 변형도 같은 내용끼리 공유된다)
+    public String objectNameOf(String originalObjectName) {
+        return originalObjectName + "_" + suffix + ".jpg";
+    }
+}
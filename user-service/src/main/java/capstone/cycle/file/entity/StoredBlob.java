@@ -0,0 +1,50 @@
+package capstone.cycle.file.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용(SHA-256) 기준으로 저장된 스토리지 객체.
+ * 같은 내용의 파일은 객체 하나를 공유하고, refCount 가 0 이 된 뒤 유예 시간이 지나면 정리된다.
+ * 업로드는 시작 전에 참조를 먼저 잡고(예약), 저장된 File 행이 그 참조를 넘겨받는다.
+ * 증감은 StoredBlobRepository 의 원자적 쿼리로만 수행한다.
+ */
+@Entity
+@Table(name = "stored_blob",
+        indexes = {
+                @Index(name = "idx_stored_blob_released", columnList = "ref_count,released_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class StoredBlob {
+
+    @Id
+    @Column(length = 64)
+    private String checksum;
+
+    @Column(nullable = false)
+    private String objectName;
+
+    private long size;
+
+    private String contentType;
+
+    @Column(nullable = false)
+    private int refCount;
+
+    // 스토리지 객체 업로드가 한 번이라도 끝났는지 (false 면 업로드 중이거나 실패한 예약뿐)
+    @Column(nullable = false)
+    private boolean uploaded;
+
+    // 마지막 참조가 해제된 시각 (참조 중이면 null)
+    private LocalDateTime releasedAt;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,9 @@
+package capstone.cycle.file.entity;
+
+// 이미지 변형 생성 상태
+public enum VariantStatus {
+    PENDING,  // 생성 대기 (업로드 직후 또는 backfill 대상)
+    READY,
+    FAILED,
+    SKIPPED   // 이미지가 아니어서 생성하지 않음
+}
@@ -1,9 +1,12 @@
 package capstone.cycle.file.repository;
 
 import capstone.cycle.file.entity.File;
+import capstone.cycle.file.entity.VariantStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -12,4 +15,18 @@ public interface FileRepository extends CrudRepository<File, Long> {
     @Modifying
     @Query("delete from File f where f.id in :ids")
     void deleteFilesByIds(List<Long> ids);
+
+    @Modifying
+    @Query("update File f set f.thumbPath = :thumbPath, f.mediumPath = :mediumPath, f.variantStatus = :status " +
+            "where f.id = :id")
+    int updateVariants(@Param("id") Long id,
+                       @Param("thumbPath") String thumbPath,
+                       @Param("mediumPath") String mediumPath,
+                       @Param("status") VariantStatus status);
+
+    // 변형 생성 대상 (기존 파일은 상태가 비어 있음). id 순으로 이어서 처리할 수 있다
+    @Query("select f.id from File f " +
+            "where (f.variantStatus is null or f.variantStatus = capstone.cycle.file.entity.VariantStatus.PENDING) " +
+            "and f.id > :lastId order by f.id")
+    List<Long> findVariantPendingIds(@Param("lastId") Long lastId, Pageable pageable);
 }
@@ -0,0 +1,60 @@
+package capstone.cycle.file.repository;
+
+import capstone.cycle.file.entity.StoredBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface StoredBlobRepository extends JpaRepository<StoredBlob, String> {
+
+    // 참조 추가(업로드 전 예약). 처음이면 행을 만들고, 있으면 refCount 를 올린다
+    // 정리 중인 행은 잠겨 있으므로 정리가 끝난 뒤 새 행으로 만들어진다
+    @Modifying
+    @Query(value = "INSERT INTO stored_blob (checksum, object_name, size, content_type, ref_count, uploaded, created_at) " +
+            "VALUES (:checksum, :objectName, :size, :contentType, 1, FALSE, NOW()) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, released_at = NULL",
+            nativeQuery = true)
+    int acquire(
+            @Param("checksum") String checksum,
+            @Param("objectName") String objectName,
+            @Param("size") long size,
+            @Param("contentType") String contentType
+    );
+
+    // 참조 해제. 마지막 참조였으면 해제 시각을 남긴다 (released_at 을 먼저 계산해야 감소 전 값으로 판단된다)
+    @Modifying
+    @Query(value = "UPDATE stored_blob " +
+            "SET released_at = CASE WHEN ref_count <= 1 THEN NOW() ELSE released_at END, " +
+            "ref_count = ref_count - 1 " +
+            "WHERE checksum = :checksum AND ref_count > 0",
+            nativeQuery = true)
+    int release(@Param("checksum") String checksum);
+
+    // 예약한 참조가 있는 상태에서 업로드가 이미 끝난 객체인지 (업로드 생략 여부 판단)
+    @Query("SELECT b.uploaded FROM StoredBlob b WHERE b.checksum = :checksum")
+    Optional<Boolean> findUploadedByChecksum(@Param("checksum") String checksum);
+
+    @Modifying
+    @Query("UPDATE StoredBlob b SET b.uploaded = true WHERE b.checksum = :checksum")
+    int markUploaded(@Param("checksum") String checksum);
+
+    @Query("SELECT b FROM StoredBlob b WHERE b.refCount = 0 AND b.releasedAt < :threshold")
+    List<StoredBlob> findReleasedBefore(@Param("threshold") LocalDateTime threshold, Pageable pageable);
+
+    // 정리 대상 행을 잠근다. 잠긴 동안 예약(acquire)은 대기하므로 잠근 쪽만 객체를 지울 수 있다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM StoredBlob b " +
+            "WHERE b.checksum = :checksum AND b.refCount = 0 AND b.releasedAt < :threshold")
+    Optional<StoredBlob> lockReleasedBefore(
+            @Param("checksum") String checksum,
+            @Param("threshold") LocalDateTime threshold
+    );
+}
@@ -0,0 +1,59 @@
+package capstone.cycle.file.scheduler;
+
+import capstone.cycle.file.repository.FileRepository;
+import capstone.cycle.file.service.ImageVariantProcessor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+
+/**
+ * 변형이 없는 기존 파일과 작업 큐에서 밀려난 파일의 변형을 조금씩 생성한다.
+ * 처리된 파일은 PENDING/null 상태에서 벗어나므로 중단되어도 다음 실행에서 남은 파일부터 이어진다.
+ * 마지막으로 본 id 이후부터 조회하고, 끝까지 가면 처음부터 다시 훑는다.
+ * 작업 큐에 이미 들어가 있는 파일은 건너뛰어 같은 파일을 두 번 처리하지 않는다.
+ * 변형 생성은 ImageVariantProcessor 의 작업 풀에 넘기므로 공용 스케줄러 스레드는 조회와 제출 동안만 점유한다.
+ */
+@Slf4j
+@Component
+public class ImageVariantBackfillScheduler {
+
+    private final FileRepository fileRepository;
+    private final ImageVariantProcessor imageVariantProcessor;
+    private final int batchSize;
+    private long lastFileId = 0L;
+
+    public ImageVariantBackfillScheduler(
+            FileRepository fileRepository,
+            ImageVariantProcessor imageVariantProcessor,
+            @Value("${file.variant.backfill-batch-size:50}") int batchSize
+    ) {
+        this.fileRepository = fileRepository;
+        this.imageVariantProcessor = imageVariantProcessor;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${file.variant.backfill-interval-ms:600000}") // 기본 10분마다 실행
+    public void backfillVariants() {
+        try {
+            List<Long> fileIds = fileRepository.findVariantPendingIds(lastFileId, PageRequest.of(0, batchSize));
+            if (fileIds.isEmpty()) {
+                lastFileId = 0L;
+                return;
+            }
+
+            // 큐가 차서 넣지 못한 파일은 다음 실행에서 그 파일부터 다시 조회한다
+            // 실패한 파일은 FAILED 로 바뀌므로 다시 조회되지 않는다
+            int handled = imageVariantProcessor.submitBackfill(fileIds);
+            if (handled > 0) {
+                lastFileId = fileIds.get(handled - 1);
+            }
+            log.info("Queued image variant backfill for {} of {} files", handled, fileIds.size());
+        } catch (Exception e) {
+            log.error("Error during image variant backfill", e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package capstone.cycle.file.scheduler;
+
+import capstone.cycle.file.service.StoredBlobCollector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoredBlobCollectScheduler {
+
+    private final StoredBlobCollector storedBlobCollector;
+
+    @Scheduled(cron = "0 15 * * * *") // 매시 15분에 실행
+    public void collectUnreferencedBlobs() {
+        try {
+            int deleted = storedBlobCollector.collect();
+            if (deleted > 0) {
+                log.info("Deleted {} unreferenced blobs", deleted);
+            }
+        } catch (Exception e) {
+            log.error("Error during unreferenced blob collection", e);
+        }
+    }
+}
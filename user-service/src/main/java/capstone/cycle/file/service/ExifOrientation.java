@@ -0,0 +1,115 @@
+package capstone.cycle.file.service;
+
+import org.w3c.dom.Node;
+
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * JPEG EXIF(APP1) 의 Orientation 태그 처리.
+ * 휴대폰 사진은 픽셀을 회전하지 않고 이 태그만 남기므로, 변형을 만들기 전에 픽셀에 먼저 적용해야 한다.
+ */
+final class ExifOrientation {
+
+    static final int NORMAL = 1;
+
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final int APP1_MARKER = 0xE1;
+    private static final byte[] EXIF_HEADER = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    private ExifOrientation() {
+    }
+
+    // JPEG 메타데이터에서 Orientation 값(1~8)을 읽는다. 없거나 읽을 수 없으면 NORMAL
+    static int read(IIOMetadata metadata) {
+        if (metadata == null || !Arrays.asList(metadata.getMetadataFormatNames()).contains(JPEG_METADATA_FORMAT)) {
+            return NORMAL;
+        }
+        Node root = metadata.getAsTree(JPEG_METADATA_FORMAT);
+        for (Node child = root.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (!"markerSequence".equals(child.getNodeName())) {
+                continue;
+            }
+            for (Node marker = child.getFirstChild(); marker != null; marker = marker.getNextSibling()) {
+                if (marker instanceof IIOMetadataNode node
+                        && "unknown".equals(node.getNodeName())
+                        && String.valueOf(APP1_MARKER).equals(node.getAttribute("MarkerTag"))
+                        && node.getUserObject() instanceof byte[] data) {
+                    int orientation = parseApp1(data);
+                    if (orientation != NORMAL) {
+                        return orientation;
+                    }
+                }
+            }
+        }
+        return NORMAL;
+    }
+
+    // APP1 = "Exif\0\0" + TIFF 헤더 + IFD0. IFD0 에서 Orientation 태그만 찾는다
+    private static int parseApp1(byte[] data) {
+        if (data.length < EXIF_HEADER.length + 8
+                || !Arrays.equals(data, 0, EXIF_HEADER.length, EXIF_HEADER, 0, EXIF_HEADER.length)) {
+            return NORMAL;
+        }
+        ByteBuffer tiff = ByteBuffer.wrap(data, EXIF_HEADER.length, data.length - EXIF_HEADER.length).slice();
+        if (tiff.get(0) == 'I' && tiff.get(1) == 'I') {
+            tiff.order(ByteOrder.LITTLE_ENDIAN);
+        } else if (tiff.get(0) != 'M' || tiff.get(1) != 'M') {
+            return NORMAL;
+        }
+
+        try {
+            int ifdOffset = tiff.getInt(4);
+            int entries = Short.toUnsignedInt(tiff.getShort(ifdOffset));
+            for (int i = 0; i < entries; i++) {
+                int entry = ifdOffset + 2 + i * 12;
+                if (Short.toUnsignedInt(tiff.getShort(entry)) == ORIENTATION_TAG) {
+                    int value = Short.toUnsignedInt(tiff.getShort(entry + 8));
+                    return value >= 1 && value <= 8 ? value : NORMAL;
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            // 잘린 EXIF 는 무시
+        }
+        return NORMAL;
+    }
+
+    // Orientation 에 맞게 픽셀을 회전/반전한 새 이미지 (5~8 은 가로세로가 바뀐다)
+    static BufferedImage apply(BufferedImage source, int orientation) {
+        if (orientation <= NORMAL || orientation > 8) {
+            return source;
+        }
+        int width = source.getWidth();
+        int height = source.getHeight();
+
+        // 인자 순서는 (m00, m10, m01, m11, m02, m12): (x, y) -> (m00*x + m01*y + m02, m10*x + m11*y + m12)
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);      // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height); // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);     // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);           // 전치
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);     // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width); // 역전치
+            default -> new AffineTransform(0, -1, 1, 0, 0, width);     // 반시계 방향 90도
+        };
+
+        boolean swapped = orientation >= 5;
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage target = new BufferedImage(swapped ? height : width, swapped ? width : height, type);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,91 @@
+package capstone.cycle.file.service;
+
+import capstone.cycle.file.dto.ServedFile;
+import capstone.cycle.file.entity.File;
+import capstone.cycle.file.error.FileErrorResult;
+import capstone.cycle.file.error.FileException;
+import capstone.cycle.file.repository.FileRepository;
+import capstone.cycle.file.storage.BlobStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파일 서빙용 메타데이터 LRU 캐시.
+ * File 행은 생성 후 내용이 바뀌지 않으므로 삭제가 커밋된 시점에만 무효화하면 되고, 자주 조회되는 이미지는 DB 를 거치지 않는다.
+ */
+@Component
+public class FileMetadataCache {
+
+    private final FileRepository fileRepository;
+    private final BlobStorage blobStorage;
+    private final Map<Long, ServedFile> entries;
+
+    public FileMetadataCache(
+            FileRepository fileRepository,
+            BlobStorage blobStorage,
+            @Value("${file.metadata-cache.max-size:2000}") int maxSize
+    ) {
+        this.fileRepository = fileRepository;
+        this.blobStorage = blobStorage;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ServedFile> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    public ServedFile get(Long fileId) {
+        ServedFile cached = entries.get(fileId);
+        if (cached != null) {
+            return cached;
+        }
+        // 동시에 같은 id 를 조회하면 DB 를 중복으로 읽을 수 있지만 결과는 같다
+        ServedFile loaded = fileRepository.findById(fileId)
+                .map(this::toServedFile)
+                .orElseThrow(() -> new FileException(FileErrorResult.FILE_NOT_FOUND));
+        entries.put(fileId, loaded);
+        return loaded;
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 무효화 (커밋 전 조회로 삭제될 행이 다시 캐시되는 것 방지)
+    public void evict(Long fileId) {
+        evictAll(List.of(fileId));
+    }
+
+    public void evictAll(Collection<Long> fileIds) {
+        List<Long> evicted = List.copyOf(fileIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evicted.forEach(entries::remove);
+                }
+            });
+            return;
+        }
+        evicted.forEach(entries::remove);
+    }
+
+    // 내용 주소 방식 이전 파일은 업로드 디렉터리에 UUID 이름으로 저장되어 있다
+    private ServedFile toServedFile(File file) {
+        String objectName = blobStorage.objectNameOf(file.getPath());
+        boolean contentAddressed = objectName != null && objectName.equals(file.getChecksum());
+        return new ServedFile(
+                file.getId(),
+                objectName != null ? objectName : file.getName(),
+                file.getOriginalName(),
+                file.getContentType(),
+                file.getChecksum(),
+                contentAddressed
+        );
+    }
+}
@@ -1,5 +1,6 @@
 package capstone.cycle.file.service;
 
+import capstone.cycle.file.dto.UploadedBlob;
 import capstone.cycle.file.entity.File;
 import capstone.cycle.post.entity.Post;
 import org.springframework.web.multipart.MultipartFile;
@@ -13,6 +14,15 @@ public interface FileService {
 
     List<File> uploadFiles(Post post,List<MultipartFile> files);
 
+    // 스토리지 업로드만 수행 (DB 트랜잭션 밖에서 호출)
+    List<UploadedBlob> storeBlobs(List<MultipartFile> files);
+
+    // 업로드가 끝난 객체의 File 행 저장
+    List<File> saveFiles(Post post, List<UploadedBlob> blobs);
+
+    // 저장하지 못한 업로드 객체 정리
+    void discardBlobs(List<UploadedBlob> blobs);
+
     void deleteFile(Long fileId);
 
     void deleteFiles(List<File> files);
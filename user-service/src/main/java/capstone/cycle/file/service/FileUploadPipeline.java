@@ -0,0 +1,195 @@
+package capstone.cycle.file.service;
+
+import capstone.cycle.file.dto.UploadedBlob;
+import capstone.cycle.file.error.FileErrorResult;
+import capstone.cycle.file.error.FileException;
+import capstone.cycle.file.repository.StoredBlobRepository;
+import capstone.cycle.file.storage.BlobStorage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 파일을 스토리지로 병렬 전송한다.
+ * 객체 키는 내용의 SHA-256 이며, 같은 내용이 이미 저장되어 있으면 네트워크 업로드를 생략한다.
+ * 업로드 전에 stored_blob 참조를 먼저 예약하므로, 업로드 중인 객체를 StoredBlobCollector 가 지우지 않는다.
+ * 예약한 참조는 File 행이 넘겨받거나 discard 에서 해제된다 (객체 삭제는 행을 잠근 StoredBlobCollector 만 한다).
+ * 해시 계산과 업로드 모두 힙에 전체를 올리지 않고 청크 단위로 스트리밍한다.
+ * 하나라도 실패하면 이번 요청에서 예약한 참조를 모두 해제하고 예외를 던진다.
+ */
+@Slf4j
+@Component
+public class FileUploadPipeline {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final BlobStorage blobStorage;
+    private final StoredBlobRepository storedBlobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+
+    public FileUploadPipeline(
+            BlobStorage blobStorage,
+            StoredBlobRepository storedBlobRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${file.upload.concurrency:4}") int concurrency,
+            @Value("${file.upload.queue-capacity:64}") int queueCapacity
+    ) {
+        this.blobStorage = blobStorage;
+        this.storedBlobRepository = storedBlobRepository;
+        this.transactionTemplate = transactionTemplate;
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 큐가 가득 차면 호출 스레드가 직접 업로드 (전체 동시 업로드 수 제한)
+        this.executor = new ThreadPoolExecutor(
+                concurrency, concurrency,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "file-upload-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    public List<UploadedBlob> upload(List<MultipartFile> files) {
+        if (files == null || files.isEmpty()) {
+            return List.of();
+        }
+
+        List<Future<UploadedBlob>> futures = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            futures.add(executor.submit(() -> uploadOne(file)));
+        }
+
+        // 모든 업로드가 끝날 때까지 기다린 뒤 실패가 있으면 성공한 객체까지 정리
+        List<UploadedBlob> uploaded = new ArrayList<>(files.size());
+        Exception failure = null;
+        for (Future<UploadedBlob> future : futures) {
+            try {
+                uploaded.add(future.get());
+            } catch (ExecutionException e) {
+                failure = e;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = e;
+            }
+        }
+
+        if (failure != null) {
+            log.error("File upload failed, discarding {} uploaded blobs", uploaded.size(), failure);
+            discard(uploaded);
+            throw new FileException(FileErrorResult.UPLOAD_FAIL);
+        }
+        return uploaded;
+    }
+
+    // 이번 요청에서 예약한 참조 해제. 참조가 0 이 된 객체는 StoredBlobCollector 가 행을 잠그고 정리한다
+    public void discard(List<UploadedBlob> blobs) {
+        for (UploadedBlob blob : blobs) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> storedBlobRepository.release(blob.checksum()));
+            } catch (RuntimeException e) {
+                log.warn("Failed to release reserved blob: {}", blob.objectName(), e);
+            }
+        }
+    }
+
+    private UploadedBlob uploadOne(MultipartFile file) throws IOException {
+        // 1. 로컬(임시 파일/메모리)의 업로드 파트를 읽어 내용 해시 계산
+        MessageDigest digest = sha256();
+        long size = 0;
+        try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                size += read;
+            }
+        }
+        String checksum = HexFormat.of().formatHex(digest.digest());
+        String objectName = checksum;
+
+        // 2. 업로드 전에 참조를 예약. 같은 내용의 업로드가 이미 끝나 있으면 업로드 생략
+        boolean alreadyUploaded = reserve(checksum, objectName, size, file.getContentType());
+        UploadedBlob blob = toUploadedBlob(file, objectName, checksum, size, !alreadyUploaded);
+        if (alreadyUploaded) {
+            return blob;
+        }
+
+        // 3. 해시를 키로 스트리밍 업로드 (동시에 같은 내용을 올려도 같은 객체를 덮어쓸 뿐이다)
+        try {
+            try (InputStream in = file.getInputStream();
+                 WritableByteChannel channel = blobStorage.openWriter(objectName, file.getContentType())) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                    while (chunk.hasRemaining()) {
+                        channel.write(chunk);
+                    }
+                }
+            }
+            transactionTemplate.executeWithoutResult(status -> storedBlobRepository.markUploaded(checksum));
+        } catch (IOException | RuntimeException e) {
+            // 일부만 쓰인 객체는 예약 해제 후 참조가 없으면 StoredBlobCollector 가 정리
+            discard(List.of(blob));
+            throw e;
+        }
+        return blob;
+    }
+
+    // 참조를 하나 잡고, 그 객체의 업로드가 이미 끝났는지 반환
+    private boolean reserve(String checksum, String objectName, long size, String contentType) {
+        Boolean uploaded = transactionTemplate.execute(status -> {
+            storedBlobRepository.acquire(checksum, objectName, size, contentType);
+            return storedBlobRepository.findUploadedByChecksum(checksum).orElse(false);
+        });
+        return Boolean.TRUE.equals(uploaded);
+    }
+
+    private UploadedBlob toUploadedBlob(MultipartFile file, String objectName, String checksum, long size, boolean newlyStored) {
+        return new UploadedBlob(
+                objectName,
+                blobStorage.urlOf(objectName),
+                checksum,
+                size,
+                file.getContentType(),
+                file.getOriginalFilename(),
+                newlyStored
+        );
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not found", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,298 @@
+package capstone.cycle.file.service;
+
+import capstone.cycle.file.entity.File;
+import capstone.cycle.file.entity.ImageVariant;
+import capstone.cycle.file.entity.VariantStatus;
+import capstone.cycle.file.repository.FileRepository;
+import capstone.cycle.file.storage.BlobStorage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드된 이미지의 리사이즈 변형(thumb, medium)을 JPEG 로 재압축해서 만든다.
+ * 요청 스레드와 분리된 작업 풀에서 실행되며, 큐가 가득 차면 작업을 버리고 PENDING 상태로 남겨 backfill 이 처리하게 한다.
+ * 디코딩 전에 헤더의 가로/세로만 읽어 픽셀 수가 예산을 넘는 이미지는 건너뛰고,
+ * 큰 이미지는 가장 큰 변형의 2배 정도로 줄여(subsampling) 디코딩한다. EXIF 회전은 축소 전에 적용한다.
+ * 큐에 들어간 파일 id 를 기억해서 backfill 이 같은 파일을 다시 처리하지 않게 한다.
+ * backfill 도 같은 작업 풀에 넣되, 업로드 작업이 들어갈 자리를 남기도록 큐의 절반까지만 채운다.
+ */
+@Slf4j
+@Component
+public class ImageVariantProcessor {
+
+    private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+    private static final int MAX_VARIANT_DIMENSION = Arrays.stream(ImageVariant.values())
+            .mapToInt(ImageVariant::getMaxDimension)
+            .max()
+            .orElseThrow();
+
+    private final FileRepository fileRepository;
+    private final BlobStorage blobStorage;
+    private final TransactionTemplate transactionTemplate;
+    private final float jpegQuality;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+    private final int backfillQueueLimit;
+    // 작업 큐에 있거나 처리 중인 파일 id
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public ImageVariantProcessor(
+            FileRepository fileRepository,
+            BlobStorage blobStorage,
+            TransactionTemplate transactionTemplate,
+            @Value("${file.variant.jpeg-quality:0.8}") float jpegQuality,
+            @Value("${file.variant.max-pixels:50000000}") long maxPixels,
+            @Value("${file.variant.concurrency:2}") int concurrency,
+            @Value("${file.variant.queue-capacity:200}") int queueCapacity
+    ) {
+        this.fileRepository = fileRepository;
+        this.blobStorage = blobStorage;
+        this.transactionTemplate = transactionTemplate;
+        this.jpegQuality = jpegQuality;
+        this.maxPixels = maxPixels;
+        this.backfillQueueLimit = queueCapacity / 2;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                concurrency, concurrency,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 작업을 넣는다 (File 행이 보이기 전에 처리하지 않도록)
+    public void submitAfterCommit(List<Long> fileIds) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(fileIds);
+                }
+            });
+            return;
+        }
+        submit(fileIds);
+    }
+
+    public void submit(List<Long> fileIds) {
+        for (Long fileId : fileIds) {
+            if (!enqueue(fileId)) {
+                log.warn("Image variant queue is full, leaving file {} for backfill", fileId);
+            }
+        }
+    }
+
+    // backfill 용. 큐가 backfillQueueLimit 만큼 차면 멈추고, 앞에서부터 넣었거나(이미 처리 중인 파일 포함) 넘긴 파일 수를 돌려준다
+    // 호출한 스케줄러 스레드는 변형 생성을 기다리지 않는다
+    public int submitBackfill(List<Long> fileIds) {
+        int handled = 0;
+        for (Long fileId : fileIds) {
+            boolean queued = inFlight.contains(fileId)
+                    || executor.getQueue().size() < backfillQueueLimit && enqueue(fileId);
+            if (!queued) {
+                break;
+            }
+            handled++;
+        }
+        return handled;
+    }
+
+    // 이미 큐에 있거나 처리 중이면 넣지 않고 true, 큐가 가득 차서 넣지 못하면 false
+    private boolean enqueue(Long fileId) {
+        if (!inFlight.add(fileId)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(fileId);
+                } finally {
+                    inFlight.remove(fileId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(fileId);
+            return false;
+        }
+    }
+
+    // 호출 스레드에서 바로 변형 생성. 이미 큐에 있거나 처리 중이면 건너뛴다
+    public void process(Long fileId) {
+        if (!inFlight.add(fileId)) {
+            return;
+        }
+        try {
+            generate(fileId);
+        } finally {
+            inFlight.remove(fileId);
+        }
+    }
+
+    // 변형 하나를 만들고 상태를 기록
+    private void generate(Long fileId) {
+        File file = fileRepository.findById(fileId).orElse(null);
+        if (file == null || file.getVariantStatus() == VariantStatus.READY
+                || file.getVariantStatus() == VariantStatus.SKIPPED) {
+            return;
+        }
+
+        String objectName = blobStorage.objectNameOf(file.getPath());
+        if (objectName == null || file.getContentType() == null || !file.getContentType().startsWith("image/")) {
+            updateVariants(fileId, null, null, VariantStatus.SKIPPED);
+            return;
+        }
+
+        try {
+            BufferedImage original = readOriented(fileId, objectName);
+            if (original == null) {
+                updateVariants(fileId, null, null, VariantStatus.SKIPPED);
+                return;
+            }
+
+            Map<ImageVariant, String> paths = new EnumMap<>(ImageVariant.class);
+            for (ImageVariant variant : ImageVariant.values()) {
+                String variantObjectName = variant.objectNameOf(objectName);
+                writeJpeg(resize(original, variant.getMaxDimension()), variantObjectName);
+                paths.put(variant, blobStorage.urlOf(variantObjectName));
+            }
+            updateVariants(fileId, paths.get(ImageVariant.THUMB), paths.get(ImageVariant.MEDIUM), VariantStatus.READY);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to generate image variants for file {}", fileId, e);
+            updateVariants(fileId, null, null, VariantStatus.FAILED);
+        }
+    }
+
+    // 헤더로 크기를 먼저 확인하고, 변형에 필요한 만큼만 줄여 디코딩한 뒤 EXIF 회전을 적용
+    // 읽을 수 없는 형식(예: HEIC, WebP)이거나 픽셀 예산을 넘으면 null
+    private BufferedImage readOriented(Long fileId, String objectName) throws IOException {
+        try (InputStream in = blobStorage.openReader(objectName);
+             ImageInputStream imageIn = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = imageIn != null ? ImageIO.getImageReaders(imageIn) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageIn, true, false);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.warn("Skipping image variants for file {}: {}x{} exceeds pixel budget", fileId, width, height);
+                    return null;
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(width, height) / (MAX_VARIANT_DIMENSION * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+
+                BufferedImage decoded = reader.read(0, param);
+                return ExifOrientation.apply(decoded, readOrientation(reader));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 원본 객체가 지워질 때 함께 정리
+    public void deleteVariants(String originalObjectName) {
+        for (ImageVariant variant : ImageVariant.values()) {
+            blobStorage.delete(variant.objectNameOf(originalObjectName));
+        }
+    }
+
+    private void updateVariants(Long fileId, String thumbPath, String mediumPath, VariantStatus status) {
+        transactionTemplate.executeWithoutResult(
+                txStatus -> fileRepository.updateVariants(fileId, thumbPath, mediumPath, status));
+    }
+
+    // 긴 변이 maxDimension 을 넘지 않도록 축소 (작은 이미지는 크기 유지). 투명 배경은 흰색으로 채운다
+    private BufferedImage resize(BufferedImage source, int maxDimension) {
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    // 메타데이터가 깨져 있어도 픽셀은 읽을 수 있으므로 회전 없이 진행
+    private int readOrientation(ImageReader reader) {
+        try {
+            return ExifOrientation.read(reader.getImageMetadata(0));
+        } catch (IOException | RuntimeException e) {
+            return ExifOrientation.NORMAL;
+        }
+    }
+
+    private void writeJpeg(BufferedImage image, String objectName) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+
+        try (WritableByteChannel channel = blobStorage.openWriter(objectName, VARIANT_CONTENT_TYPE);
+             OutputStream out = Channels.newOutputStream(channel);
+             ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOut);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,30 +1,23 @@
 package capstone.cycle.file.service;
 
+import capstone.cycle.file.dto.UploadedBlob;
 import capstone.cycle.file.entity.File;
+import capstone.cycle.file.entity.VariantStatus;
 import capstone.cycle.file.error.FileErrorResult;
 import capstone.cycle.file.error.FileException;
 import capstone.cycle.file.repository.FileRepository;
+import capstone.cycle.file.repository.StoredBlobRepository;
+import capstone.cycle.file.storage.BlobStorage;
 import capstone.cycle.post.entity.Post;
-import com.google.cloud.storage.BlobInfo;
-import com.google.cloud.storage.Storage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -33,64 +26,87 @@ public class LocalFileServiceImpl implements FileService {
 
     private final FileRepository fileRepository;
 
-    private final Storage storage;
-    @Value("${cloud.gcp.storage.bucket}")
-    private String bucketName;
-    @Value("${google.cloud.storage.url}")
-    private String bucketUrl;
+    private final FileUploadPipeline fileUploadPipeline;
+    private final StoredBlobRepository storedBlobRepository;
+    private final BlobStorage blobStorage;
+    private final ImageVariantProcessor imageVariantProcessor;
+    private final FileMetadataCache fileMetadataCache;
 
 
+    // 업로드는 트랜잭션을 열지 않고, 호출 측 트랜잭션이 있으면 File 저장만 그 안에서 수행된다
     @Override
-    @Transactional
     public File uploadFile(Post post, MultipartFile file) {
+        return uploadFiles(post, List.of(file)).get(0);
+    }
+
+    @Override
+    public List<File> uploadFiles(Post post, List<MultipartFile> files) {
+        List<UploadedBlob> blobs = storeBlobs(files);
         try {
+            return saveFiles(post, blobs);
+        } catch (RuntimeException e) {
+            discardBlobs(blobs);
+            throw e;
+        }
+    }
 
-            String uuid = UUID.randomUUID().toString();
-            String ext = file.getContentType();
-            storage.create(BlobInfo.newBuilder(bucketName, uuid).setContentType(ext).build(), file.getBytes());
+    @Override
+    public List<UploadedBlob> storeBlobs(List<MultipartFile> files) {
+        return fileUploadPipeline.upload(files);
+    }
 
-            String fileName = generateFileName(file);
-            String targetLocation = bucketUrl + uuid;
+    @Override
+    @Transactional
+    public List<File> saveFiles(Post post, List<UploadedBlob> blobs) {
+        if (blobs.isEmpty()) {
+            return List.of();
+        }
+        // 같은 내용을 공유하는 File 행마다 참조 하나씩. 참조는 업로드 시 예약해 둔 것을 그대로 넘겨받는다
+        List<File> files = blobs.stream()
+                .map(blob -> createFileEntity(blob, post))
+                .toList();
 
-            File fileEntity = createFileEntity(file, targetLocation, fileName, post);
+        List<File> savedFiles = new ArrayList<>(files.size());
+        fileRepository.saveAll(files).forEach(savedFiles::add);
 
-            return fileRepository.save(fileEntity);
-        } catch (IOException e) {
-            log.error("File upload failed", e);
-            throw new FileException(FileErrorResult.UPLOAD_FAIL);
+        // 리사이즈 변형은 커밋 이후 별도 풀에서 생성 (응답 지연 없음)
+        List<Long> imageFileIds = savedFiles.stream()
+                .filter(file -> file.getVariantStatus() == VariantStatus.PENDING)
+                .map(File::getId)
+                .toList();
+        if (!imageFileIds.isEmpty()) {
+            imageVariantProcessor.submitAfterCommit(imageFileIds);
         }
+        return savedFiles;
     }
 
     @Override
-    @Transactional
-    public List<File> uploadFiles(Post post, List<MultipartFile> files) {
-        return files.stream()
-                .map((file)->uploadFile(post,file))
-                .toList();
+    public void discardBlobs(List<UploadedBlob> blobs) {
+        fileUploadPipeline.discard(blobs);
     }
 
     @Override
     @Transactional
     public void deleteFile(Long fileId) {
         File file = getFile(fileId);
-        try {
-            Files.deleteIfExists(Paths.get(file.getPath()));
-            fileRepository.delete(file);
-            log.info("Successfully deleted file with ID: {}", fileId);
-        } catch (IOException e) {
-            log.error("File deletion failed for file ID: {}", fileId, e);
-            throw new FileException(FileErrorResult.DELETE_FAIL);
-        }
+        releaseBlob(file);
+        fileRepository.delete(file);
+        fileMetadataCache.evict(fileId);
+        log.info("Successfully deleted file with ID: {}", fileId);
     }
 
     @Override
     public void deleteFiles(List<File> files) {
+        files.forEach(this::releaseBlob);
         fileRepository.deleteAll(files);
+        fileMetadataCache.evictAll(files.stream().map(File::getId).toList());
     }
 
     @Override
     public void deleteFilesByFileIds(List<Long> fileIds) {
+        fileRepository.findAllById(fileIds).forEach(this::releaseBlob);
         fileRepository.deleteFilesByIds(fileIds);
+        fileMetadataCache.evictAll(fileIds);
     }
 
     @Override
@@ -99,20 +115,29 @@ public class LocalFileServiceImpl implements FileService {
                 .orElseThrow(() -> new FileException(FileErrorResult.FILE_NOT_FOUND));
     }
 
-    private String generateFileName(MultipartFile file) {
-        return UUID.randomUUID().toString() + getFileExtension(file.getOriginalFilename());
+    // 스토리지 객체는 바로 지우지 않고 참조만 해제 (참조가 0 이 된 객체는 StoredBlobCollector 가 정리)
+    // 내용 주소 방식 이전에 업로드된 파일은 공유 객체가 아니므로 건너뛴다
+    private void releaseBlob(File file) {
+        String checksum = file.getChecksum();
+        if (checksum != null && blobStorage.urlOf(checksum).equals(file.getPath())) {
+            storedBlobRepository.release(checksum);
+        }
+    }
+
+    private String generateFileName(String originalName) {
+        return UUID.randomUUID().toString() + getFileExtension(originalName);
     }
 
 
-    private File createFileEntity(MultipartFile file, String targetLocation, String fileName, Post post) throws IOException {
+    private File createFileEntity(UploadedBlob blob, Post post) {
         return File.createFile(
-                fileName,
-                file.getOriginalFilename(),
-                targetLocation,
-                file.getContentType(),
-                file.getSize(),
-                getFileExtension(file.getOriginalFilename()),
-                calculateChecksum(file.getInputStream()),
+                generateFileName(blob.originalName()),
+                blob.originalName(),
+                blob.url(),
+                blob.contentType(),
+                blob.size(),
+                getFileExtension(blob.originalName()),
+                blob.checksum(),
                 post
         );
     }
@@ -122,35 +147,4 @@ public class LocalFileServiceImpl implements FileService {
         return fileName.substring(fileName.lastIndexOf("."));
     }
 
-    private String calculateChecksum(Path file) throws IOException {
-        try (InputStream is = Files.newInputStream(file)) {
-            return calculateChecksum(is);
-        }
-    }
-
-    private String calculateChecksum(InputStream inputStream) throws IOException {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] buffer = new byte[8192];
-            int read;
-            while ((read = inputStream.read(buffer)) > 0) {
-                digest.update(buffer, 0, read);
-            }
-            byte[] hash = digest.digest();
-            return bytesToHex(hash);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 algorithm not found", e);
-        }
-    }
-
-    private static String bytesToHex(byte[] hash) {
-        StringBuilder hexString = new StringBuilder();
-        for (byte b : hash) {
-            String hex = Integer.toHexString(0xff & b);
-            if (hex.length() == 1) hexString.append('0');
-            hexString.append(hex);
-        }
-        return hexString.toString();
-    }
-
 }
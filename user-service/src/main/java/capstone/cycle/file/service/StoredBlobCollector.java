@@ -0,0 +1,78 @@
+package capstone.cycle.file.service;
+
+import capstone.cycle.file.entity.StoredBlob;
+import capstone.cycle.file.repository.StoredBlobRepository;
+import capstone.cycle.file.storage.BlobStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 참조가 모두 해제된 스토리지 객체 정리.
+ * 유예 시간이 지난 행을 FOR UPDATE 로 잠근 트랜잭션 안에서 스토리지 객체와 행을 함께 지운다.
+ * 잠긴 동안 새 업로드의 예약은 대기하므로, 지운 뒤에 다시 올라온 객체를 지우는 일은 없다.
+ * 스토리지 삭제가 실패하면 행도 롤백되어 다음 주기에 다시 시도한다.
+ */
+@Slf4j
+@Component
+public class StoredBlobCollector {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final StoredBlobRepository storedBlobRepository;
+    private final BlobStorage blobStorage;
+    private final ImageVariantProcessor imageVariantProcessor;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration gracePeriod;
+
+    public StoredBlobCollector(
+            StoredBlobRepository storedBlobRepository,
+            BlobStorage blobStorage,
+            ImageVariantProcessor imageVariantProcessor,
+            TransactionTemplate transactionTemplate,
+            @Value("${file.blob.gc-grace-hours:1}") long gracePeriodHours
+    ) {
+        this.storedBlobRepository = storedBlobRepository;
+        this.blobStorage = blobStorage;
+        this.imageVariantProcessor = imageVariantProcessor;
+        this.transactionTemplate = transactionTemplate;
+        this.gracePeriod = Duration.ofHours(gracePeriodHours);
+    }
+
+    // 삭제한 객체 수 반환
+    public int collect() {
+        LocalDateTime threshold = LocalDateTime.now().minus(gracePeriod);
+        List<StoredBlob> candidates = storedBlobRepository.findReleasedBefore(threshold, PageRequest.of(0, BATCH_SIZE));
+
+        int deleted = 0;
+        for (StoredBlob candidate : candidates) {
+            try {
+                Boolean removed = transactionTemplate.execute(status -> deleteIfStillReleased(candidate.getChecksum(), threshold));
+                if (Boolean.TRUE.equals(removed)) {
+                    deleted++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to delete unreferenced blob: {}", candidate.getObjectName(), e);
+            }
+        }
+        return deleted;
+    }
+
+    // 잠금을 잡은 시점에도 참조가 없을 때만 삭제
+    private boolean deleteIfStillReleased(String checksum, LocalDateTime threshold) {
+        return storedBlobRepository.lockReleasedBefore(checksum, threshold)
+                .map(blob -> {
+                    blobStorage.delete(blob.getObjectName());
+                    imageVariantProcessor.deleteVariants(blob.getObjectName());
+                    storedBlobRepository.delete(blob);
+                    return true;
+                })
+                .orElse(false);
+    }
+}
@@ -0,0 +1,27 @@
+package capstone.cycle.file.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * 업로드 파일을 보관하는 객체 스토리지.
+ * 기본은 GCS 이며, file.storage.type=local 이면 로컬 디렉터리를 사용한다. (테스트/로컬 개발용)
+ */
+public interface BlobStorage {
+
+    // 스트리밍 업로드용 채널. close 시점에 업로드가 완료된다
+    WritableByteChannel openWriter(String objectName, String contentType) throws IOException;
+
+    InputStream openReader(String objectName) throws IOException;
+
+    void delete(String objectName);
+
+    String urlOf(String objectName);
+
+    // 이 스토리지의 URL 이면 객체 키, 아니면 null
+    default String objectNameOf(String url) {
+        String prefix = urlOf("");
+        return url != null && url.startsWith(prefix) ? url.substring(prefix.length()) : null;
+    }
+}
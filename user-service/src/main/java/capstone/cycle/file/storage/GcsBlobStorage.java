@@ -0,0 +1,63 @@
+package capstone.cycle.file.storage;
+
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+@Component
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "gcs", matchIfMissing = true)
+public class GcsBlobStorage implements BlobStorage {
+
+    // resumable upload 청크 단위는 256KiB 의 배수여야 한다
+    private static final int CHUNK_UNIT = 256 * 1024;
+
+    private final Storage storage;
+    private final String bucketName;
+    private final String bucketUrl;
+    private final int chunkSize;
+
+    public GcsBlobStorage(
+            Storage storage,
+            @Value("${cloud.gcp.storage.bucket}") String bucketName,
+            @Value("${google.cloud.storage.url}") String bucketUrl,
+            @Value("${file.upload.chunk-size-kb:1024}") int chunkSizeKb
+    ) {
+        this.storage = storage;
+        this.bucketName = bucketName;
+        this.bucketUrl = bucketUrl;
+        this.chunkSize = Math.max(CHUNK_UNIT, (chunkSizeKb * 1024 / CHUNK_UNIT) * CHUNK_UNIT);
+    }
+
+    @Override
+    public WritableByteChannel openWriter(String objectName, String contentType) {
+        WriteChannel writer = storage.writer(BlobInfo.newBuilder(bucketName, objectName)
+                .setContentType(contentType)
+                .build());
+        // 기본 청크(15MiB)만큼 버퍼링하지 않도록 청크 크기 제한
+        writer.setChunkSize(chunkSize);
+        return writer;
+    }
+
+    @Override
+    public InputStream openReader(String objectName) {
+        return Channels.newInputStream(storage.reader(BlobId.of(bucketName, objectName)));
+    }
+
+    @Override
+    public void delete(String objectName) {
+        storage.delete(BlobId.of(bucketName, objectName));
+    }
+
+    @Override
+    public String urlOf(String objectName) {
+        return bucketUrl + objectName;
+    }
+}
@@ -0,0 +1,55 @@
+package capstone.cycle.file.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "local")
+public class LocalBlobStorage implements BlobStorage {
+
+    private final Path root;
+
+    public LocalBlobStorage(@Value("${file.upload-dir}") String uploadDir) throws IOException {
+        this.root = Files.createDirectories(Paths.get(uploadDir));
+    }
+
+    @Override
+    public WritableByteChannel openWriter(String objectName, String contentType) throws IOException {
+        return Files.newByteChannel(resolve(objectName),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    }
+
+    @Override
+    public InputStream openReader(String objectName) throws IOException {
+        return Files.newInputStream(resolve(objectName));
+    }
+
+    @Override
+    public void delete(String objectName) {
+        try {
+            Files.deleteIfExists(resolve(objectName));
+        } catch (IOException e) {
+            log.warn("Failed to delete local blob: {}", objectName, e);
+        }
+    }
+
+    @Override
+    public String urlOf(String objectName) {
+        return resolve(objectName).toUri().toString();
+    }
+
+    private Path resolve(String objectName) {
+        return root.resolve(objectName);
+    }
+}
@@ -0,0 +1,4 @@
+package capstone.cycle.like.dto;
+
+public record LikeToggleResponse(Long postId, Long likeCount, LikeStatus likeStatus) {
+}
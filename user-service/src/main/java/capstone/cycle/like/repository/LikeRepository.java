@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,8 +17,18 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
 
     @Modifying
     @Query("DELETE FROM Like l WHERE l.post.id = :postId AND l.user.id = :userId")
-    void deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    // (post_id, user_id) 유니크 인덱스에 막히면 0을 반환 (동시 요청으로 이미 추가된 경우)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO likes (post_id, user_id, created_at) VALUES (:postId, :userId, NOW())",
+            nativeQuery = true)
+    int insertIgnore(@Param("postId") Long postId, @Param("userId") Long userId);
 
     @Query("SELECT l.post.id FROM Like l WHERE l.user.id = :userId")
     List<Long> findLikedPostIdsByUserId(@Param("userId") Long userId);
+
+    // 피드 한 페이지 분량의 게시글 중 사용자가 좋아요한 게시글 id 조회
+    @Query("SELECT l.post.id FROM Like l WHERE l.user.id = :userId AND l.post.id IN :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
 }
@@ -1,60 +1,68 @@
 package capstone.cycle.like.service;
 
 import capstone.cycle.like.dto.LikeStatus;
-import capstone.cycle.like.entity.Like;
+import capstone.cycle.like.dto.LikeToggleResponse;
 import capstone.cycle.like.repository.LikeRepository;
-import capstone.cycle.post.dto.PostResponseDTO;
-import capstone.cycle.post.entity.Post;
 import capstone.cycle.post.error.PostErrorResult;
 import capstone.cycle.post.error.PostException;
 import capstone.cycle.post.repository.PostRepository;
-import capstone.cycle.user.entity.User;
-import capstone.cycle.user.repository.UserRepository;
+import capstone.cycle.post.service.PopularPostRanking;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 public class LikeService {
 
     private final LikeRepository likeRepository;
     private final PostRepository postRepository;
-    private final UserRepository userRepository;
+    private final PopularPostRanking popularPostRanking;
 
+    // 좋아요 토글: likes 행 insert/delete 결과에 따라 like_count 를 원자적으로 증감 (Post 엔티티 조회/병합 없음)
+    // 게시글 행을 먼저 잠그므로 INSERT IGNORE 가 무시하는 것은 중복 좋아요뿐이다 (삭제된 게시글의 FK 위반은 여기서 걸러짐)
     @Transactional
-    public PostResponseDTO toggleLike(Long postId, Long userId) {
-        Post post = postRepository.findById(postId)
+    public LikeToggleResponse toggleLike(Long postId, Long userId) {
+        postRepository.lockById(postId)
                 .orElseThrow(() -> new PostException(PostErrorResult.POST_NOT_EXIST));
 
-        User user = userRepository.getReferenceById(userId);
-        boolean hasLiked = likeRepository.existsByPostIdAndUserId(postId, userId);
-
-        Post updatedPost;
         LikeStatus likeStatus;
 
-        if (hasLiked) {
-            likeRepository.deleteByPostIdAndUserId(postId, userId);
-            updatedPost = post.decrementLikeCount();
+        if (likeRepository.deleteByPostIdAndUserId(postId, userId) > 0) {
+            postRepository.decrementLikeCount(postId);
+            popularPostRanking.onLike(postId, -1);
             likeStatus = LikeStatus.UNLIKE;
         } else {
-            Like newLike = Like.createLike(post, user);
-            likeRepository.save(newLike);
-            updatedPost = post.incrementLikeCount();
+            if (likeRepository.insertIgnore(postId, userId) > 0) {
+                postRepository.incrementLikeCount(postId);
+                popularPostRanking.onLike(postId, 1);
+            }
             likeStatus = LikeStatus.LIKE;
         }
 
-        Post savedPost = postRepository.save(updatedPost);
-        return new PostResponseDTO(savedPost, likeStatus);
+        Long likeCount = postRepository.findLikeCountById(postId)
+                .orElseThrow(() -> new PostException(PostErrorResult.POST_NOT_EXIST));
+        return new LikeToggleResponse(postId, likeCount, likeStatus);
     }
 
     public boolean hasUserLikedPost(Long postId, Long userId) {
         return likeRepository.existsByPostIdAndUserId(postId, userId);
     }
 
+    // 여러 게시글의 좋아요 여부를 한 번의 쿼리로 조회
+    public Set<Long> findLikedPostIds(Long userId, Collection<Long> postIds) {
+        if (userId == null || postIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(likeRepository.findLikedPostIds(userId, postIds));
+    }
+
     public Long getLikeCount(Long postId) {
-        return postRepository.findById(postId)
-                .map(Post::getLikeCount)
+        return postRepository.findLikeCountById(postId)
                 .orElse(0L);
     }
 
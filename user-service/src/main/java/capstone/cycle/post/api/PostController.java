@@ -1,6 +1,7 @@
 package capstone.cycle.post.api;
 
 import capstone.cycle.common.security.dto.UserDetailsImpl;
+import capstone.cycle.like.dto.LikeToggleResponse;
 import capstone.cycle.like.service.LikeService;
 import capstone.cycle.post.dto.*;
 import capstone.cycle.post.entity.PostCategory;
@@ -74,11 +75,11 @@ public class PostController {
     // 게시글 좋아요 토글
     @SecurityRequirement(name = "Bearer Authentication")
     @PostMapping("/{id}/like")
-    public ResponseEntity<PostResponseDTO> toggleLike(
+    public ResponseEntity<LikeToggleResponse> toggleLike(
             @PathVariable Long id,
             @AuthenticationPrincipal UserDetailsImpl userDetails) {
-        PostResponseDTO updatedPost = likeService.toggleLike(id, userDetails.getUser().getId());
-        return ResponseEntity.ok(updatedPost);
+        LikeToggleResponse likeToggleResponse = likeService.toggleLike(id, userDetails.getUser().getId());
+        return ResponseEntity.ok(likeToggleResponse);
     }
 
     // 카테고리 별 게시글 조회
@@ -87,11 +88,13 @@ public class PostController {
     public ResponseEntity<Slice<SimplePostResponseDTO>> getPostsByCategory(
             @PathVariable PostCategory category,
             @RequestParam(required = false) Long lastPostId,
+            @RequestParam(required = false) String cursor,
             @AuthenticationPrincipal UserDetailsImpl userDetails
     ) {
         Slice<SimplePostResponseDTO> posts = postService.getPostsByCategory(
                 category,
                 lastPostId,
+                cursor,
                 userDetails.getUser().getId(),
                 PAGE_SIZE
         );
@@ -130,9 +133,10 @@ public class PostController {
     public ResponseEntity<Slice<ClubPostPreviewResponse>> getClubPosts(
             @PathVariable Long clubId,
             @RequestParam(required = false) Long lastPostId,
+            @RequestParam(required = false) String cursor,
             @AuthenticationPrincipal UserDetailsImpl userDetails
     ) {
-        Slice<ClubPostPreviewResponse> clubPosts = postService.getClubPosts(clubId, userDetails.getUser().getId(), lastPostId, PAGE_SIZE);
+        Slice<ClubPostPreviewResponse> clubPosts = postService.getClubPosts(clubId, userDetails.getUser().getId(), lastPostId, cursor, PAGE_SIZE);
         return ResponseEntity.ok(clubPosts);
     }
 
@@ -142,9 +146,10 @@ public class PostController {
     @GetMapping("/my/posts")
     public ResponseEntity<Slice<SimplePostResponseDTO>> getMyPosts(
             @RequestParam(required = false) Long lastPostId,
+            @RequestParam(required = false) String cursor,
             @AuthenticationPrincipal UserDetailsImpl userDetails
     ) {
-        Slice<SimplePostResponseDTO> posts = postService.getMyPosts(userDetails.getUser().getId(), lastPostId, PAGE_SIZE);
+        Slice<SimplePostResponseDTO> posts = postService.getMyPosts(userDetails.getUser().getId(), lastPostId, cursor, PAGE_SIZE);
         return ResponseEntity.ok(posts);
     }
 
@@ -154,12 +159,14 @@ public class PostController {
     public ResponseEntity<Slice<SimplePostResponseDTO>> getMyClubPosts(
             @PathVariable Long clubId,
             @RequestParam(required = false) Long lastPostId,
+            @RequestParam(required = false) String cursor,
             @AuthenticationPrincipal UserDetailsImpl userDetails
     ) {
         Slice<SimplePostResponseDTO> posts = postService.getMyClubPosts(
                 userDetails.getUser().getId(),
                 clubId,
                 lastPostId,
+                cursor,
                 PAGE_SIZE
         );
 
@@ -173,9 +180,10 @@ public class PostController {
     public ResponseEntity<Slice<SimplePostResponseDTO>> getUserPosts(
             @PathVariable Long userId,
             @RequestParam(required = false) Long lastPostId,
+            @RequestParam(required = false) String cursor,
             @AuthenticationPrincipal UserDetailsImpl userDetails
     ) {
-        Slice<SimplePostResponseDTO> posts = postService.getUserPosts(userId, userDetails.getUser().getId(), lastPostId, PAGE_SIZE);
+        Slice<SimplePostResponseDTO> posts = postService.getUserPosts(userId, userDetails.getUser().getId(), lastPostId, cursor, PAGE_SIZE);
         return ResponseEntity.ok(posts);
     }
 
@@ -186,12 +194,14 @@ public class PostController {
             @PathVariable Long userId,
             @PathVariable Long clubId,
             @RequestParam(required = false) Long lastPostId,
+            @RequestParam(required = false) String cursor,
             @AuthenticationPrincipal UserDetailsImpl userDetails
     ) {
         Slice<SimplePostResponseDTO> posts = postService.getUserClubPosts(userId,
                 clubId,
                 userDetails.getUser().getId(),
                 lastPostId,
+                cursor,
                 PAGE_SIZE
         );
 
@@ -203,10 +213,10 @@ public class PostController {
     @GetMapping("/posts/search")
     public ResponseEntity<Slice<SimplePostResponseDTO>> searchPosts(
             @RequestParam String keyword,
-            @RequestParam(required = false) Long lastPostId,
+            @RequestParam(required = false) String cursor,
             @AuthenticationPrincipal UserDetailsImpl userDetails
     ) {
-        Slice<SimplePostResponseDTO> posts = postService.searchPosts(keyword, lastPostId, userDetails.getUser().getId(), PAGE_SIZE);
+        Slice<SimplePostResponseDTO> posts = postService.searchPosts(keyword, cursor, userDetails.getUser().getId(), PAGE_SIZE);
         return ResponseEntity.ok(posts);
     }*/
 }
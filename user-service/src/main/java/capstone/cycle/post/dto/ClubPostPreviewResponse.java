@@ -2,6 +2,7 @@ package capstone.cycle.post.dto;
 
 import capstone.cycle.club.dto.ClubMemberInfoResponse;
 import capstone.cycle.comment.entity.Comment;
+import capstone.cycle.file.entity.ImageVariant;
 import capstone.cycle.like.dto.LikeStatus;
 import capstone.cycle.post.entity.Post;
 import capstone.cycle.user.dto.SimpleUserInfoDTO;
@@ -30,15 +31,16 @@ public class ClubPostPreviewResponse {
     private Long commentCount;
     private LikeStatus likeStatus;
     private CommentPreviewResponse latestComment; // 최신 댓글 1개
+    private String cursor;
 
-    public static ClubPostPreviewResponse from(Post post, Comment latestComment, Long currentUserId, LikeStatus status) {
+    public static ClubPostPreviewResponse from(Post post, Comment latestComment, boolean latestCommentLiked, LikeStatus status) {
         return ClubPostPreviewResponse.builder()
                 .id(post.getId())
                 .title(post.getTitle())
                 .content(post.getContent())
                 .author(SimpleUserInfoDTO.from(post.getAuthor()))
                 .imageUrls(post.getFiles().stream()
-                        .map(file -> new ImageResponse(file.getId(), file.getPath()))
+                        .map(file -> new ImageResponse(file.getId(), file.getPath(ImageVariant.MEDIUM)))
                         .collect(Collectors.toList()))
                 .createdAt(post.getCreatedAt())
                 .viewCount(post.getViewCount())
@@ -46,8 +48,9 @@ public class ClubPostPreviewResponse {
                 .commentCount(post.getCommentCount())
                 .likeStatus(status)
                 .latestComment(latestComment != null ?
-                        CommentPreviewResponse.from(latestComment, currentUserId) :
+                        CommentPreviewResponse.from(latestComment, latestCommentLiked) :
                         CommentPreviewResponse.empty()) // 빈 객체 반환
+                .cursor(PostCursor.of(post).encode())
                 .build();
     }
 }
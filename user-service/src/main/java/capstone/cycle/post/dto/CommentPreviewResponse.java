@@ -36,7 +36,7 @@ public class CommentPreviewResponse {
         return id != null;
     }
 
-    public static CommentPreviewResponse from(Comment comment, Long currentUserId) {
+    public static CommentPreviewResponse from(Comment comment, boolean likedByCurrentUser) {
 
         if (comment == null) {
             return empty();
@@ -48,8 +48,7 @@ public class CommentPreviewResponse {
                 .author(SimpleUserInfoDTO.from(comment.getAuthor()))
                 .createdAt(comment.getCreatedAt())
                 .likeCount(comment.getLikeCount())
-                .likedByCurrentUser(comment.getLikes().stream()
-                        .anyMatch(like -> like.getUser().getId().equals(currentUserId)))
+                .likedByCurrentUser(likedByCurrentUser)
                 .build();
     }
 }
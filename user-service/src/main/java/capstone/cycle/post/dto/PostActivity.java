@@ -0,0 +1,7 @@
+package capstone.cycle.post.dto;
+
+import java.time.LocalDateTime;
+
+// 인기 랭킹 재구성용 게시글 활동 지표
+public record PostActivity(Long id, Long likeCount, Long commentCount, Long viewCount, LocalDateTime createdAt) {
+}
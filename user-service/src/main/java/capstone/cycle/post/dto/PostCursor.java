@@ -0,0 +1,43 @@
+package capstone.cycle.post.dto;
+
+import capstone.cycle.post.entity.Post;
+import capstone.cycle.post.error.PostErrorResult;
+import capstone.cycle.post.error.PostException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 무한 스크롤용 키셋 커서.
+ * 정렬 키 (createdAt, id) 를 담아 클라이언트에는 불투명한 문자열로 전달한다. (인기게시판은 RankCursor 사용)
+ */
+public record PostCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "_";
+    private static final LocalDateTime BEFORE_ALL = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    public static PostCursor of(Post post) {
+        return new PostCursor(post.getCreatedAt(), post.getId());
+    }
+
+    // 모든 게시글보다 앞선 위치 (다음 페이지가 항상 비어 있음)
+    public static PostCursor beforeAll() {
+        return new PostCursor(BEFORE_ALL, 0L);
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(DELIMITER);
+            return new PostCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new PostException(PostErrorResult.INVALID_CURSOR);
+        }
+    }
+}
@@ -22,4 +22,11 @@ public class PostDetailResponse {
                 .comments(comments)
                 .build();
     }
+
+    public static PostDetailResponse of(Post post, List<CommentResponseDTO> comments, LikeStatus likeStatus, long pendingViewCount) {
+        return PostDetailResponse.builder()
+                .post(new PostResponseDTO(post, likeStatus, pendingViewCount))
+                .comments(comments)
+                .build();
+    }
 }
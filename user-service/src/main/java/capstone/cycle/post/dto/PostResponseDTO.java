@@ -48,4 +48,10 @@ public class PostResponseDTO {
         this.imageUrls = post.getFiles().stream().map((file)->new ImageResponse(file.getId(), file.getPath())
         ).collect(Collectors.toList());
     }
+
+    // 아직 DB에 반영되지 않은 조회수를 더해서 응답
+    public PostResponseDTO(Post post, LikeStatus likeStatus, long pendingViewCount) {
+        this(post, likeStatus);
+        this.viewCount = post.getViewCount() + pendingViewCount;
+    }
 }
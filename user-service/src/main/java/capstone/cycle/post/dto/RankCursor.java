@@ -0,0 +1,31 @@
+package capstone.cycle.post.dto;
+
+import capstone.cycle.post.error.PostErrorResult;
+import capstone.cycle.post.error.PostException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 인기게시판 랭킹 커서.
+ * 랭킹 점수와 게시글 id 를 담아 클라이언트에는 불투명한 문자열로 전달한다.
+ */
+public record RankCursor(double score, Long id) {
+
+    private static final String DELIMITER = "_";
+
+    public String encode() {
+        String raw = score + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static RankCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(DELIMITER);
+            return new RankCursor(Double.parseDouble(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new PostException(PostErrorResult.INVALID_CURSOR);
+        }
+    }
+}
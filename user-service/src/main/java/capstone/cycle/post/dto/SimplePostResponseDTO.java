@@ -1,5 +1,6 @@
 package capstone.cycle.post.dto;
 
+import capstone.cycle.file.entity.ImageVariant;
 import capstone.cycle.like.dto.LikeStatus;
 import capstone.cycle.post.entity.Post;
 import lombok.*;
@@ -7,7 +8,7 @@ import lombok.*;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class SimplePostResponseDTO {
     private Long id;
     private String title;
@@ -18,6 +19,7 @@ public class SimplePostResponseDTO {
     private String firstImageUrl;
     private String authorName;
     private Long commentCount;
+    private String cursor;
 
     public static SimplePostResponseDTO fromPost(Post post, LikeStatus likeStatus) {
         return SimplePostResponseDTO.builder()
@@ -30,13 +32,28 @@ public class SimplePostResponseDTO {
                 .firstImageUrl(getFirstImageUrl(post))
                 .authorName(post.getAuthor().getNickname())
                 .likeStatus(likeStatus)
+                .cursor(PostCursor.of(post).encode())
+                .build();
+    }
+
+    // 캐시된 요약에 사용자별 좋아요 상태를 합칠 때 사용
+    public SimplePostResponseDTO withLikeStatus(LikeStatus likeStatus) {
+        return this.toBuilder()
+                .likeStatus(likeStatus)
+                .build();
+    }
+
+    // 인기게시판은 랭킹 커서로 교체
+    public SimplePostResponseDTO withCursor(String cursor) {
+        return this.toBuilder()
+                .cursor(cursor)
                 .build();
     }
 
     private static String getFirstImageUrl(Post post) {
         if (post.getFiles() != null &&
                 !post.getFiles().isEmpty()) {
-            return post.getFiles().get(0).getPath();
+            return post.getFiles().get(0).getPath(ImageVariant.THUMB);
         }
         return null;
     }
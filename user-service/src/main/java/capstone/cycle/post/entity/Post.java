@@ -5,6 +5,7 @@ import capstone.cycle.file.entity.File;
 import capstone.cycle.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -13,6 +14,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_post_created", columnList = "created_at,post_id"),
+        @Index(name = "idx_post_category_created", columnList = "category,created_at,post_id"),
+        @Index(name = "idx_post_club_created", columnList = "club_id,created_at,post_id"),
+        @Index(name = "idx_post_author_club_created", columnList = "author_id,club_id,created_at,post_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -35,6 +42,7 @@ public class Post {
     private User author;
 
     @OneToMany(cascade = CascadeType.ALL, mappedBy = "post")
+    @BatchSize(size = 100)
     private List<File> files = new ArrayList<>();
 
     @CreationTimestamp
@@ -44,13 +52,15 @@ public class Post {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
-    @Column(nullable = false)
+    // 조회수는 ViewCountBuffer 의 배치 UPDATE 로만 증가시킨다. 엔티티 저장이 반영된 증가분을 덮어쓰지 않도록 갱신 대상에서 뺀다
+    @Column(nullable = false, updatable = false)
     private Long viewCount = 0L;
 
-    @Column(nullable = false)
+    // 좋아요/댓글 수도 PostRepository 의 원자적 UPDATE 로만 증감한다
+    @Column(nullable = false, updatable = false)
     private Long likeCount = 0L;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Long commentCount = 0L;
 
 //    @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -107,44 +117,10 @@ public class Post {
                 .build();
     }
 
-    // 조회수 증가
-    public Post incrementViewCount() {
-        return this.toBuilder()
-                .viewCount(this.viewCount + 1)
-                .build();
-    }
-
-    // 좋아요 증가/감소
-    public Post incrementLikeCount() {
-        return this.toBuilder()
-                .likeCount(this.likeCount + 1)
-                .build();
-    }
-
-    public Post decrementLikeCount() {
-        return this.toBuilder()
-                .likeCount(Math.max(0, this.likeCount - 1))
-                .build();
-    }
-
     // FileGroup 설정
     public Post withContentImageGroup(List<File> files) {
         return this.toBuilder()
                 .files(files)
                 .build();
     }
-
-    // 댓글 수 증가
-    public Post incrementCommentCount() {
-        return this.toBuilder()
-                .commentCount(this.commentCount + 1)
-                .build();
-    }
-
-    // 댓글 수 감소
-    public Post decrementCommentCount() {
-        return this.toBuilder()
-                .commentCount(Math.max(0, this.commentCount - 1))
-                .build();
-    }
 }
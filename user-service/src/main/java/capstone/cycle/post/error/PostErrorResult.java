@@ -21,6 +21,7 @@ public enum PostErrorResult {
     NOT_POST_AUTHOR(HttpStatus.FORBIDDEN, "해당 게시글의 작성자만 수정할 수 있습니다."),
     UNAUTHORIZED_DELETE(HttpStatus.FORBIDDEN, "해당 게시글의 작성자나 관리자만 삭제할 수 있습니다."),
     INVALID_SEARCH_KEYWORD(HttpStatus.BAD_REQUEST, "검색어를 입력해주세요."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 페이지 커서입니다."),
     UNAUTHORIZED_ACTION(HttpStatus.FORBIDDEN, "이 작업을 수행할 권한이 없습니다.");
 
     private final HttpStatus status;
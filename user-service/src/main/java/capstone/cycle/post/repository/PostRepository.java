@@ -1,5 +1,7 @@
 package capstone.cycle.post.repository;
 
+import capstone.cycle.post.dto.PostActivity;
+import capstone.cycle.post.dto.PostCursor;
 import capstone.cycle.post.entity.Post;
 import capstone.cycle.post.entity.PostCategory;
 import org.springframework.data.domain.Pageable;
@@ -9,6 +11,9 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
@@ -18,59 +23,69 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             "WHERE p.id = :id")
     Optional<Post> findById(@Param("id") Long id);
 
+    // lastPostId 로 요청한 클라이언트를 위한 커서 조회 (PK 조회)
+    @Query("SELECT new capstone.cycle.post.dto.PostCursor(p.createdAt, p.id) " +
+            "FROM Post p WHERE p.id = :id")
+    Optional<PostCursor> findCursorById(@Param("id") Long id);
+
+    // lastPostId 의 게시글이 삭제된 경우: 그보다 작은 id 중 가장 큰 게시글의 위치
+    @Query("SELECT new capstone.cycle.post.dto.PostCursor(p.createdAt, p.id) " +
+            "FROM Post p WHERE p.id < :id ORDER BY p.id DESC")
+    List<PostCursor> findCursorsBeforeId(@Param("id") Long id, Pageable pageable);
+
     // 첫 페이지 조회
     @Query("SELECT p FROM Post p " +
             "LEFT JOIN FETCH p.author a " +
-            "ORDER BY p.createdAt DESC")
+            "ORDER BY p.createdAt DESC, p.id DESC")
     Slice<Post> findFirstPage(Pageable pageable);
 
     // 카테고리별 첫 페이지
     @Query("SELECT p FROM Post p " +
             "LEFT JOIN FETCH p.author a " +
             "WHERE p.category = :category " +
-            "ORDER BY p.createdAt DESC")
+            "ORDER BY p.createdAt DESC, p.id DESC")
     Slice<Post> findFirstPageByCategory(
             @Param("category") PostCategory category,
             Pageable pageable);
 
-    // 인기 게시물 첫 페이지
+    // 랭킹 순서대로 조회한 id 목록의 게시글 (순서는 호출 측에서 맞춘다)
     @Query("SELECT p FROM Post p " +
             "LEFT JOIN FETCH p.author a " +
-            "WHERE p.likeCount >= :likeThreshold " +
-            "ORDER BY p.likeCount DESC, p.createdAt DESC")
-    Slice<Post> findFirstPagePopularPosts(
-            @Param("likeThreshold") Long likeThreshold,
-            Pageable pageable);
+            "WHERE p.id IN :ids")
+    List<Post> findAllWithAuthorByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 인기 랭킹 재구성용 최근 게시글 지표
+    @Query("SELECT new capstone.cycle.post.dto.PostActivity(p.id, p.likeCount, p.commentCount, p.viewCount, p.createdAt) " +
+            "FROM Post p WHERE p.createdAt >= :since")
+    List<PostActivity> findActivitiesSince(@Param("since") LocalDateTime since);
+
+    // 랭킹에서 빠진 게시글의 점수를 다시 계산할 때 쓰는 지표
+    @Query("SELECT new capstone.cycle.post.dto.PostActivity(p.id, p.likeCount, p.commentCount, p.viewCount, p.createdAt) " +
+            "FROM Post p WHERE p.id = :id")
+    Optional<PostActivity> findActivityById(@Param("id") Long id);
 
     // 무한 스크롤용 다음 페이지 조회
     @Query("SELECT p FROM Post p " +
             "LEFT JOIN FETCH p.author a " +
-            "WHERE p.createdAt < (SELECT sub.createdAt FROM Post sub WHERE sub.id = :lastPostId) " +
-            "ORDER BY p.createdAt DESC")
+            "WHERE p.createdAt < :createdAt " +
+            "OR (p.createdAt = :createdAt AND p.id < :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
     Slice<Post> findAllForInfiniteScroll(
-            @Param("lastPostId") Long lastPostId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
             Pageable pageable);
 
     // 카테고리별 무한 스크롤
     @Query("SELECT p FROM Post p " +
             "LEFT JOIN FETCH p.author a " +
             "WHERE p.category = :category " +
-            "AND p.createdAt < (SELECT sub.createdAt FROM Post sub WHERE sub.id = :lastPostId) " +
-            "ORDER BY p.createdAt DESC")
+            "AND (p.createdAt < :createdAt " +
+            "OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
     Slice<Post> findByCategoryForInfiniteScroll(
             @Param("category") PostCategory category,
-            @Param("lastPostId") Long lastPostId,
-            Pageable pageable);
-
-    // 인기 게시물 무한 스크롤
-    @Query("SELECT p FROM Post p " +
-            "LEFT JOIN FETCH p.author a " +
-            "WHERE p.likeCount >= :likeThreshold " +
-            "AND p.createdAt < (SELECT sub.createdAt FROM Post sub WHERE sub.id = :lastPostId) " +
-            "ORDER BY p.likeCount DESC, p.createdAt DESC")
-    Slice<Post> findPopularPostsForInfiniteScroll(
-            @Param("likeThreshold") Long likeThreshold,
-            @Param("lastPostId") Long lastPostId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
             Pageable pageable);
 
     // 조회수 증가 (벌크 연산)
@@ -78,63 +93,88 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.id = :id")
     void incrementViewCount(@Param("id") Long id);
 
+    // 좋아요 토글 전 게시글 행 잠금: 삭제와 경합하지 않게 하고 같은 게시글의 토글을 직렬화 (없으면 빈 값)
+    @Query(value = "SELECT post_id FROM post WHERE post_id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("id") Long id);
+
+    // 좋아요 수 원자적 증가/감소
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + 1 WHERE p.id = :id")
+    int incrementLikeCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.id = :id AND p.likeCount > 0")
+    int decrementLikeCount(@Param("id") Long id);
+
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :id")
+    Optional<Long> findLikeCountById(@Param("id") Long id);
+
+    // 댓글 수 원자적 증가/감소
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.id = :id")
+    int incrementCommentCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount - 1 WHERE p.id = :id AND p.commentCount > 0")
+    int decrementCommentCount(@Param("id") Long id);
+
     @Modifying
     @Query("DELETE FROM Post p WHERE p.club.id = :clubId")
     void deleteAllByClubId(@Param("clubId") Long clubId); // ****** 수정 필요
 
-    @Query("SELECT DISTINCT p FROM Post p " +
+    // 페이징 쿼리에서는 컬렉션(files)을 fetch join 하지 않는다 (메모리 페이징 방지, @BatchSize 로 일괄 로딩)
+    @Query("SELECT p FROM Post p " +
             "LEFT JOIN FETCH p.author a " +
-            "LEFT JOIN FETCH p.files " +
             "WHERE p.club.id = :clubId " +
-            "ORDER BY p.createdAt DESC")
+            "ORDER BY p.createdAt DESC, p.id DESC")
     Slice<Post> findClubPostsFirstPage(
             @Param("clubId") Long clubId,
             Pageable pageable
     );
 
-    @Query("SELECT DISTINCT p FROM Post p " +
+    @Query("SELECT p FROM Post p " +
             "LEFT JOIN FETCH p.author a " +
-            "LEFT JOIN FETCH p.files " +
             "WHERE p.club.id = :clubId " +
-            "AND p.createdAt < (SELECT sub.createdAt FROM Post sub WHERE sub.id = :lastPostId) " +
-            "ORDER BY p.createdAt DESC")
+            "AND (p.createdAt < :createdAt " +
+            "OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
     Slice<Post> findClubPostsNextPage(
             @Param("clubId") Long clubId,
-            @Param("lastPostId") Long lastPostId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
             Pageable pageable
     );
 
-    @Query("SELECT DISTINCT p FROM Post p " +
+    @Query("SELECT p FROM Post p " +
             "LEFT JOIN FETCH p.author " +
-            "LEFT JOIN FETCH p.files " +
             "WHERE p.author.id = :userId " +
             "AND p.club IS NULL " +
-            "ORDER BY p.createdAt DESC")
+            "ORDER BY p.createdAt DESC, p.id DESC")
     Slice<Post> findMyPostsFirstPage(
             @Param("userId") Long userId,
             Pageable pageable
     );
 
 
-    @Query("SELECT DISTINCT p FROM Post p " +
+    @Query("SELECT p FROM Post p " +
             "LEFT JOIN FETCH p.author " +
-            "LEFT JOIN FETCH p.files " +
             "WHERE p.author.id = :userId " +
             "AND p.club IS NULL " +
-            "AND p.id < :lastPostId " +
-            "ORDER BY p.createdAt DESC")
+            "AND (p.createdAt < :createdAt " +
+            "OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
     Slice<Post> findMyPostsNextPage(
             @Param("userId") Long userId,
-            @Param("lastPostId") Long lastPostId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
             Pageable pageable
     );
 
-    @Query("SELECT DISTINCT p FROM Post p " +
+    @Query("SELECT p FROM Post p " +
             "LEFT JOIN FETCH p.author " +
-            "LEFT JOIN FETCH p.files " +
             "WHERE p.author.id = :userId " +
             "AND p.club.id = :clubId " +
-            "ORDER BY p.createdAt DESC")
+            "ORDER BY p.createdAt DESC, p.id DESC")
     Slice<Post> findMyClubPostsFirstPage(
             @Param("userId") Long userId,
             @Param("clubId") Long clubId,
@@ -142,91 +182,67 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     );
 
 
-    @Query("SELECT DISTINCT p FROM Post p " +
+    @Query("SELECT p FROM Post p " +
             "LEFT JOIN FETCH p.author " +
-            "LEFT JOIN FETCH p.files " +
             "WHERE p.author.id = :userId " +
             "AND p.club.id = :clubId " +
-            "AND p.id < :lastPostId " +
-            "ORDER BY p.createdAt DESC")
+            "AND (p.createdAt < :createdAt " +
+            "OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
     Slice<Post> findMyClubPostsNextPage(
             @Param("userId") Long userId,
             @Param("clubId") Long clubId,
-            @Param("lastPostId") Long lastPostId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
             Pageable pageable
     );
 
-    @Query("SELECT DISTINCT p FROM Post p " +
+    @Query("SELECT p FROM Post p " +
             "LEFT JOIN FETCH p.author " +
-            "LEFT JOIN FETCH p.files " +
             "WHERE p.author.id = :userId " +
             "AND p.club IS NULL " +
-            "ORDER BY p.createdAt DESC")
+            "ORDER BY p.createdAt DESC, p.id DESC")
     Slice<Post> findUserPostsFirstPage(
             @Param("userId") Long userId,
             Pageable pageable);
 
 
-    @Query("SELECT DISTINCT p FROM Post p " +
+    @Query("SELECT p FROM Post p " +
             "LEFT JOIN FETCH p.author " +
-            "LEFT JOIN FETCH p.files " +
             "WHERE p.author.id = :userId " +
             "AND p.club IS NULL " +
-            "AND p.id < :lastPostId " +
-            "ORDER BY p.createdAt DESC")
+            "AND (p.createdAt < :createdAt " +
+            "OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
     Slice<Post> findUserPostsNextPage(
             @Param("userId") Long userId,
-            @Param("lastPostId") Long lastPostId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
             Pageable pageable);
 
 
-    @Query("SELECT DISTINCT p FROM Post p " +
+    @Query("SELECT p FROM Post p " +
             "LEFT JOIN FETCH p.author " +
-            "LEFT JOIN FETCH p.files " +
             "WHERE p.author.id = :userId " +
             "AND p.club.id = :clubId " +
-            "ORDER BY p.createdAt DESC")
+            "ORDER BY p.createdAt DESC, p.id DESC")
     Slice<Post> findUserClubPostsFirstPage(
             @Param("userId") Long userId,
             @Param("clubId") Long clubId,
             Pageable pageable);
 
-    @Query("SELECT DISTINCT p FROM Post p " +
+    @Query("SELECT p FROM Post p " +
             "LEFT JOIN FETCH p.author " +
-            "LEFT JOIN FETCH p.files " +
             "WHERE p.author.id = :userId " +
             "AND p.club.id = :clubId " +
-            "AND p.id < :lastPostId " +
-            "ORDER BY p.createdAt DESC")
+            "AND (p.createdAt < :createdAt " +
+            "OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
     Slice<Post> findUserClubPostsNextPage(
             @Param("userId") Long userId,
             @Param("clubId") Long clubId,
-            @Param("lastPostId") Long lastPostId,
-            Pageable pageable);
-
-    @Query("SELECT DISTINCT p FROM Post p " +
-            "LEFT JOIN FETCH p.author " +
-            "LEFT JOIN FETCH p.files " +
-            "WHERE p.club IS NULL " +
-            "AND (LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "OR LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-            "ORDER BY p.createdAt DESC")
-    Slice<Post> searchPostsFirstPage(
-            @Param("keyword") String keyword,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
             Pageable pageable);
 
-    @Query("SELECT DISTINCT p FROM Post p " +
-            "LEFT JOIN FETCH p.author " +
-            "LEFT JOIN FETCH p.files " +
-            "WHERE p.club IS NULL " +
-            "AND p.id < :lastPostId " +
-            "AND (LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "OR LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-            "ORDER BY p.createdAt DESC")
-    Slice<Post> searchPostsNextPage(
-            @Param("keyword") String keyword,
-            @Param("lastPostId") Long lastPostId,
-            Pageable pageable
-    );
-
 }
@@ -0,0 +1,24 @@
+package capstone.cycle.post.scheduler;
+
+import capstone.cycle.post.service.PopularPostRanking;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularRankingTrimScheduler {
+
+    private final PopularPostRanking popularPostRanking;
+
+    @Scheduled(cron = "0 0 * * * *") // 매시 정각 실행
+    public void trimPopularRanking() {
+        try {
+            popularPostRanking.trim();
+        } catch (Exception e) {
+            log.error("Error during popular ranking trim", e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package capstone.cycle.post.scheduler;
+
+import capstone.cycle.post.service.ViewCountBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountFlushScheduler {
+
+    private final ViewCountBuffer viewCountBuffer;
+
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval-ms:5000}") // 기본 5초마다 실행
+    public void flushViewCounts() {
+        try {
+            viewCountBuffer.flush();
+        } catch (Exception e) {
+            log.error("Error during scheduled view count flush", e);
+        }
+    }
+}
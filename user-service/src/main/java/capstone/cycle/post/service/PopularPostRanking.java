@@ -0,0 +1,317 @@
+package capstone.cycle.post.service;
+
+import capstone.cycle.post.dto.PostActivity;
+import capstone.cycle.post.dto.RankCursor;
+import capstone.cycle.post.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 인기게시판 랭킹.
+ * 좋아요/댓글/조회 이벤트마다 시간 가중치를 곱한 점수를 Redis sorted set 에 ZINCRBY 한다.
+ * 가중치는 halfLife 마다 2배로 커지므로 오래된 점수는 상대적으로 감쇠되며,
+ * 점수가 너무 커지지 않도록 일정 주기(세대)마다 이전 세대 점수를 축소해서 새 키로 옮긴다.
+ * 새 세대 키는 한 인스턴스만 채우고 다 채운 뒤 준비 표시를 남긴다. 그 전까지 조회는 DB 지표로 같은 점수를 계산해서 응답한다.
+ * 트랜잭션 안에서 발생한 이벤트는 커밋된 뒤에만 반영한다 (롤백된 좋아요/댓글이 점수를 부풀리지 않도록).
+ */
+@Slf4j
+@Component
+public class PopularPostRanking {
+
+    private static final String RANKING_KEY_PREFIX = "RANK:POPULAR:";
+    private static final String INIT_SUFFIX = ":INIT";
+    private static final String READY_SUFFIX = ":READY";
+    // 한 세대의 길이 (halfLife 배수). 세대 내 가중치는 최대 2^30 배
+    private static final int HALF_LIVES_PER_GENERATION = 30;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PostRepository postRepository;
+    private final double likeWeight;
+    private final double commentWeight;
+    private final double viewWeight;
+    private final long halfLifeMillis;
+    private final long generationMillis;
+    private final int maxSize;
+    private final Duration rebuildWindow;
+    private final Duration initLockTtl;
+
+    private volatile long currentGeneration = -1;
+
+    public PopularPostRanking(
+            RedisTemplate<String, String> redisTemplate,
+            PostRepository postRepository,
+            @Value("${post.ranking.like-weight:1.0}") double likeWeight,
+            @Value("${post.ranking.comment-weight:2.0}") double commentWeight,
+            @Value("${post.ranking.view-weight:0.05}") double viewWeight,
+            @Value("${post.ranking.half-life-hours:24}") long halfLifeHours,
+            @Value("${post.ranking.max-size:1000}") int maxSize,
+            @Value("${post.ranking.rebuild-window-days:14}") long rebuildWindowDays,
+            @Value("${post.ranking.init-lock-seconds:60}") long initLockSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.postRepository = postRepository;
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+        this.viewWeight = viewWeight;
+        this.halfLifeMillis = Duration.ofHours(halfLifeHours).toMillis();
+        this.generationMillis = halfLifeMillis * HALF_LIVES_PER_GENERATION;
+        this.maxSize = maxSize;
+        this.rebuildWindow = Duration.ofDays(rebuildWindowDays);
+        this.initLockTtl = Duration.ofSeconds(initLockSeconds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            readyGeneration(System.currentTimeMillis());
+        } catch (Exception e) {
+            log.error("Failed to initialize popular post ranking", e);
+        }
+    }
+
+    public void onLike(Long postId, int delta) {
+        afterCommit(() -> increment(postId, likeWeight * delta));
+    }
+
+    public void onComment(Long postId, int delta) {
+        afterCommit(() -> increment(postId, commentWeight * delta));
+    }
+
+    // 조회수 버퍼 flush 결과를 한 번의 파이프라인으로 반영
+    public void onViews(Map<Long, Long> viewDeltas) {
+        if (viewDeltas.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> applyViews(viewDeltas));
+    }
+
+    public void remove(Long postId) {
+        afterCommit(() -> removeNow(postId));
+    }
+
+    private void applyViews(Map<Long, Long> viewDeltas) {
+        try {
+            long now = System.currentTimeMillis();
+            String key = currentKey(now);
+            byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+            double unitWeight = decayedWeight(viewWeight, now);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                viewDeltas.forEach((postId, views) -> connection.zSetCommands().zIncrBy(
+                        rawKey,
+                        unitWeight * views,
+                        postId.toString().getBytes(StandardCharsets.UTF_8)
+                ));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Failed to apply view events to popular ranking", e);
+        }
+    }
+
+    private void removeNow(Long postId) {
+        try {
+            redisTemplate.opsForZSet().remove(currentKey(System.currentTimeMillis()), postId.toString());
+        } catch (Exception e) {
+            log.warn("Failed to remove post {} from popular ranking", postId, e);
+        }
+    }
+
+    // cursor 다음 순위부터 limit 개 조회 (ZREVRANK + ZREVRANGE, O(log n + limit))
+    public List<RankCursor> getPage(RankCursor cursor, int limit) {
+        long now = System.currentTimeMillis();
+        String key = readyGeneration(now);
+        if (key == null) {
+            return getPageFromDatabase(cursor, limit, now);
+        }
+        ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+        Set<TypedTuple<String>> tuples;
+
+        if (cursor == null) {
+            tuples = zSet.reverseRangeWithScores(key, 0, limit - 1);
+        } else {
+            Long rank = zSet.reverseRank(key, cursor.id().toString());
+            if (rank != null) {
+                tuples = zSet.reverseRangeWithScores(key, rank + 1, rank + limit);
+            } else {
+                // 커서의 게시글이 랭킹에서 빠진 경우 점수 기준으로 이어서 조회
+                tuples = zSet.reverseRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, Math.nextDown(cursor.score()), 0, limit);
+            }
+        }
+
+        List<RankCursor> ranked = new ArrayList<>();
+        if (tuples != null) {
+            for (TypedTuple<String> tuple : tuples) {
+                ranked.add(new RankCursor(tuple.getScore(), Long.parseLong(tuple.getValue())));
+            }
+        }
+        return ranked;
+    }
+
+    // 랭킹 키가 준비되기 전에는 rebuild 와 같은 점수를 DB 지표로 계산해서 순위를 만든다
+    private List<RankCursor> getPageFromDatabase(RankCursor cursor, int limit, long now) {
+        Comparator<RankCursor> byRank = Comparator.comparingDouble(RankCursor::score)
+                .thenComparing(RankCursor::id)
+                .reversed();
+        return postRepository.findActivitiesSince(LocalDateTime.now().minus(rebuildWindow)).stream()
+                .map(activity -> new RankCursor(scoreOf(activity, now), activity.id()))
+                .filter(entry -> entry.score() > 0)
+                .filter(entry -> cursor == null || byRank.compare(entry, cursor) > 0)
+                .sorted(byRank)
+                .limit(limit)
+                .toList();
+    }
+
+    // lastPostId 로 요청한 클라이언트를 위한 커서 조회.
+    // 랭킹에서 빠졌으면(상위 maxSize 밖으로 잘렸거나 준비 전) DB 지표로 점수를 다시 계산하고,
+    // 삭제된 게시글이면 위치를 알 수 없으므로 마지막 순위 뒤로 본다
+    public RankCursor cursorOf(Long postId) {
+        long now = System.currentTimeMillis();
+        String key = readyGeneration(now);
+        Double score = key != null ? redisTemplate.opsForZSet().score(key, postId.toString()) : null;
+        if (score != null) {
+            return new RankCursor(score, postId);
+        }
+        return postRepository.findActivityById(postId)
+                .map(activity -> new RankCursor(scoreOf(activity, now), postId))
+                .orElseGet(() -> new RankCursor(Double.NEGATIVE_INFINITY, postId));
+    }
+
+    // 상위 maxSize 개만 유지
+    public void trim() {
+        String key = currentKey(System.currentTimeMillis());
+        Long removed = redisTemplate.opsForZSet().removeRange(key, 0, -(maxSize + 1L));
+        log.debug("Trimmed {} entries from popular ranking", removed);
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 반영, 트랜잭션 밖이면 바로 반영
+    private void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+            return;
+        }
+        update.run();
+    }
+
+    private void increment(Long postId, double weight) {
+        try {
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForZSet().incrementScore(currentKey(now), postId.toString(), decayedWeight(weight, now));
+        } catch (Exception e) {
+            log.warn("Failed to update popular ranking for post {}", postId, e);
+        }
+    }
+
+    private double decayedWeight(double weight, long eventMillis) {
+        long generationStart = (eventMillis / generationMillis) * generationMillis;
+        return weight * Math.pow(2, (double) (eventMillis - generationStart) / halfLifeMillis);
+    }
+
+    // 점수 변경은 준비 여부와 상관없이 현재 세대 키에 쌓는다 (이전 세대를 옮기는 ZUNIONSTORE 가 새 키의 점수를 더해 준다)
+    private String currentKey(long now) {
+        readyGeneration(now);
+        return RANKING_KEY_PREFIX + (now / generationMillis);
+    }
+
+    // 현재 세대 키가 준비됐으면 키를 반환하고, 아니면 직접 채우거나 다른 인스턴스가 채우는 중이면 null 을 반환한다.
+    // 채우는 인스턴스가 도중에 죽어도 INIT 락이 initLockTtl 뒤에 풀리므로 다른 인스턴스가 다시 시도한다
+    private String readyGeneration(long now) {
+        long generation = now / generationMillis;
+        String key = RANKING_KEY_PREFIX + generation;
+        if (generation == currentGeneration) {
+            return key;
+        }
+
+        synchronized (this) {
+            if (generation == currentGeneration) {
+                return key;
+            }
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(key + READY_SUFFIX))) {
+                Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key + INIT_SUFFIX, "1", initLockTtl);
+                if (!Boolean.TRUE.equals(acquired)) {
+                    return null;
+                }
+                try {
+                    initialize(key, generation, now);
+                } catch (RuntimeException e) {
+                    redisTemplate.delete(key + INIT_SUFFIX);
+                    throw e;
+                }
+                redisTemplate.opsForValue().set(key + READY_SUFFIX, "1", Duration.ofMillis(generationMillis * 2));
+            }
+            currentGeneration = generation;
+        }
+        return key;
+    }
+
+    // 이전 세대 점수를 축소해서 옮기고, 이전 세대가 없으면 DB 에서 다시 만든다
+    private void initialize(String key, long generation, long now) {
+        String previousKey = RANKING_KEY_PREFIX + (generation - 1);
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(previousKey))) {
+            double factor = Math.pow(2, -HALF_LIVES_PER_GENERATION);
+            redisTemplate.opsForZSet().unionAndStore(previousKey, List.of(key), key,
+                    Aggregate.SUM, Weights.of(factor, 1));
+            redisTemplate.expire(previousKey, Duration.ofDays(1));
+            log.info("Migrated popular ranking to generation {}", generation);
+        } else {
+            rebuild(key, now);
+        }
+    }
+
+    // 랭킹 키가 없을 때 최근 게시글의 누적 지표로 초기 점수를 채운다
+    private void rebuild(String key, long now) {
+        LocalDateTime since = LocalDateTime.now().minus(rebuildWindow);
+        List<PostActivity> activities = postRepository.findActivitiesSince(since);
+
+        Set<TypedTuple<String>> tuples = new HashSet<>();
+        for (PostActivity activity : activities) {
+            double score = scoreOf(activity, now);
+            if (score <= 0) {
+                continue;
+            }
+            tuples.add(new DefaultTypedTuple<>(activity.id().toString(), score));
+        }
+
+        if (!tuples.isEmpty()) {
+            redisTemplate.opsForZSet().add(key, tuples);
+        }
+        log.info("Rebuilt popular ranking with {} posts", tuples.size());
+    }
+
+    // 누적 지표를 작성 시각의 가중치로 환산한 점수
+    private double scoreOf(PostActivity activity, long now) {
+        double weight = activity.likeCount() * likeWeight
+                + activity.commentCount() * commentWeight
+                + activity.viewCount() * viewWeight;
+        long createdAt = activity.createdAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        long generationStart = (now / generationMillis) * generationMillis;
+        return weight * Math.pow(2, (double) (createdAt - generationStart) / halfLifeMillis);
+    }
+}
@@ -0,0 +1,122 @@
+package capstone.cycle.post.service;
+
+import capstone.cycle.post.dto.SimplePostResponseDTO;
+import capstone.cycle.post.entity.PostCategory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체/인기 게시판 첫 페이지 캐시.
+ * 사용자와 무관한 게시글 요약 목록을 직렬화해서 Redis에 보관하고, 좋아요 여부는 조회 후 사용자별로 합친다.
+ */
+@Slf4j
+@Component
+public class PostFeedCache {
+
+    private static final String FEED_KEY_PREFIX = "FEED:";
+    private static final List<PostCategory> CACHED_CATEGORIES = List.of(PostCategory.ALL, PostCategory.POPULAR);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<PostCategory, Counter> hitCounters = new EnumMap<>(PostCategory.class);
+    private final Map<PostCategory, Counter> missCounters = new EnumMap<>(PostCategory.class);
+
+    @Value("${post.feed-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    public PostFeedCache(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        for (PostCategory category : CACHED_CATEGORIES) {
+            hitCounters.put(category, meterRegistry.counter("post.feed.cache", "category", category.name(), "result", "hit"));
+            missCounters.put(category, meterRegistry.counter("post.feed.cache", "category", category.name(), "result", "miss"));
+        }
+    }
+
+    public boolean supports(PostCategory category) {
+        return CACHED_CATEGORIES.contains(category);
+    }
+
+    public Optional<Slice<SimplePostResponseDTO>> get(PostCategory category, Pageable pageable) {
+        try {
+            String json = redisTemplate.opsForValue().get(key(category));
+            if (json != null) {
+                CachedFeedPage page = objectMapper.readValue(json, CachedFeedPage.class);
+                if (page.pageSize() == pageable.getPageSize()) {
+                    hitCounters.get(category).increment();
+                    return Optional.of(new SliceImpl<>(page.posts(), pageable, page.hasNext()));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read feed cache for category: {}", category, e);
+        }
+        missCounters.get(category).increment();
+        return Optional.empty();
+    }
+
+    public void put(PostCategory category, Pageable pageable, Slice<SimplePostResponseDTO> posts) {
+        try {
+            CachedFeedPage page = new CachedFeedPage(pageable.getPageSize(), posts.getContent(), posts.hasNext());
+            redisTemplate.opsForValue().set(key(category), objectMapper.writeValueAsString(page), ttlSeconds, TimeUnit.SECONDS);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to write feed cache for category: {}", category, e);
+        }
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 무효화 (커밋 전 데이터로 캐시가 다시 채워지는 것 방지)
+    public void evict(PostCategory... categories) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(categories);
+                }
+            });
+            return;
+        }
+        evictNow(categories);
+    }
+
+    private void evictNow(PostCategory... categories) {
+        try {
+            List<String> keys = Arrays.stream(categories)
+                    .filter(this::supports)
+                    .map(this::key)
+                    .toList();
+            if (!keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to evict feed cache for categories: {}", Arrays.toString(categories), e);
+        }
+    }
+
+    public void evictAll() {
+        evict(CACHED_CATEGORIES.toArray(PostCategory[]::new));
+    }
+
+    private String key(PostCategory category) {
+        return FEED_KEY_PREFIX + category.name();
+    }
+
+    record CachedFeedPage(int pageSize, List<SimplePostResponseDTO> posts, boolean hasNext) {
+    }
+}
@@ -5,9 +5,11 @@ import capstone.cycle.club.repository.ClubMemberRepository;
 import capstone.cycle.club.service.ClubService;
 import capstone.cycle.comment.dto.CommentResponseDTO;
 import capstone.cycle.comment.entity.Comment;
+import capstone.cycle.comment.repository.CommentLikeRepository;
 import capstone.cycle.comment.repository.CommentRepository;
 import capstone.cycle.comment.service.CommentService;
 import capstone.cycle.common.security.role.UserRole;
+import capstone.cycle.file.dto.UploadedBlob;
 import capstone.cycle.file.entity.File;
 import capstone.cycle.file.service.FileService;
 import capstone.cycle.like.dto.LikeStatus;
@@ -18,6 +20,9 @@ import capstone.cycle.post.entity.PostCategory;
 import capstone.cycle.post.error.PostErrorResult;
 import capstone.cycle.post.error.PostException;
 import capstone.cycle.post.repository.PostRepository;
+import capstone.cycle.search.dto.SearchCursor;
+import capstone.cycle.search.dto.SearchHit;
+import capstone.cycle.search.service.SearchService;
 import capstone.cycle.user.entity.User;
 import capstone.cycle.user.error.UserErrorResult;
 import capstone.cycle.user.error.UserException;
@@ -27,12 +32,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -47,72 +54,143 @@ public class PostService {
     private final ClubService clubService;
     private final ClubMemberRepository clubMemberRepository;
     private final CommentRepository commentRepository;
-    private static final long POPULAR_POST_LIKE_THRESHOLD = 10;
+    private final CommentLikeRepository commentLikeRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final PostFeedCache postFeedCache;
+    private final PopularPostRanking popularPostRanking;
+    private final SearchService searchService;
+    private final TransactionTemplate transactionTemplate;
 
 
-    @Transactional
+    // 이미지는 트랜잭션 밖에서 먼저 업로드하고, 게시글/파일 행은 짧은 트랜잭션에서 저장한다
+    // 검증/권한 체크는 업로드 전에 먼저 해서 거절될 요청이 스토리지에 쓰지 않게 한다 (업로드 중 바뀔 수 있어 저장 시 다시 확인)
     public Long createPost(PostCreateDTO postCreateDTO, List<MultipartFile> images, Long userId) {
-        validatePostCreation(postCreateDTO, userId);
+        validateBeforeUpload(() -> {
+            validatePostCreation(postCreateDTO, userId);
+            findUserById(userId);
+        });
+        List<UploadedBlob> blobs = fileService.storeBlobs(images);
+        return inTransactionWithBlobs(blobs, () -> {
+            validatePostCreation(postCreateDTO, userId);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserException(UserErrorResult.USER_NOT_EXIST));
+            User user = findUserById(userId);
 
-        Post post = Post.createPost(
-                postCreateDTO.getTitle(),
-                postCreateDTO.getContent(),
-                user,
-                postCreateDTO.getCategory()
-        );
-        postRepository.save(post);
-        if (images != null && !images.isEmpty()) {
-            List<File> files = fileService.uploadFiles(post,images);
-            post = post.withContentImageGroup(files);
-        }
+            Post post = Post.createPost(
+                    postCreateDTO.getTitle(),
+                    postCreateDTO.getContent(),
+                    user,
+                    postCreateDTO.getCategory()
+            );
+            postRepository.save(post);
+            if (!blobs.isEmpty()) {
+                List<File> files = fileService.saveFiles(post, blobs);
+                post = post.withContentImageGroup(files);
+            }
 
-        return post.getId();
+            postFeedCache.evict(PostCategory.ALL);
+            return post.getId();
+        });
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public PostResponseDTO getPost(Long id, Long userId) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new PostException(PostErrorResult.POST_NOT_EXIST));
 
-        incrementViewCountAsync(post);
+        viewCountBuffer.increment(id);
 
         LikeStatus likeStatus = likeService.hasUserLikedPost(id, userId)
                 ? LikeStatus.LIKE
                 : LikeStatus.UNLIKE;
 
-        return new PostResponseDTO(post, likeStatus);
+        return new PostResponseDTO(post, likeStatus, viewCountBuffer.getPendingCount(id));
     }
 
     @Transactional(readOnly = true)
     public Slice<SimplePostResponseDTO> getPostsByCategory(
             PostCategory category,
             Long lastPostId,
+            String cursor,
             Long userId,
             int size
     ) {
         Pageable pageable = PageRequest.of(0, size);
-        Slice<Post> posts = fetchPosts(category, lastPostId, pageable);
 
-        return posts.map(post -> {
-            LikeStatus likeStatus = likeService.hasUserLikedPost(post.getId(), userId)
-                    ? LikeStatus.LIKE
-                    : LikeStatus.UNLIKE;
+        if (category == PostCategory.POPULAR) {
+            return getPopularPosts(lastPostId, cursor, userId, pageable);
+        }
 
-            return SimplePostResponseDTO.fromPost(post, likeStatus);
-        });
+        PostCursor postCursor = resolveCursor(cursor, lastPostId);
+
+        // 전체 게시판 첫 페이지는 캐시에서 조회 후 좋아요 상태만 사용자별로 합친다
+        if (postCursor == null && postFeedCache.supports(category)) {
+            return getCachedFirstPage(category, pageable, userId,
+                    () -> fetchPosts(category, null, pageable).map(post -> SimplePostResponseDTO.fromPost(post, null)));
+        }
+
+        Slice<Post> posts = fetchPosts(category, postCursor, pageable);
+        return toSimplePostResponses(posts, userId);
     }
 
-    @Transactional
+    // 인기게시판은 Redis 랭킹 순서로 조회하고 게시글 본문만 DB 에서 가져온다
+    private Slice<SimplePostResponseDTO> getPopularPosts(Long lastPostId, String cursor, Long userId, Pageable pageable) {
+        RankCursor rankCursor = resolveRankCursor(cursor, lastPostId);
+
+        if (rankCursor == null) {
+            return getCachedFirstPage(PostCategory.POPULAR, pageable, userId,
+                    () -> fetchPopularPosts(null, pageable));
+        }
+
+        return mergeLikeStatus(fetchPopularPosts(rankCursor, pageable), userId);
+    }
+
+    private Slice<SimplePostResponseDTO> getCachedFirstPage(
+            PostCategory category,
+            Pageable pageable,
+            Long userId,
+            Supplier<Slice<SimplePostResponseDTO>> loader
+    ) {
+        Slice<SimplePostResponseDTO> cachedPosts = postFeedCache.get(category, pageable)
+                .orElseGet(() -> {
+                    Slice<SimplePostResponseDTO> firstPage = loader.get();
+                    postFeedCache.put(category, pageable, firstPage);
+                    return firstPage;
+                });
+        return mergeLikeStatus(cachedPosts, userId);
+    }
+
+    private Slice<SimplePostResponseDTO> fetchPopularPosts(RankCursor rankCursor, Pageable pageable) {
+        int pageSize = pageable.getPageSize();
+        List<RankCursor> ranked = popularPostRanking.getPage(rankCursor, pageSize + 1);
+        boolean hasNext = ranked.size() > pageSize;
+        if (hasNext) {
+            ranked = ranked.subList(0, pageSize);
+        }
+
+        Map<Long, Post> postsById = new HashMap<>();
+        for (Post post : postRepository.findAllWithAuthorByIdIn(ranked.stream().map(RankCursor::id).toList())) {
+            postsById.put(post.getId(), post);
+        }
+
+        // 랭킹 순서를 유지하고, 랭킹에만 남아 있는 삭제된 게시글은 건너뛴다
+        List<SimplePostResponseDTO> posts = new ArrayList<>();
+        for (RankCursor entry : ranked) {
+            Post post = postsById.get(entry.id());
+            if (post != null) {
+                posts.add(SimplePostResponseDTO.fromPost(post, null).withCursor(entry.encode()));
+            }
+        }
+        return new SliceImpl<>(posts, pageable, hasNext);
+    }
+
+    @Transactional(readOnly = true)
     public PostDetailResponse getPostWithComments(Long id, Long userId) {
         // 게시글 조회
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new PostException(PostErrorResult.POST_NOT_EXIST));
 
-        // 조회수 증가
-        incrementViewCountAsync(post);
+        // 조회수 증가 (버퍼에 누적 후 주기적으로 반영)
+        viewCountBuffer.increment(id);
 
         // 좋아요 상태 확인
         LikeStatus likeStatus = likeService.hasUserLikedPost(id, userId)
@@ -122,50 +200,48 @@ public class PostService {
         // 댓글 목록 조회
         List<CommentResponseDTO> comments = commentService.getCommentsByPostId(id, userId);
 
-        return PostDetailResponse.of(post, comments, likeStatus);
+        return PostDetailResponse.of(post, comments, likeStatus, viewCountBuffer.getPendingCount(id));
     }
 
-    @Transactional
     public PostResponseDTO updatePost(Long id, PostUpdateDTO postUpdateDTO, List<MultipartFile> newImages, Long userId) {
-        Post post = findById(id);
-        User user = findUserById(userId);
-
-        // 작성자 검증 - 공통
-        validateAuthor(post, user);
-
-        Post updatedPost;
-
-        // 클럽 게시글인 경우
-        if (post.getClub() != null) {
-            validateClubMemberForWrite(post.getClub().getId(), userId);
-
-            updatedPost = post.updateClubContent(
-                    postUpdateDTO.getTitle(),
-                    postUpdateDTO.getContent()
-            );
-        } else {
-            // 일반 게시글인 경우
-            updatedPost = post.updateContent(
-                    postUpdateDTO.getTitle(),
-                    postUpdateDTO.getContent(),
-                    postUpdateDTO.getCategory()
-            );
-        }
+        validateBeforeUpload(() -> findUpdatablePost(id, userId));
+        List<UploadedBlob> blobs = fileService.storeBlobs(newImages);
+        return inTransactionWithBlobs(blobs, () -> {
+            Post post = findUpdatablePost(id, userId);
+
+            Post updatedPost;
+
+            // 클럽 게시글인 경우
+            if (post.getClub() != null) {
+                updatedPost = post.updateClubContent(
+                        postUpdateDTO.getTitle(),
+                        postUpdateDTO.getContent()
+                );
+            } else {
+                // 일반 게시글인 경우
+                updatedPost = post.updateContent(
+                        postUpdateDTO.getTitle(),
+                        postUpdateDTO.getContent(),
+                        postUpdateDTO.getCategory()
+                );
+            }
 
-        // 이미지 처리
-        if (postUpdateDTO.getDeletedImageIds() != null && !postUpdateDTO.getDeletedImageIds().isEmpty()) {
-            fileService.deleteFilesByFileIds(postUpdateDTO.getDeletedImageIds());
-        }
+            // 이미지 처리
+            if (postUpdateDTO.getDeletedImageIds() != null && !postUpdateDTO.getDeletedImageIds().isEmpty()) {
+                fileService.deleteFilesByFileIds(postUpdateDTO.getDeletedImageIds());
+            }
 
-        if (newImages != null && !newImages.isEmpty()) {
-            List<File> files = fileService.uploadFiles(updatedPost, newImages);
-            updatedPost = updatedPost.withContentImageGroup(files);
-        }
+            if (!blobs.isEmpty()) {
+                List<File> files = fileService.saveFiles(updatedPost, blobs);
+                updatedPost = updatedPost.withContentImageGroup(files);
+            }
 
-        Post savedPost = postRepository.save(updatedPost);
-        boolean isLiked = likeService.hasUserLikedPost(id, userId);
+            Post savedPost = postRepository.save(updatedPost);
+            postFeedCache.evictAll();
+            boolean isLiked = likeService.hasUserLikedPost(id, userId);
 
-        return new PostResponseDTO(savedPost, isLiked ? LikeStatus.LIKE : LikeStatus.UNLIKE);
+            return new PostResponseDTO(savedPost, isLiked ? LikeStatus.LIKE : LikeStatus.UNLIKE);
+        });
     }
 
     @Transactional
@@ -182,28 +258,105 @@ public class PostService {
         }
 
         postRepository.delete(post);
+        postFeedCache.evictAll();
+        popularPostRanking.remove(id);
     }
 
-    private Slice<Post> fetchPosts(PostCategory category, Long lastPostId, Pageable pageable) {
-        if (lastPostId == null) {
+    private Slice<Post> fetchPosts(PostCategory category, PostCursor cursor, Pageable pageable) {
+        if (cursor == null) {
             return switch (category) {
                 case ALL -> postRepository.findFirstPage(pageable);
-                case POPULAR -> postRepository.findFirstPagePopularPosts(POPULAR_POST_LIKE_THRESHOLD, pageable);
                 default -> postRepository.findFirstPageByCategory(category, pageable);
             };
         } else {
             return switch (category) {
-                case ALL -> postRepository.findAllForInfiniteScroll(lastPostId, pageable);
-                case POPULAR -> postRepository.findPopularPostsForInfiniteScroll(
-                        POPULAR_POST_LIKE_THRESHOLD,
-                        lastPostId,
+                case ALL -> postRepository.findAllForInfiniteScroll(cursor.createdAt(), cursor.id(), pageable);
+                default -> postRepository.findByCategoryForInfiniteScroll(
+                        category,
+                        cursor.createdAt(),
+                        cursor.id(),
                         pageable
                 );
-                default -> postRepository.findByCategoryForInfiniteScroll(category, lastPostId, pageable);
             };
         }
     }
 
+    // 업로드 전 검증은 읽기 전용 트랜잭션에서 실행 (지연 로딩되는 작성자/권한 정보 접근)
+    private void validateBeforeUpload(Runnable validation) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> validation.run());
+    }
+
+    // 트랜잭션이 실패하면 이미 업로드한 객체를 정리
+    private <T> T inTransactionWithBlobs(List<UploadedBlob> blobs, Supplier<T> action) {
+        try {
+            return transactionTemplate.execute(status -> action.get());
+        } catch (RuntimeException e) {
+            fileService.discardBlobs(blobs);
+            throw e;
+        }
+    }
+
+    // 커서 문자열이 우선이며, 이전 버전 클라이언트가 보내는 lastPostId 는 PK 조회로 커서를 복원한다
+    private PostCursor resolveCursor(String cursor, Long lastPostId) {
+        if (cursor != null && !cursor.isBlank()) {
+            return PostCursor.decode(cursor);
+        }
+        if (lastPostId == null) {
+            return null;
+        }
+        return postRepository.findCursorById(lastPostId)
+                .orElseGet(() -> cursorBeforeDeletedPost(lastPostId));
+    }
+
+    // 삭제된 게시글의 lastPostId 는 예전처럼 id 기준으로 이어서 조회한다.
+    // id 는 작성 순서대로 증가하므로 (바로 아래 게시글의 createdAt, lastPostId) 위치는 id < lastPostId 조건과 같다
+    private PostCursor cursorBeforeDeletedPost(Long lastPostId) {
+        return postRepository.findCursorsBeforeId(lastPostId, PageRequest.of(0, 1)).stream()
+                .findFirst()
+                .map(previous -> new PostCursor(previous.createdAt(), lastPostId))
+                .orElseGet(PostCursor::beforeAll);
+    }
+
+    // lastPostId 가 랭킹에서 빠졌으면 랭킹이 점수로 위치를 다시 계산한다 (cursorBeforeDeletedPost 와 같은 역할)
+    private RankCursor resolveRankCursor(String cursor, Long lastPostId) {
+        if (cursor != null && !cursor.isBlank()) {
+            return RankCursor.decode(cursor);
+        }
+        if (lastPostId == null) {
+            return null;
+        }
+        return popularPostRanking.cursorOf(lastPostId);
+    }
+
+    // 슬라이스 단위로 좋아요 여부를 한 번에 조회한 뒤 DTO로 변환
+    private Slice<SimplePostResponseDTO> toSimplePostResponses(Slice<Post> posts, Long userId) {
+        Set<Long> likedPostIds = likeService.findLikedPostIds(userId, extractPostIds(posts));
+
+        return posts.map(post -> SimplePostResponseDTO.fromPost(
+                post,
+                likedPostIds.contains(post.getId()) ? LikeStatus.LIKE : LikeStatus.UNLIKE
+        ));
+    }
+
+    private Slice<SimplePostResponseDTO> mergeLikeStatus(Slice<SimplePostResponseDTO> posts, Long userId) {
+        List<Long> postIds = posts.getContent().stream()
+                .map(SimplePostResponseDTO::getId)
+                .toList();
+        Set<Long> likedPostIds = likeService.findLikedPostIds(userId, postIds);
+
+        return posts.map(post -> post.withLikeStatus(
+                likedPostIds.contains(post.getId()) ? LikeStatus.LIKE : LikeStatus.UNLIKE
+        ));
+    }
+
+    private List<Long> extractPostIds(Slice<Post> posts) {
+        return posts.getContent().stream()
+                .map(Post::getId)
+                .toList();
+    }
+
     private void validatePostCreation(PostCreateDTO postCreateDTO, Long userId) {
         if (!PostCategory.isValidForCreation(postCreateDTO.getCategory())) {
             throw new PostException(PostErrorResult.INVALID_CATEGORY);
@@ -226,13 +379,6 @@ public class PostService {
         }
     }
 
-    @Async
-    @Transactional
-    protected void incrementViewCountAsync(Post post) {
-        postRepository.incrementViewCount(post.getId());
-    }
-
-
     private Post updatePostContent(Post post, PostUpdateDTO postUpdateDTO) {
         return post.updateContent(
                 postUpdateDTO.getTitle(),
@@ -295,36 +441,38 @@ public class PostService {
     }
 
     public Long createClubPost(Long clubId, ClubPostCreateRequest clubPostCreateRequest, List<MultipartFile> images, Long userId) {
-        // 클럽 존재 여부 확인
-        Club club = clubService.findClubById(clubId);
-
-        // 클럽 회원인지 확인
-        validateClubMemberForWrite(clubId, userId);
-
-        User author = userRepository.findById(userId)
-                .orElseThrow(() -> new UserException(UserErrorResult.USER_NOT_EXIST));
-
-        Post clubPost = Post.createClubPost(
-                clubPostCreateRequest.getTitle(),
-                clubPostCreateRequest.getContent(),
-                author,
-                club
-        );
+        validateBeforeUpload(() -> {
+            validateClubPostCreation(clubId, userId);
+            findUserById(userId);
+        });
+        List<UploadedBlob> blobs = fileService.storeBlobs(images);
+        return inTransactionWithBlobs(blobs, () -> {
+            Club club = validateClubPostCreation(clubId, userId);
+            User author = findUserById(userId);
+
+            Post clubPost = Post.createClubPost(
+                    clubPostCreateRequest.getTitle(),
+                    clubPostCreateRequest.getContent(),
+                    author,
+                    club
+            );
 
-        Post savedClubPost = postRepository.save(clubPost);
+            Post savedClubPost = postRepository.save(clubPost);
 
-        // 이미지 처리
-        if (images != null && !images.isEmpty()) {
-            List<File> files = fileService.uploadFiles(savedClubPost, images);
-            savedClubPost = savedClubPost.withContentImageGroup(files);
-        }
+            // 이미지 처리
+            if (!blobs.isEmpty()) {
+                List<File> files = fileService.saveFiles(savedClubPost, blobs);
+                savedClubPost = savedClubPost.withContentImageGroup(files);
+            }
 
-        return savedClubPost.getId();
+            postFeedCache.evict(PostCategory.ALL);
+            return savedClubPost.getId();
+        });
     }
 
 
 
-    public Slice<ClubPostPreviewResponse> getClubPosts(Long clubId, Long userId, Long lastPostId, int pageSize) {
+    public Slice<ClubPostPreviewResponse> getClubPosts(Long clubId, Long userId, Long lastPostId, String cursor, int pageSize) {
         // 클럽 존재 여부 확인
         clubService.findClubById(clubId);
 
@@ -332,26 +480,41 @@ public class PostService {
         validateClubMemberForRead(clubId, userId);
 
         Pageable pageable = PageRequest.of(0, pageSize);
+        PostCursor postCursor = resolveCursor(cursor, lastPostId);
         Slice<Post> posts;
 
-        if (lastPostId == null) {
+        if (postCursor == null) {
             posts = postRepository.findClubPostsFirstPage(clubId, pageable);
         } else {
-            posts = postRepository.findClubPostsNextPage(clubId, lastPostId, pageable);
+            posts = postRepository.findClubPostsNextPage(clubId, postCursor.createdAt(), postCursor.id(), pageable);
         }
 
-        return posts.map(post -> {
-            Comment latestComment = commentRepository
-                    .findLatestCommentByPostId(post.getId(), PageRequest.of(0, 1))
+        Set<Long> likedPostIds = likeService.findLikedPostIds(userId, extractPostIds(posts));
+
+        Map<Long, Comment> latestComments = new HashMap<>();
+        for (Post post : posts) {
+            commentRepository.findLatestCommentByPostId(post.getId(), PageRequest.of(0, 1))
                     .stream()
                     .findFirst()
-                    .orElse(null);
+                    .ifPresent(comment -> latestComments.put(post.getId(), comment));
+        }
+
+        // 최신 댓글들의 좋아요 여부는 한 번에 조회
+        List<Long> latestCommentIds = latestComments.values().stream()
+                .map(Comment::getId)
+                .toList();
+        Set<Long> likedCommentIds = latestCommentIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(commentLikeRepository.findLikedCommentIdsIn(userId, latestCommentIds));
+
+        return posts.map(post -> {
+            Comment latestComment = latestComments.get(post.getId());
+            boolean latestCommentLiked = latestComment != null && likedCommentIds.contains(latestComment.getId());
 
             //좋아요 상태 체크
-            boolean isLiked = likeService.hasUserLikedPost(post.getId(), userId);
-            LikeStatus likeStatus = isLiked ? LikeStatus.LIKE : LikeStatus.UNLIKE;
+            LikeStatus likeStatus = likedPostIds.contains(post.getId()) ? LikeStatus.LIKE : LikeStatus.UNLIKE;
 
-            return ClubPostPreviewResponse.from(post, latestComment, userId, likeStatus);
+            return ClubPostPreviewResponse.from(post, latestComment, latestCommentLiked, likeStatus);
         });
     }
 
@@ -375,6 +538,27 @@ public class PostService {
                 .orElseThrow(() -> new PostException(PostErrorResult.POST_NOT_EXIST));
     }
 
+    // 작성자 본인이고, 클럽 게시글이면 클럽 회원인 경우에만 수정 가능
+    private Post findUpdatablePost(Long id, Long userId) {
+        Post post = findById(id);
+        User user = findUserById(userId);
+
+        // 작성자 검증 - 공통
+        validateAuthor(post, user);
+
+        if (post.getClub() != null) {
+            validateClubMemberForWrite(post.getClub().getId(), userId);
+        }
+        return post;
+    }
+
+    // 클럽 존재 여부와 클럽 회원인지 확인
+    private Club validateClubPostCreation(Long clubId, Long userId) {
+        Club club = clubService.findClubById(clubId);
+        validateClubMemberForWrite(clubId, userId);
+        return club;
+    }
+
     private User findUserById(Long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new UserException(UserErrorResult.USER_NOT_EXIST));
@@ -396,52 +580,46 @@ public class PostService {
     }
 
     @Transactional(readOnly = true)
-    public Slice<SimplePostResponseDTO> getMyPosts(Long userId, Long lastPostId, int pageSize) {
+    public Slice<SimplePostResponseDTO> getMyPosts(Long userId, Long lastPostId, String cursor, int pageSize) {
         Pageable pageable = PageRequest.of(0, pageSize);
-        Slice<Post> posts = lastPostId == null ?
+        PostCursor postCursor = resolveCursor(cursor, lastPostId);
+        Slice<Post> posts = postCursor == null ?
                 postRepository.findMyPostsFirstPage(userId, pageable) :
-                postRepository.findMyPostsNextPage(userId, lastPostId, pageable);
+                postRepository.findMyPostsNextPage(userId, postCursor.createdAt(), postCursor.id(), pageable);
 
-        return posts.map(post -> {
-            boolean isLiked = likeService.hasUserLikedPost(post.getId(), userId);
-            return SimplePostResponseDTO.fromPost(post, isLiked ? LikeStatus.LIKE : LikeStatus.UNLIKE);
-        });
+        return toSimplePostResponses(posts, userId);
     }
 
     @Transactional(readOnly = true)
-    public Slice<SimplePostResponseDTO> getMyClubPosts(Long userId, Long clubId, Long lastPostId, int pageSize) {
+    public Slice<SimplePostResponseDTO> getMyClubPosts(Long userId, Long clubId, Long lastPostId, String cursor, int pageSize) {
 //        validateClubMemberForRead(clubId, userId);
 // 클럽 회원이 아니더라고 간단하게 Post를 볼 수 있고 삭제 가능
         Pageable pageable = PageRequest.of(0, pageSize);
-        Slice<Post> posts = lastPostId == null ?
+        PostCursor postCursor = resolveCursor(cursor, lastPostId);
+        Slice<Post> posts = postCursor == null ?
                 postRepository.findMyClubPostsFirstPage(userId, clubId, pageable) :
-                postRepository.findMyClubPostsNextPage(userId,clubId, lastPostId, pageable);
+                postRepository.findMyClubPostsNextPage(userId, clubId, postCursor.createdAt(), postCursor.id(), pageable);
 
-        return posts.map(post -> {
-            boolean isLiked = likeService.hasUserLikedPost(post.getId(), userId);
-            return SimplePostResponseDTO.fromPost(post, isLiked ? LikeStatus.LIKE : LikeStatus.UNLIKE);
-        });
+        return toSimplePostResponses(posts, userId);
     }
 
 
     @Transactional(readOnly = true)
-    public Slice<SimplePostResponseDTO> getUserPosts(Long targetUserId, Long currentUserId, Long lastPostId, int pageSize) {
+    public Slice<SimplePostResponseDTO> getUserPosts(Long targetUserId, Long currentUserId, Long lastPostId, String cursor, int pageSize) {
         // 존재하는 사용자인지 확인
         findUserById(targetUserId);
 
         Pageable pageable = PageRequest.of(0, pageSize);
-        Slice<Post> posts = lastPostId == null ?
+        PostCursor postCursor = resolveCursor(cursor, lastPostId);
+        Slice<Post> posts = postCursor == null ?
                 postRepository.findUserPostsFirstPage(targetUserId, pageable) :
-                postRepository.findUserPostsNextPage(targetUserId, lastPostId, pageable);
+                postRepository.findUserPostsNextPage(targetUserId, postCursor.createdAt(), postCursor.id(), pageable);
 
-        return posts.map(post -> {
-            boolean isLiked = likeService.hasUserLikedPost(post.getId(), currentUserId);
-            return SimplePostResponseDTO.fromPost(post, isLiked ? LikeStatus.LIKE : LikeStatus.UNLIKE);
-        });
+        return toSimplePostResponses(posts, currentUserId);
     }
 
     @Transactional(readOnly = true)
-    public Slice<SimplePostResponseDTO> getUserClubPosts(Long targetUserId, Long clubId, Long currentUserId, Long lastPostId, int pageSize) {
+    public Slice<SimplePostResponseDTO> getUserClubPosts(Long targetUserId, Long clubId, Long currentUserId, Long lastPostId, String cursor, int pageSize) {
         // 존재하는 사용자인지 확인
         findUserById(targetUserId);
 
@@ -449,30 +627,37 @@ public class PostService {
 //        validateClubMemberForRead(clubId, currentUserId);
 
         Pageable pageable = PageRequest.of(0, pageSize);
-        Slice<Post> posts = lastPostId == null ?
+        PostCursor postCursor = resolveCursor(cursor, lastPostId);
+        Slice<Post> posts = postCursor == null ?
                 postRepository.findUserClubPostsFirstPage(targetUserId, clubId, pageable) :
-                postRepository.findUserClubPostsNextPage(targetUserId, clubId, lastPostId, pageable);
+                postRepository.findUserClubPostsNextPage(targetUserId, clubId, postCursor.createdAt(), postCursor.id(), pageable);
 
-        return posts.map(post -> {
-            boolean isLiked = likeService.hasUserLikedPost(post.getId(), currentUserId);
-            return SimplePostResponseDTO.fromPost(post, isLiked ? LikeStatus.LIKE : LikeStatus.UNLIKE);
-        });
+        return toSimplePostResponses(posts, currentUserId);
     }
 
     @Transactional(readOnly = true)
-    public Slice<SimplePostResponseDTO> searchPosts(String keyword, Long lastPostId, Long userId, int pageSize) {
+    public Slice<SimplePostResponseDTO> searchPosts(String keyword, String cursor, Long userId, int pageSize) {
         if (keyword == null || keyword.trim().isEmpty()) {
             throw new PostException(PostErrorResult.INVALID_SEARCH_KEYWORD);
         }
 
         Pageable pageable = PageRequest.of(0, pageSize);
-        Slice<Post> posts = lastPostId == null ?
-                postRepository.searchPostsFirstPage(keyword.trim(), pageable) :
-                postRepository.searchPostsNextPage(keyword.trim(), lastPostId, pageable);
+        SearchCursor searchCursor = cursor != null && !cursor.isBlank() ? SearchCursor.decode(cursor) : null;
+        Slice<SearchHit> hits = searchService.searchPosts(keyword.trim(), searchCursor, pageable);
 
-        return posts.map(post -> {
-            boolean isLiked = likeService.hasUserLikedPost(post.getId(), userId);
-            return SimplePostResponseDTO.fromPost(post, isLiked ? LikeStatus.LIKE : LikeStatus.UNLIKE);
-        });
+        Map<Long, Post> postsById = new HashMap<>();
+        for (Post post : postRepository.findAllWithAuthorByIdIn(hits.map(SearchHit::id).getContent())) {
+            postsById.put(post.getId(), post);
+        }
+
+        // 관련도 순서를 유지
+        List<SimplePostResponseDTO> posts = new ArrayList<>();
+        for (SearchHit hit : hits) {
+            Post post = postsById.get(hit.id());
+            if (post != null) {
+                posts.add(SimplePostResponseDTO.fromPost(post, null).withCursor(hit.toCursor().encode()));
+            }
+        }
+        return mergeLikeStatus(new SliceImpl<>(posts, pageable, hits.hasNext()), userId);
     }
 }
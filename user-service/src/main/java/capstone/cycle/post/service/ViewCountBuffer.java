@@ -0,0 +1,79 @@
+package capstone.cycle.post.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 조회수 write-behind 버퍼.
+ * 조회 시에는 메모리의 카운터만 증가시키고, 누적된 증가분은 스케줄러가 주기적으로 배치 UPDATE 로 반영한다.
+ * 증가(merge)와 반영 시 제거(remove)는 모두 맵의 원자 연산이라, 제거된 카운터에 증가분이 더해져 유실되는 일이 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private static final String FLUSH_SQL = "UPDATE post SET view_count = view_count + ? WHERE post_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PopularPostRanking popularPostRanking;
+    private final ConcurrentHashMap<Long, Long> pendingCounts = new ConcurrentHashMap<>();
+
+    // 조회수 1 증가 (DB 접근 없음)
+    public void increment(Long postId) {
+        pendingCounts.merge(postId, 1L, Long::sum);
+    }
+
+    // 아직 DB에 반영되지 않은 조회수
+    public long getPendingCount(Long postId) {
+        return pendingCounts.getOrDefault(postId, 0L);
+    }
+
+    // 누적된 증가분을 배치 UPDATE 로 반영
+    public void flush() {
+        List<Object[]> batchArgs = new ArrayList<>();
+
+        // 게시글별로 누적값을 원자적으로 떼어낸다. 이후의 증가분은 새 항목으로 쌓인다
+        for (Long postId : pendingCounts.keySet()) {
+            Long delta = pendingCounts.remove(postId);
+            if (delta != null && delta > 0) {
+                batchArgs.add(new Object[]{delta, postId});
+            }
+        }
+
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+            log.debug("Flushed view counts for {} posts", batchArgs.size());
+        } catch (DataAccessException e) {
+            log.error("Failed to flush view counts, restoring {} pending entries", batchArgs.size(), e);
+            batchArgs.forEach(args -> pendingCounts.merge((Long) args[1], (Long) args[0], Long::sum));
+            return;
+        }
+
+        // DB 에 반영된 증가분만 인기 랭킹에 전달
+        Map<Long, Long> viewDeltas = new HashMap<>();
+        batchArgs.forEach(args -> viewDeltas.put((Long) args[1], (Long) args[0]));
+        popularPostRanking.onViews(viewDeltas);
+    }
+
+    // 종료 시 남은 증가분 반영
+    @PreDestroy
+    public void drain() {
+        log.info("Draining pending view counts before shutdown");
+        flush();
+    }
+}
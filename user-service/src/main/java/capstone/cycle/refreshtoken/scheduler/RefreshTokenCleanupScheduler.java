@@ -1,7 +1,7 @@
 package capstone.cycle.refreshtoken.scheduler;
 
-import capstone.cycle.common.security.service.RedisTokenService;
-import capstone.cycle.refreshtoken.service.RefreshTokenService;
+import capstone.cycle.common.security.service.TokenKeySweeper;
+import capstone.cycle.common.security.service.TokenStatistics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -12,16 +12,25 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class RefreshTokenCleanupScheduler {
 
-    private final RedisTokenService redisTokenService;
+    private final TokenKeySweeper tokenKeySweeper;
+    private final TokenStatistics tokenStatistics;
 
-    @Scheduled(cron = "0 0 0 * * *") // 매일 자정에 실행
+    // 정리는 TokenKeySweeper 전용 스레드에서 실행되므로 여기서는 시작만 한다
+    @Scheduled(cron = "${security.token-cleanup.cron:0 0 0 * * *}") // 기본 매일 자정에 실행
     public void cleanupExpiredTokens() {
+        if (tokenKeySweeper.sweepAsync()) {
+            log.info("Started scheduled cleanup of token keys");
+        } else {
+            log.warn("Skipped scheduled token cleanup: previous sweep is still running");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.token-metrics.refresh-interval-ms:60000}") // 기본 1분마다 실행
+    public void refreshTokenMetrics() {
         try {
-            log.info("Starting scheduled cleanup of expired tokens");
-            redisTokenService.cleanupExpiredTokens();
-            log.info("Completed scheduled cleanup of expired tokens");
+            tokenStatistics.refresh();
         } catch (Exception e) {
-            log.error("Error during scheduled token cleanup", e);
+            log.error("Error during token metrics refresh", e);
         }
     }
 }
@@ -4,6 +4,7 @@ import capstone.cycle.common.security.error.TokenErrorResult;
 import capstone.cycle.common.security.error.TokenException;
 import capstone.cycle.common.security.service.JwtUtil;
 import capstone.cycle.common.security.service.RedisTokenService;
+import capstone.cycle.common.security.service.SecurityService;
 import capstone.cycle.user.entity.User;
 import capstone.cycle.user.error.UserErrorResult;
 import capstone.cycle.user.error.UserException;
@@ -27,6 +28,7 @@ public class RefreshTokenService {
     private final RedisTokenService redisTokenService;
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
+    private final SecurityService securityService;
 
     @Value("${jwt.refresh-token-validity}")
     private long refreshTokenValidityMilliseconds;
@@ -41,31 +43,14 @@ public class RefreshTokenService {
         return token;
     }
 
-    @Transactional
     public Map<String, String> rotateRefreshToken(String oldRefreshToken) {
         try {
-            // redis에서 userId 찾기
-            Long userId = redisTokenService.findUserIdByRefreshToken(oldRefreshToken);
-
-            // 토큰이 이미 사용된 것인지 확인
-            if (redisTokenService.isTokenUsed(oldRefreshToken)) {
-                log.warn("Refresh token reuse detected for user: {}", userId);
-                revokeAllUserTokens(userId);
-                throw new TokenException(TokenErrorResult.TOKEN_REUSE_DETECTED);
-            }
-
-            // 현재 토큰을 사용됨으로 표시
-            redisTokenService.markTokenAsUsed(oldRefreshToken, refreshTokenValidityMilliseconds);
-
-            // 새로운 토큰 발급
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new UserException(UserErrorResult.USER_NOT_EXIST));
-
+            // 재사용 확인, 사용 표시, 새 토큰 저장을 Redis 에서 원자적으로 처리 (재사용이면 사용자 토큰도 폐기됨)
             String newRefreshToken = generateRefreshToken();
-            String newAccessToken = jwtUtil.generateAccessToken(user.toDTO());
+            Long userId = redisTokenService.rotateRefreshToken(oldRefreshToken, newRefreshToken, refreshTokenValidityMilliseconds);
 
-            // 새로운 RefreshToken을 redis에 저장
-            redisTokenService.saveRefreshToken(userId, newRefreshToken, refreshTokenValidityMilliseconds);
+            // 액세스 토큰에 필요한 사용자 정보는 principal 캐시에서 조회
+            String newAccessToken = jwtUtil.generateAccessToken(securityService.getUserInfo(userId));
 
             Map<String, String> tokens = new HashMap<>();
             tokens.put("accessToken", newAccessToken);
@@ -0,0 +1,27 @@
+package capstone.cycle.search.api;
+
+import capstone.cycle.search.service.SearchService;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/u/v1/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    // 검색 인덱스 재구성 (관리자 전용)
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping("/reindex")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> reindex() {
+        searchService.reindex();
+        return ResponseEntity.noContent().build();
+    }
+}
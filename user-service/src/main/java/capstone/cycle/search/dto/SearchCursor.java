@@ -0,0 +1,42 @@
+package capstone.cycle.search.dto;
+
+import capstone.cycle.search.error.SearchErrorResult;
+import capstone.cycle.search.error.SearchException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 검색 결과 페이지 커서.
+ * 정렬 키 (관련도 점수, id) 를 담아 클라이언트에는 불투명한 문자열로 전달한다.
+ * 점수는 부동소수점 비교 오차로 페이지 경계의 결과가 빠지거나 겹치지 않도록 SCORE_SCALE 배 한 정수(고정소수점)로 다룬다.
+ */
+public record SearchCursor(long score, Long id) {
+
+    public static final long SCORE_SCALE = 1_000_000L;
+
+    private static final String DELIMITER = "_";
+
+    public String encode() {
+        String raw = score + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(DELIMITER);
+            return new SearchCursor(parseScore(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new SearchException(SearchErrorResult.INVALID_CURSOR);
+        }
+    }
+
+    // 이전 버전 커서는 점수를 double 문자열로 담고 있으므로 같은 배율로 변환
+    private static long parseScore(String score) {
+        if (score.contains(".") || score.contains("E")) {
+            return Math.round(Double.parseDouble(score) * SCORE_SCALE);
+        }
+        return Long.parseLong(score);
+    }
+}
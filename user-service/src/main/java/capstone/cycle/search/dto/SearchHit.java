@@ -0,0 +1,9 @@
+package capstone.cycle.search.dto;
+
+// 검색 결과 한 건 (대상 id 와 SearchCursor.SCORE_SCALE 배 한 관련도 점수)
+public record SearchHit(Long id, long score) {
+
+    public SearchCursor toCursor() {
+        return new SearchCursor(score, id);
+    }
+}
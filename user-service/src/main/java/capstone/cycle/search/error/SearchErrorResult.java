@@ -0,0 +1,16 @@
+package capstone.cycle.search.error;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum SearchErrorResult {
+    INVALID_KEYWORD(HttpStatus.BAD_REQUEST, "검색어를 입력해주세요."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 검색 커서입니다."),
+    REINDEX_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "검색 인덱스 재구성 중 오류가 발생했습니다.");
+
+    private final HttpStatus status;
+    private final String message;
+}
@@ -0,0 +1,10 @@
+package capstone.cycle.search.error;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class SearchException extends RuntimeException {
+    private final SearchErrorResult searchErrorResult;
+}
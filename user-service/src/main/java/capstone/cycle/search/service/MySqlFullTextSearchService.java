@@ -0,0 +1,195 @@
+package capstone.cycle.search.service;
+
+import capstone.cycle.search.dto.SearchCursor;
+import capstone.cycle.search.dto.SearchHit;
+import capstone.cycle.search.error.SearchErrorResult;
+import capstone.cycle.search.error.SearchException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MySQL FULLTEXT(ngram parser) 기반 검색.
+ * 인덱스는 InnoDB 가 게시글/동호회 INSERT, UPDATE, DELETE 와 함께 갱신하므로 별도의 동기화 이벤트가 필요 없다.
+ */
+@Slf4j
+@Service
+public class MySqlFullTextSearchService implements SearchService {
+
+    private static final List<FullTextIndex> INDEXES = List.of(
+            new FullTextIndex("post", "ft_post_title_content", "title, content"),
+            new FullTextIndex("club", "ft_club_name_description", "name, description")
+    );
+
+    // 점수는 고정소수점 정수로 반올림해 정렬하고 커서와 비교한다 (SearchCursor 참고)
+    private static final String POST_SEARCH_SQL =
+            "SELECT p.post_id AS id, " + fixedPointScore("MATCH(p.title, p.content) AGAINST (? IN BOOLEAN MODE)") + " AS score " +
+            "FROM post p " +
+            "WHERE p.club_id IS NULL " +
+            "AND MATCH(p.title, p.content) AGAINST (? IN BOOLEAN MODE) ";
+
+    private static final String CLUB_SEARCH_SQL =
+            "SELECT c.id AS id, " + fixedPointScore("MATCH(c.name, c.description) AGAINST (? IN BOOLEAN MODE)") + " AS score " +
+            "FROM club c " +
+            "WHERE MATCH(c.name, c.description) AGAINST (? IN BOOLEAN MODE) ";
+
+    private static final String CLUB_ANCHOR_CONDITION = "AND c.id = ? ";
+    private static final String CURSOR_CONDITION = "HAVING score < ? OR (score = ? AND id < ?) ";
+    private static final String ORDER_AND_LIMIT = "ORDER BY score DESC, id DESC LIMIT ?";
+    // boolean mode 연산자로 해석되는 문자
+    private static final String OPERATOR_CHARACTERS = "[+\\-<>()~*\"@]";
+
+    private static final RowMapper<SearchHit> HIT_MAPPER =
+            (rs, rowNum) -> new SearchHit(rs.getLong("id"), rs.getLong("score"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int ngramTokenSize;
+    private final boolean createIndexes;
+
+    public MySqlFullTextSearchService(
+            JdbcTemplate jdbcTemplate,
+            @Value("${search.ngram-token-size:2}") int ngramTokenSize,
+            @Value("${search.create-indexes:true}") boolean createIndexes
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ngramTokenSize = ngramTokenSize;
+        this.createIndexes = createIndexes;
+    }
+
+    // JPA 로는 FULLTEXT 인덱스를 선언할 수 없으므로 기동 시 없으면 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        if (!createIndexes) {
+            return;
+        }
+        try {
+            for (FullTextIndex index : INDEXES) {
+                if (!indexExists(index)) {
+                    createIndex(index);
+                }
+            }
+        } catch (DataAccessException e) {
+            log.error("Failed to create full-text search indexes", e);
+        }
+    }
+
+    @Override
+    public Slice<SearchHit> searchPosts(String keyword, SearchCursor cursor, Pageable pageable) {
+        return search(POST_SEARCH_SQL, keyword, cursor, pageable);
+    }
+
+    @Override
+    public Slice<SearchHit> searchClubs(String keyword, SearchCursor cursor, Pageable pageable) {
+        return search(CLUB_SEARCH_SQL, keyword, cursor, pageable);
+    }
+
+    @Override
+    public Optional<SearchCursor> clubCursorOf(String keyword, Long clubId) {
+        String query = toBooleanQuery(keyword);
+        return jdbcTemplate.query(CLUB_SEARCH_SQL + CLUB_ANCHOR_CONDITION, HIT_MAPPER, query, query, clubId).stream()
+                .findFirst()
+                .map(SearchHit::toCursor);
+    }
+
+    // ngram_token_size 변경 등으로 인덱스를 다시 만들어야 할 때 사용
+    @Override
+    public void reindex() {
+        try {
+            for (FullTextIndex index : INDEXES) {
+                if (indexExists(index)) {
+                    jdbcTemplate.execute("ALTER TABLE " + index.table() + " DROP INDEX " + index.name());
+                }
+                createIndex(index);
+            }
+        } catch (DataAccessException e) {
+            log.error("Failed to rebuild full-text search indexes", e);
+            throw new SearchException(SearchErrorResult.REINDEX_FAILED);
+        }
+    }
+
+    private Slice<SearchHit> search(String baseSql, String keyword, SearchCursor cursor, Pageable pageable) {
+        String query = toBooleanQuery(keyword);
+        int pageSize = pageable.getPageSize();
+
+        List<Object> args = new ArrayList<>(List.of(query, query));
+        StringBuilder sql = new StringBuilder(baseSql);
+        if (cursor != null) {
+            sql.append(CURSOR_CONDITION);
+            args.add(cursor.score());
+            args.add(cursor.score());
+            args.add(cursor.id());
+        }
+        sql.append(ORDER_AND_LIMIT);
+        // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        args.add(pageSize + 1);
+
+        List<SearchHit> hits = jdbcTemplate.query(sql.toString(), HIT_MAPPER, args.toArray());
+        boolean hasNext = hits.size() > pageSize;
+        if (hasNext) {
+            hits = hits.subList(0, pageSize);
+        }
+        return new SliceImpl<>(hits, pageable, hasNext);
+    }
+
+    // 모든 검색어를 포함하도록 boolean mode 쿼리로 변환
+    // ngram 토큰보다 짧은 검색어는 접두어 검색(*)으로 해당 글자로 시작하는 토큰을 찾는다
+    private String toBooleanQuery(String keyword) {
+        if (keyword == null) {
+            throw new SearchException(SearchErrorResult.INVALID_KEYWORD);
+        }
+
+        StringBuilder query = new StringBuilder();
+        for (String term : keyword.trim().split("\\s+")) {
+            String sanitized = term.replaceAll(OPERATOR_CHARACTERS, "");
+            if (sanitized.isEmpty()) {
+                continue;
+            }
+            if (!query.isEmpty()) {
+                query.append(' ');
+            }
+            if (sanitized.length() < ngramTokenSize) {
+                query.append('+').append(sanitized).append('*');
+            } else {
+                query.append("+\"").append(sanitized).append('"');
+            }
+        }
+
+        if (query.isEmpty()) {
+            throw new SearchException(SearchErrorResult.INVALID_KEYWORD);
+        }
+        return query.toString();
+    }
+
+    private static String fixedPointScore(String match) {
+        return "CAST(ROUND(" + match + " * " + SearchCursor.SCORE_SCALE + ") AS SIGNED)";
+    }
+
+    private boolean indexExists(FullTextIndex index) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class, index.table(), index.name());
+        return count != null && count > 0;
+    }
+
+    private void createIndex(FullTextIndex index) {
+        jdbcTemplate.execute("ALTER TABLE " + index.table() +
+                " ADD FULLTEXT INDEX " + index.name() + " (" + index.columns() + ") WITH PARSER ngram");
+        log.info("Created full-text index {} on {}", index.name(), index.table());
+    }
+
+    private record FullTextIndex(String table, String name, String columns) {
+    }
+}
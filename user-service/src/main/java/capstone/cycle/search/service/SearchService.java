@@ -0,0 +1,27 @@
+package capstone.cycle.search.service;
+
+import capstone.cycle.search.dto.SearchCursor;
+import capstone.cycle.search.dto.SearchHit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Optional;
+
+/**
+ * 게시글/동호회 전문 검색.
+ * 결과는 관련도 점수 내림차순(동점이면 id 내림차순)이며, cursor 다음 결과부터 반환한다.
+ */
+public interface SearchService {
+
+    // 일반 커뮤니티 게시글 (제목 + 내용)
+    Slice<SearchHit> searchPosts(String keyword, SearchCursor cursor, Pageable pageable);
+
+    // 동호회 (이름 + 설명)
+    Slice<SearchHit> searchClubs(String keyword, SearchCursor cursor, Pageable pageable);
+
+    // 이전 버전 클라이언트의 lastClubId 를 커서로 변환 (동호회가 더 이상 검색되지 않으면 empty)
+    Optional<SearchCursor> clubCursorOf(String keyword, Long clubId);
+
+    // 검색 인덱스 재구성
+    void reindex();
+}
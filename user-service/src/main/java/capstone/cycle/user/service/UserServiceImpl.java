@@ -6,6 +6,7 @@ import capstone.cycle.club.repository.ClubRepository;
 import capstone.cycle.common.security.error.TokenErrorResult;
 import capstone.cycle.common.security.error.TokenException;
 import capstone.cycle.common.security.service.JwtUtil;
+import capstone.cycle.common.security.service.PrincipalCache;
 import capstone.cycle.common.security.service.RedisTokenService;
 import capstone.cycle.user.dto.*;
 import capstone.cycle.user.entity.Location;
@@ -32,6 +33,7 @@ public class UserServiceImpl implements UserService {
     private final JwtUtil jwtUtil;
     private final RedisTokenService redisTokenService;
     private final ClubRepository clubRepository;
+    private final PrincipalCache principalCache;
 
     @Override
     @Transactional
@@ -93,6 +95,7 @@ public class UserServiceImpl implements UserService {
 
         User updatedUser = user.withNickname(nickname);
         userRepository.save(updatedUser);
+        principalCache.evict(id);
         log.info("Updated nickname for user: {}", id);
     }
 
@@ -109,6 +112,7 @@ public class UserServiceImpl implements UserService {
 
         User updatedUser = user.withCurrentLocation(currentLocation);
         userRepository.save(updatedUser);
+        principalCache.evict(id);
         log.info("Updated location for user: {}", id);
     }
 
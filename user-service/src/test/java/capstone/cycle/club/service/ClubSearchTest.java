@@ -0,0 +1,109 @@
+package capstone.cycle.club.service;
+
+import capstone.cycle.club.dto.ClubListResponseDTO;
+import capstone.cycle.club.entity.Club;
+import capstone.cycle.file.service.FileService;
+import capstone.cycle.post.service.PostFeedCache;
+import capstone.cycle.search.dto.SearchCursor;
+import capstone.cycle.search.dto.SearchHit;
+import capstone.cycle.search.service.SearchService;
+import capstone.cycle.user.entity.Location;
+import capstone.cycle.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 동호회 검색이 관련도 순서를 유지하고, 이전 버전 클라이언트의 lastClubId 를 그 동호회의 검색 위치로 바꿔 이어서 조회하는지 확인
+@DataJpaTest
+@Import(ClubService.class)
+class ClubSearchTest {
+
+    @Autowired
+    private ClubService clubService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private FileService fileService;
+    @MockBean
+    private PostFeedCache postFeedCache;
+    @MockBean
+    private SearchService searchService;
+
+    @Test
+    void cursorKeepsRelevanceOrder() {
+        List<Club> clubs = persistClubs();
+        SearchCursor cursor = new SearchCursor(3_000_000, clubs.get(2).getId());
+        when(searchService.searchClubs("산악", cursor, PageRequest.of(0, 20))).thenReturn(new SliceImpl<>(List.of(
+                new SearchHit(clubs.get(0).getId(), 2_000_000),
+                new SearchHit(clubs.get(1).getId(), 1_000_000)
+        ), PageRequest.of(0, 20), true));
+
+        Slice<ClubListResponseDTO> page = clubService.searchClubs(" 산악 ", cursor.encode(), null, 20);
+
+        assertThat(page.getContent()).extracting(ClubListResponseDTO::getId)
+                .containsExactly(clubs.get(0).getId(), clubs.get(1).getId());
+        assertThat(page.getContent().get(1).getCursor())
+                .isEqualTo(new SearchCursor(1_000_000, clubs.get(1).getId()).encode());
+        assertThat(page.hasNext()).isTrue();
+        verify(searchService, never()).clubCursorOf(any(), any());
+    }
+
+    @Test
+    void legacyLastClubIdContinuesFromThatClub() {
+        List<Club> clubs = persistClubs();
+        Long lastClubId = clubs.get(2).getId();
+        SearchCursor anchor = new SearchCursor(3_000_000, lastClubId);
+        when(searchService.clubCursorOf("산악", lastClubId)).thenReturn(Optional.of(anchor));
+        when(searchService.searchClubs("산악", anchor, PageRequest.of(0, 20))).thenReturn(new SliceImpl<>(List.of(
+                new SearchHit(clubs.get(0).getId(), 2_000_000)
+        ), PageRequest.of(0, 20), false));
+
+        Slice<ClubListResponseDTO> page = clubService.searchClubs("산악", null, lastClubId, 20);
+
+        assertThat(page.getContent()).extracting(ClubListResponseDTO::getId).containsExactly(clubs.get(0).getId());
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void legacyLastClubIdThatNoLongerMatchesEndsTheResults() {
+        when(searchService.clubCursorOf("산악", 99L)).thenReturn(Optional.empty());
+
+        Slice<ClubListResponseDTO> page = clubService.searchClubs("산악", null, 99L, 20);
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+        verify(searchService, never()).searchClubs(eq("산악"), any(), any());
+    }
+
+    private List<Club> persistClubs() {
+        User leader = User.createUser("leader", "KAKAO", "leader@cycle.test", "leader", "USER", null, "서울특별시", "강남구");
+        entityManager.persist(leader);
+        List<Club> clubs = List.of(
+                Club.createClub("산악 자전거", "주말 산악 라이딩", leader, 10, Location.createDefaultLocation()),
+                Club.createClub("산악회", "등산", leader, 10, Location.createDefaultLocation()),
+                Club.createClub("산악 라이더", "산악 자전거 동호회", leader, 10, Location.createDefaultLocation())
+        );
+        clubs.forEach(entityManager::persist);
+        entityManager.flush();
+        entityManager.clear();
+        return clubs;
+    }
+}
@@ -0,0 +1,109 @@
+package capstone.cycle.comment.service;
+
+import capstone.cycle.comment.entity.Comment;
+import capstone.cycle.comment.entity.CommentLike;
+import capstone.cycle.post.entity.Post;
+import capstone.cycle.post.entity.PostCategory;
+import capstone.cycle.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 구간별로 잠근 뒤 어긋난 like_count 만 고치고, 백필 완료 마커는 모든 구간이 성공한 뒤에만 남기는지 확인
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CommentLikeCountReconcilerTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void repairsOnlyDriftedCounts() {
+        Long[] ids = transactionTemplate.execute(status -> {
+            User user = User.createUser("liker", "KAKAO", "liker@cycle.test", "liker", "USER", null, "서울특별시", "강남구");
+            entityManager.persist(user);
+            Post post = Post.createPost("title", "content", user, PostCategory.FREE_BOARD);
+            entityManager.persist(post);
+            Comment liked = Comment.createComment("liked", post, user);
+            Comment untouched = Comment.createComment("untouched", post, user);
+            entityManager.persist(liked);
+            entityManager.persist(untouched);
+            entityManager.persist(CommentLike.createCommentLike(liked, user));
+            entityManager.flush();
+            return new Long[]{liked.getId(), untouched.getId()};
+        });
+
+        CommentLikeCountReconciler reconciler = new CommentLikeCountReconciler(jdbcTemplate, redisTemplate, transactionTemplate, 1);
+
+        assertThat(reconciler.reconcile()).isEqualTo(1);
+        assertThat(likeCount(ids[0])).isEqualTo(1);
+        assertThat(likeCount(ids[1])).isZero();
+        assertThat(reconciler.reconcile()).isZero();
+    }
+
+    @Test
+    void backfillMarkerIsSetOnlyAfterEveryChunkSucceeds() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = User.createUser("backfill", "KAKAO", "backfill@cycle.test", "backfill", "USER", null, "서울특별시", "강남구");
+            entityManager.persist(user);
+            Post post = Post.createPost("title", "content", user, PostCategory.FREE_BOARD);
+            entityManager.persist(post);
+            entityManager.persist(Comment.createComment("comment", post, user));
+        });
+        TransactionTemplate failingChunks = spy(transactionTemplate);
+        doThrow(new DataAccessResourceFailureException("connection lost")).when(failingChunks).execute(any());
+
+        new CommentLikeCountReconciler(jdbcTemplate, redisTemplate, failingChunks, 100).backfillOnce();
+        verify(valueOperations, never()).set(anyString(), anyString());
+        verify(redisTemplate).delete("MIGRATION:COMMENT_LIKE_COUNT_BACKFILL:LOCK");
+
+        new CommentLikeCountReconciler(jdbcTemplate, redisTemplate, transactionTemplate, 100).backfillOnce();
+        verify(valueOperations).set("MIGRATION:COMMENT_LIKE_COUNT_BACKFILL", "1");
+    }
+
+    private int likeCount(Long commentId) {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM comment WHERE id = ?", Integer.class, commentId);
+    }
+}
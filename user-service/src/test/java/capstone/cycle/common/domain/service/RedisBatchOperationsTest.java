@@ -0,0 +1,103 @@
+package capstone.cycle.common.domain.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// SCAN 결과를 배치로 묶고, 배치 안의 PTTL 은 한 번의 파이프라인으로 보내 키 순서대로 결과를 돌려주는지 확인
+class RedisBatchOperationsTest {
+
+    private RedisTemplate<String, String> redisTemplate;
+    private RedisBatchOperations redisBatchOperations;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        redisBatchOperations = new RedisBatchOperations(redisTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void pTtlsArePipelinedInKeyOrder() {
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        // 파이프라인 안의 명령은 null 을 돌려주고, 결과는 executePipelined 가 명령 순서대로 모아 준다
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            invocation.<RedisCallback<Object>>getArgument(0).doInRedis(connection);
+            return Arrays.asList(60_000L, -1L, null);
+        });
+
+        List<Long> ttls = redisBatchOperations.pTtls(List.of("RT:1", "RT:2", "RT:3"));
+
+        // 결과가 없거나 Long 이 아니면 키 없음(-2)으로 본다
+        assertThat(ttls).containsExactly(60_000L, -1L, -2L);
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+        InOrder inOrder = inOrder(keyCommands);
+        for (String key : List.of("RT:1", "RT:2", "RT:3")) {
+            inOrder.verify(keyCommands).pTtl(aryEq(key.getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void scanIsSplitIntoBatchesAndCursorIsClosed() {
+        Cursor<String> cursor = cursorOf(List.of("BL:a", "BL:b", "BL:c", "BL:d", "BL:e"));
+        ArgumentCaptor<ScanOptions> options = ArgumentCaptor.forClass(ScanOptions.class);
+        when(redisTemplate.scan(options.capture())).thenReturn(cursor);
+
+        List<List<String>> batches = new ArrayList<>();
+        redisBatchOperations.scanInBatches("BL:*", 2, batches::add);
+
+        assertThat(batches).containsExactly(List.of("BL:a", "BL:b"), List.of("BL:c", "BL:d"), List.of("BL:e"));
+        assertThat(options.getValue().getPattern()).isEqualTo("BL:*");
+        assertThat(options.getValue().getCount()).isEqualTo(2L);
+        verify(cursor).close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void multiGetKeepsKeyOrderAndFillsMissingResult() {
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(List.of("RT:1", "RT:2"))).thenReturn(Arrays.asList("hash", null));
+
+        assertThat(redisBatchOperations.multiGet(List.of("RT:1", "RT:2"))).containsExactly("hash", null);
+
+        // 트랜잭션/파이프라인 안에서 호출되면 null 이 오므로 키 수만큼 null 로 채운다
+        when(valueOperations.multiGet(List.of("RT:3", "RT:4"))).thenReturn(null);
+        assertThat(redisBatchOperations.multiGet(List.of("RT:3", "RT:4"))).containsExactly(null, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cursor<String> cursorOf(List<String> keys) {
+        Iterator<String> iterator = keys.iterator();
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        return cursor;
+    }
+}
@@ -0,0 +1,113 @@
+package capstone.cycle.common.security.service;
+
+import capstone.cycle.common.domain.service.RedisBatchOperations;
+import capstone.cycle.common.security.scheduler.BlacklistFilterSyncScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 블랙리스트 Bloom 필터가 Redis 에서 다시 채워지고, pub/sub 로 놓친 항목도 재동기화로 잡히는지 확인
+class BlacklistBloomFilterTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    // SCAN 결과로 돌려줄 BL:<해시> 키와 값(만료 시각)
+    private final List<String> blacklistKeys = new ArrayList<>();
+    private final List<String> blacklistValues = new ArrayList<>();
+
+    private RedisBatchOperations redisBatchOperations;
+    private BlacklistBloomFilter filter;
+    private RedisTokenService redisTokenService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+        when(redisTemplate.hasKey(any())).thenAnswer(invocation -> blacklistKeys.contains(invocation.<String>getArgument(0)));
+
+        redisBatchOperations = mock(RedisBatchOperations.class);
+        doAnswer(invocation -> {
+            Consumer<List<String>> consumer = invocation.getArgument(2);
+            if (!blacklistKeys.isEmpty()) {
+                consumer.accept(List.copyOf(blacklistKeys));
+            }
+            return null;
+        }).when(redisBatchOperations).scanInBatches(eq("BL:*"), anyInt(), any());
+        when(redisBatchOperations.multiGet(anyList())).thenAnswer(invocation -> List.copyOf(blacklistValues));
+
+        filter = new BlacklistBloomFilter(mock(RedisMessageListenerContainer.class), HOUR, 1000, 0.01);
+        redisTokenService = new RedisTokenService(redisTemplate, redisBatchOperations, mock(JwtUtil.class),
+                filter, new SimpleMeterRegistry(), mock(TokenStatistics.class));
+    }
+
+    @Test
+    void filterIsPessimisticUntilLoaded() {
+        String hash = TokenDigest.sha256("never-blacklisted");
+
+        assertThat(filter.mightContain(hash)).isTrue();
+
+        redisTokenService.reloadBlacklistFilter();
+
+        assertThat(filter.mightContain(hash)).isFalse();
+    }
+
+    @Test
+    void reloadFillsFilterFromRedis() {
+        blacklist("revoked-token");
+
+        redisTokenService.reloadBlacklistFilter();
+
+        assertThat(redisTokenService.isBlacklisted("revoked-token")).isTrue();
+        assertThat(redisTokenService.isBlacklisted("valid-token")).isFalse();
+    }
+
+    @Test
+    void resyncPicksUpEntriesMissedByPubSub() {
+        redisTokenService.reloadBlacklistFilter();
+
+        // 다른 인스턴스가 추가했지만 이 인스턴스는 메시지를 받지 못한 항목
+        blacklist("revoked-elsewhere");
+        assertThat(redisTokenService.isBlacklisted("revoked-elsewhere")).isFalse();
+
+        new BlacklistFilterSyncScheduler(redisTokenService).resyncBlacklistFilter();
+
+        assertThat(redisTokenService.isBlacklisted("revoked-elsewhere")).isTrue();
+    }
+
+    @Test
+    void failedResyncKeepsCurrentFilter() {
+        blacklist("revoked-token");
+        redisTokenService.reloadBlacklistFilter();
+
+        doThrow(new IllegalStateException("redis down"))
+                .when(redisBatchOperations).scanInBatches(eq("BL:*"), anyInt(), any());
+
+        assertThatCode(() -> new BlacklistFilterSyncScheduler(redisTokenService).resyncBlacklistFilter())
+                .doesNotThrowAnyException();
+        assertThat(redisTokenService.isBlacklisted("revoked-token")).isTrue();
+    }
+
+    private void blacklist(String accessToken) {
+        blacklistKeys.add("BL:" + TokenDigest.sha256(accessToken));
+        blacklistValues.add(Long.toString(System.currentTimeMillis() + HOUR));
+    }
+}
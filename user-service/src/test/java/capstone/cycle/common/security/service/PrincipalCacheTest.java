@@ -0,0 +1,109 @@
+package capstone.cycle.common.security.service;
+
+import capstone.cycle.common.security.dto.UserDetailsImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// principal 캐시가 TTL 이 지나거나 최대 크기를 넘으면 다시 읽고, 트랜잭션 안의 무효화는 커밋된 뒤에만 반영되는지 확인
+class PrincipalCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<Long, UserDetailsImpl> loader = userId -> {
+        loads.incrementAndGet();
+        return UserDetailsImpl.fromClaims(userId, "USER");
+    };
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void entryIsReloadedAfterTtl() throws InterruptedException {
+        PrincipalCache cache = new PrincipalCache(meterRegistry, 10, 1);
+
+        UserDetailsImpl first = cache.get(1L, loader);
+        assertThat(cache.get(1L, loader)).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+
+        Thread.sleep(1_100);
+
+        assertThat(cache.get(1L, loader)).isNotSameAs(first);
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("security.principal.cache").tag("result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("security.principal.cache").tag("result", "miss").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedOverMaxSize() {
+        PrincipalCache cache = new PrincipalCache(meterRegistry, 2, 300);
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+        // 1 을 다시 읽어서 가장 오래 쓰지 않은 항목은 2 가 된다
+        cache.get(1L, loader);
+
+        cache.get(3L, loader);
+        assertThat(loads.get()).isEqualTo(3);
+
+        cache.get(1L, loader);
+        cache.get(3L, loader);
+        assertThat(loads.get()).isEqualTo(3);
+        cache.get(2L, loader);
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    void evictInTransactionAppliesOnlyAfterCommit() {
+        PrincipalCache cache = new PrincipalCache(meterRegistry, 10, 300);
+        cache.get(1L, loader);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evict(1L);
+        // 커밋 전에는 그대로 남아 있어야 커밋 전 데이터로 다시 채워지지 않는다
+        cache.get(1L, loader);
+        assertThat(loads.get()).isEqualTo(1);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        cache.get(1L, loader);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void evictInRolledBackTransactionKeepsEntry() {
+        PrincipalCache cache = new PrincipalCache(meterRegistry, 10, 300);
+        cache.get(1L, loader);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evict(1L);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        cache.get(1L, loader);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void evictOutsideTransactionAppliesImmediately() {
+        PrincipalCache cache = new PrincipalCache(meterRegistry, 10, 300);
+        cache.get(1L, loader);
+
+        cache.evict(1L);
+
+        cache.get(1L, loader);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,106 @@
+package capstone.cycle.common.security.service;
+
+import capstone.cycle.common.domain.service.RedisBatchOperations;
+import capstone.cycle.common.security.error.TokenErrorResult;
+import capstone.cycle.common.security.error.TokenException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+// 실제 Redis 에서 회전 스크립트의 분기(회전, 교체된 토큰, 재사용 감지)가 실행되는지 확인. Docker 가 없으면 건너뛴다
+@Testcontainers(disabledWithoutDocker = true)
+class RedisTokenServiceRedisTest {
+
+    private static final long TTL = 60_000L;
+    private static final String TOKEN = "refresh-token";
+    private static final String NEW_TOKEN = "new-refresh-token";
+    private static final String OTHER_TOKEN = "other-refresh-token";
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private StringRedisTemplate redisTemplate;
+    private RedisTokenService redisTokenService;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTokenService = new RedisTokenService(redisTemplate, new RedisBatchOperations(redisTemplate),
+                mock(JwtUtil.class), mock(BlacklistBloomFilter.class), new SimpleMeterRegistry(), mock(TokenStatistics.class));
+    }
+
+    @Test
+    void rotationReplacesTokenAndMarksOldOneUsed() {
+        redisTokenService.saveRefreshToken(7L, TOKEN, TTL);
+
+        assertThat(redisTokenService.rotateRefreshToken(TOKEN, NEW_TOKEN, TTL)).isEqualTo(7L);
+
+        assertThat(redisTemplate.opsForValue().get("RT:7")).isEqualTo(TokenDigest.sha256(NEW_TOKEN));
+        assertThat(redisTokenService.findUserIdByRefreshToken(NEW_TOKEN)).isEqualTo(7L);
+        assertThatThrownBy(() -> redisTokenService.findUserIdByRefreshToken(TOKEN)).isInstanceOf(TokenException.class);
+        assertThat(redisTemplate.getExpire("USED:{RT:7}:" + TokenDigest.sha256(TOKEN), TimeUnit.MILLISECONDS))
+                .isPositive();
+    }
+
+    @Test
+    void tokenReplacedByNewLoginIsRejected() {
+        redisTokenService.saveRefreshToken(7L, TOKEN, TTL);
+        redisTokenService.saveRefreshToken(7L, NEW_TOKEN, TTL);
+
+        assertRotationFails(TOKEN, TokenErrorResult.REFRESH_TOKEN_EXPIRED_OR_INVALID);
+        assertThat(redisTemplate.opsForValue().get("RT:7")).isEqualTo(TokenDigest.sha256(NEW_TOKEN));
+    }
+
+    @Test
+    void reusedTokenRevokesTheUser() {
+        redisTokenService.saveRefreshToken(7L, TOKEN, TTL);
+        redisTokenService.rotateRefreshToken(TOKEN, NEW_TOKEN, TTL);
+
+        assertRotationFails(TOKEN, TokenErrorResult.TOKEN_REUSE_DETECTED);
+
+        assertThat(redisTemplate.hasKey("RT:7")).isFalse();
+        assertThatThrownBy(() -> redisTokenService.findUserIdByRefreshToken(NEW_TOKEN)).isInstanceOf(TokenException.class);
+    }
+
+    @Test
+    void unknownTokenIsRejected() {
+        assertRotationFails(TOKEN, TokenErrorResult.REFRESH_TOKEN_EXPIRED_OR_INVALID);
+    }
+
+    private void assertRotationFails(String token, TokenErrorResult expected) {
+        assertThatThrownBy(() -> redisTokenService.rotateRefreshToken(token, OTHER_TOKEN, TTL))
+                .isInstanceOfSatisfying(TokenException.class, e -> assertThat(e.getTokenErrorResult()).isEqualTo(expected));
+    }
+}
@@ -0,0 +1,178 @@
+package capstone.cycle.common.security.service;
+
+import capstone.cycle.common.domain.service.RedisBatchOperations;
+import capstone.cycle.common.security.error.TokenErrorResult;
+import capstone.cycle.common.security.error.TokenException;
+import io.lettuce.core.cluster.SlotHash;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// RefreshToken 은 해시로 저장되고, 역인덱스(RTI:<해시>)로 사용자를 찾으며,
+// 회전은 그 사용자의 키만 KEYS 로 넘기는 스크립트 한 번으로 처리되는지 확인
+class RedisTokenServiceTest {
+
+    private static final String TOKEN = "refresh-token";
+    private static final String TOKEN_HASH = TokenDigest.sha256(TOKEN);
+    private static final String NEW_TOKEN = "new-refresh-token";
+    private static final String NEW_TOKEN_HASH = TokenDigest.sha256(NEW_TOKEN);
+
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private RedisBatchOperations redisBatchOperations;
+    private TokenStatistics tokenStatistics;
+    private RedisTokenService redisTokenService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        redisBatchOperations = mock(RedisBatchOperations.class);
+        tokenStatistics = mock(TokenStatistics.class);
+        redisTokenService = new RedisTokenService(redisTemplate, redisBatchOperations, mock(JwtUtil.class),
+                mock(BlacklistBloomFilter.class), new SimpleMeterRegistry(), tokenStatistics);
+    }
+
+    @Test
+    void saveWritesIndexBeforeToken() {
+        redisTokenService.saveRefreshToken(7L, TOKEN, 60_000L);
+
+        InOrder inOrder = inOrder(valueOperations);
+        inOrder.verify(valueOperations).set("RTI:" + TOKEN_HASH, "7", 60_000L, TimeUnit.MILLISECONDS);
+        inOrder.verify(valueOperations).set("RT:7", TOKEN_HASH, 60_000L, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void findUserIdUsesIndex() {
+        when(valueOperations.get("RTI:" + TOKEN_HASH)).thenReturn("7");
+        when(valueOperations.get("RT:7")).thenReturn(TOKEN_HASH);
+
+        assertThat(redisTokenService.findUserIdByRefreshToken(TOKEN)).isEqualTo(7L);
+        verify(redisBatchOperations, never()).scanInBatches(any(), anyInt(), any());
+    }
+
+    @Test
+    void staleIndexIsRejected() {
+        // 회전되거나 새 로그인으로 바뀐 토큰의 인덱스는 TTL 까지 남지만 RT:<userId> 와 맞지 않는다
+        when(valueOperations.get("RTI:" + TOKEN_HASH)).thenReturn("7");
+        when(valueOperations.get("RT:7")).thenReturn(NEW_TOKEN_HASH);
+
+        assertThatThrownBy(() -> redisTokenService.findUserIdByRefreshToken(TOKEN))
+                .isInstanceOf(TokenException.class);
+    }
+
+    @Test
+    void unknownTokenIsRejected() {
+        assertThatThrownBy(() -> redisTokenService.findUserIdByRefreshToken(TOKEN))
+                .isInstanceOf(TokenException.class);
+    }
+
+    @Test
+    void deleteRemovesToken() {
+        redisTokenService.deleteRefreshToken(7L);
+
+        verify(redisTemplate).delete("RT:7");
+        verify(tokenStatistics).refreshTokenRemoved(7L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void migrationIndexesOnlyRawTokens() {
+        doAnswer(invocation -> {
+            Consumer<List<String>> consumer = invocation.getArgument(2);
+            consumer.accept(List.of("RT:7", "RT:8"));
+            return null;
+        }).when(redisBatchOperations).scanInBatches(eq("RT:*"), anyInt(), any());
+        // RT:7 은 이전 형식(토큰 원문), RT:8 은 이미 해시로 옮긴 항목
+        when(redisBatchOperations.multiGet(anyList())).thenReturn(List.of(TOKEN, TokenDigest.sha256("other")));
+        when(redisBatchOperations.pTtls(anyList())).thenReturn(List.of(60_000L, 60_000L));
+
+        redisTokenService.migrateRefreshTokenIndex();
+
+        verify(valueOperations).set("RT:7", TOKEN_HASH, 60_000L, TimeUnit.MILLISECONDS);
+        verify(valueOperations, never()).set(eq("RT:8"), any(), anyLong(), any());
+        // 이미 옮긴 항목은 지표에만 다시 적재한다
+        verify(tokenStatistics).refreshTokenSaved(eq(7L), anyLong());
+        verify(tokenStatistics).refreshTokensSaved(argThat(saved -> saved.keySet().equals(Set.of("8"))));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rotationRunsAsSingleScriptOnOwnerKeys() {
+        when(valueOperations.get("RTI:" + TOKEN_HASH)).thenReturn("7");
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(7L);
+
+        assertThat(redisTokenService.rotateRefreshToken(TOKEN, NEW_TOKEN, 60_000L)).isEqualTo(7L);
+
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("RT:7", "USED:{RT:7}:" + TOKEN_HASH)),
+                eq(TOKEN_HASH), eq(NEW_TOKEN_HASH), eq("60000"), eq("7"));
+        verify(valueOperations).set("RTI:" + NEW_TOKEN_HASH, "7", 60_000L, TimeUnit.MILLISECONDS);
+        verify(tokenStatistics).refreshTokenSaved(eq(7L), anyLong());
+    }
+
+    @Test
+    void scriptKeysShareOneClusterSlot() {
+        assertThat(SlotHash.getSlot("USED:{RT:7}:" + TOKEN_HASH)).isEqualTo(SlotHash.getSlot("RT:7"));
+        assertThat(SlotHash.getSlot("USED:{RT:12345}:" + NEW_TOKEN_HASH)).isEqualTo(SlotHash.getSlot("RT:12345"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void unknownTokenIsRejectedWithoutScript() {
+        assertThatThrownBy(() -> redisTokenService.rotateRefreshToken(TOKEN, NEW_TOKEN, 60_000L))
+                .isInstanceOfSatisfying(TokenException.class, e ->
+                        assertThat(e.getTokenErrorResult()).isEqualTo(TokenErrorResult.REFRESH_TOKEN_EXPIRED_OR_INVALID));
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rotationOfReplacedTokenIsRejected() {
+        when(valueOperations.get("RTI:" + TOKEN_HASH)).thenReturn("7");
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(0L);
+
+        assertThatThrownBy(() -> redisTokenService.rotateRefreshToken(TOKEN, NEW_TOKEN, 60_000L))
+                .isInstanceOfSatisfying(TokenException.class, e ->
+                        assertThat(e.getTokenErrorResult()).isEqualTo(TokenErrorResult.REFRESH_TOKEN_EXPIRED_OR_INVALID));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reusedTokenIsReportedAsReuse() {
+        // 스크립트는 이미 사용된 토큰이면 해당 사용자의 토큰을 지우고 -userId 를 돌려준다
+        when(valueOperations.get("RTI:" + TOKEN_HASH)).thenReturn("7");
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(-7L);
+
+        assertThatThrownBy(() -> redisTokenService.rotateRefreshToken(TOKEN, NEW_TOKEN, 60_000L))
+                .isInstanceOfSatisfying(TokenException.class, e ->
+                        assertThat(e.getTokenErrorResult()).isEqualTo(TokenErrorResult.TOKEN_REUSE_DETECTED));
+        verify(tokenStatistics).refreshTokenRemoved(7L);
+    }
+}
@@ -0,0 +1,100 @@
+package capstone.cycle.common.security.service;
+
+import capstone.cycle.common.domain.service.RedisBatchOperations;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// TTL 없는 토큰 키만 지우고, 정리는 호출 스레드가 아닌 전용 스레드에서 한 번에 하나만 실행되는지 확인
+class TokenKeySweeperTest {
+
+    // prefix 별 SCAN 결과 (배치 단위)
+    private static final Map<String, List<List<String>>> BATCHES = Map.of(
+            "USED:*", List.of(List.of("USED:{RT:7}:a")),
+            "BL:*", List.of(List.of("BL:a", "BL:b"), List.of("BL:c")),
+            "RT:*", List.of(List.of("RT:7", "RT:8")),
+            "RTI:*", List.of()
+    );
+    private static final Set<String> KEYS_WITHOUT_TTL = Set.of("BL:b", "BL:c", "RT:8");
+
+    private RedisTemplate<String, String> redisTemplate;
+    private RedisBatchOperations redisBatchOperations;
+    private TokenKeySweeper sweeper;
+    private final Set<String> scanThreads = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        redisBatchOperations = mock(RedisBatchOperations.class);
+        doAnswer(invocation -> {
+            scanThreads.add(Thread.currentThread().getName());
+            Consumer<List<String>> consumer = invocation.getArgument(2);
+            BATCHES.get(invocation.<String>getArgument(0)).forEach(consumer);
+            return null;
+        }).when(redisBatchOperations).scanInBatches(anyString(), anyInt(), any());
+        when(redisBatchOperations.pTtls(anyList())).thenAnswer(invocation -> invocation.<List<String>>getArgument(0).stream()
+                .map(key -> KEYS_WITHOUT_TTL.contains(key) ? -1L : 60_000L)
+                .toList());
+        sweeper = new TokenKeySweeper(redisTemplate, redisBatchOperations, 500, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sweeper.shutdown();
+    }
+
+    @Test
+    void onlyKeysWithoutTtlAreDeleted() {
+        assertThat(sweeper.sweep()).isEqualTo(3);
+
+        verify(redisTemplate).delete(List.of("BL:b"));
+        verify(redisTemplate).delete(List.of("BL:c"));
+        verify(redisTemplate).delete(List.of("RT:8"));
+        verify(redisTemplate, never()).delete(List.of("USED:{RT:7}:a"));
+    }
+
+    @Test
+    void sweepRunsOnItsOwnThreadOneAtATime() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        when(redisTemplate.delete(anyList())).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return 1L;
+        });
+
+        assertThat(sweeper.sweepAsync()).isTrue();
+        // 앞선 정리가 끝나기 전에는 다시 시작하지 않는다
+        assertThat(sweeper.sweepAsync()).isFalse();
+
+        release.countDown();
+        verify(redisTemplate, timeout(5000).times(3)).delete(anyList());
+        long deadline = System.currentTimeMillis() + 5000;
+        while (sweeper.isRunning() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(sweeper.isRunning()).isFalse();
+        assertThat(scanThreads).containsOnly("token-key-sweeper");
+        assertThat(sweeper.sweepAsync()).isTrue();
+    }
+}
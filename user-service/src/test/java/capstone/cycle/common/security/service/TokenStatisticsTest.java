@@ -0,0 +1,78 @@
+package capstone.cycle.common.security.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 토큰 지표는 쓰기 시점에 만료 시각과 함께 기록되고, 갱신할 때 만료된 항목을 잘라낸 뒤 개수만 읽는지 확인
+class TokenStatisticsTest {
+
+    private RedisTemplate<String, String> redisTemplate;
+    private ZSetOperations<String, String> zSetOperations;
+    private SimpleMeterRegistry meterRegistry;
+    private TokenStatistics tokenStatistics;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        zSetOperations = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        meterRegistry = new SimpleMeterRegistry();
+        tokenStatistics = new TokenStatistics(redisTemplate, meterRegistry);
+    }
+
+    @Test
+    void writesAreRecordedWithExpiry() {
+        tokenStatistics.refreshTokenSaved(7L, 1_000L);
+        tokenStatistics.blacklisted(Map.of("hash", 2_000L));
+        tokenStatistics.refreshTokenRemoved(7L);
+
+        verify(zSetOperations).add("TOKEN_STATS:RT", Set.of(ZSetOperations.TypedTuple.of("7", 1_000.0)));
+        verify(zSetOperations).add("TOKEN_STATS:BL", Set.of(ZSetOperations.TypedTuple.of("hash", 2_000.0)));
+        verify(zSetOperations).remove("TOKEN_STATS:RT", "7");
+    }
+
+    @Test
+    void emptyBatchIsNotWritten() {
+        tokenStatistics.refreshTokensSaved(Map.of());
+
+        verify(zSetOperations, never()).add(anyString(), anySet());
+    }
+
+    @Test
+    void refreshDropsExpiredEntriesAndUpdatesGauges() {
+        when(zSetOperations.zCard("TOKEN_STATS:RT")).thenReturn(12L);
+        when(zSetOperations.zCard("TOKEN_STATS:BL")).thenReturn(3L);
+
+        tokenStatistics.refresh();
+
+        verify(zSetOperations).removeRangeByScore(eq("TOKEN_STATS:RT"), eq(0.0), anyDouble());
+        verify(zSetOperations).removeRangeByScore(eq("TOKEN_STATS:BL"), eq(0.0), anyDouble());
+        assertThat(meterRegistry.get("token.refresh.active").gauge().value()).isEqualTo(12.0);
+        assertThat(meterRegistry.get("token.blacklist.size").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    void recordingFailureDoesNotFailTokenWrite() {
+        when(zSetOperations.add(anyString(), anySet())).thenThrow(new QueryTimeoutException("timeout"));
+
+        tokenStatistics.refreshTokenSaved(7L, 1_000L);
+    }
+}
@@ -0,0 +1,50 @@
+package capstone.cycle.file.service;
+
+import capstone.cycle.file.entity.File;
+import capstone.cycle.file.repository.FileRepository;
+import capstone.cycle.file.storage.BlobStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 트랜잭션 안의 무효화는 커밋 이후에만 반영되는지 확인
+class FileMetadataCacheTest {
+
+    private static final Long FILE_ID = 1L;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void evictionInsideTransactionWaitsForCommit() {
+        FileRepository fileRepository = mock(FileRepository.class);
+        File file = mock(File.class);
+        when(file.getId()).thenReturn(FILE_ID);
+        when(file.getName()).thenReturn("legacy.png");
+        when(fileRepository.findById(FILE_ID)).thenReturn(Optional.of(file));
+        FileMetadataCache cache = new FileMetadataCache(fileRepository, mock(BlobStorage.class), 10);
+        cache.get(FILE_ID);
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.evict(FILE_ID);
+        cache.get(FILE_ID);
+        verify(fileRepository, times(1)).findById(FILE_ID);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        cache.get(FILE_ID);
+        verify(fileRepository, times(2)).findById(FILE_ID);
+    }
+}
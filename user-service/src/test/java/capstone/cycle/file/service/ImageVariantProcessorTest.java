@@ -0,0 +1,178 @@
+package capstone.cycle.file.service;
+
+import capstone.cycle.file.entity.File;
+import capstone.cycle.file.entity.ImageVariant;
+import capstone.cycle.file.entity.VariantStatus;
+import capstone.cycle.file.repository.FileRepository;
+import capstone.cycle.file.storage.BlobStorage;
+import capstone.cycle.file.storage.LocalBlobStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 픽셀 예산을 넘는 이미지는 디코딩하지 않고, EXIF 회전은 변형을 만들기 전에 적용되는지 확인
+// backfill 은 호출 스레드에서 처리하지 않고 작업 풀의 큐를 절반까지만 채우는지 확인
+class ImageVariantProcessorTest {
+
+    private static final Long FILE_ID = 1L;
+    private static final String OBJECT_NAME = "original";
+
+    @TempDir
+    Path uploadDir;
+
+    private BlobStorage blobStorage;
+    private FileRepository fileRepository;
+    private ImageVariantProcessor processor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws IOException {
+        blobStorage = new LocalBlobStorage(uploadDir.toString());
+        fileRepository = mock(FileRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+        // 픽셀 예산 100만: 2000x1000 은 거절, 400x200 은 허용
+        processor = new ImageVariantProcessor(fileRepository, blobStorage, transactionTemplate, 0.8f, 1_000_000L, 1, 10);
+
+        File file = mock(File.class);
+        when(file.getPath()).thenReturn(blobStorage.urlOf(OBJECT_NAME));
+        when(file.getContentType()).thenReturn("image/jpeg");
+        when(file.getVariantStatus()).thenReturn(VariantStatus.PENDING);
+        when(fileRepository.findById(FILE_ID)).thenReturn(Optional.of(file));
+    }
+
+    @AfterEach
+    void tearDown() {
+        processor.shutdown();
+    }
+
+    @Test
+    void imageOverPixelBudgetIsSkipped() throws IOException {
+        store(jpeg(2000, 1000, null));
+
+        processor.process(FILE_ID);
+
+        verify(fileRepository).updateVariants(eq(FILE_ID), isNull(), isNull(), eq(VariantStatus.SKIPPED));
+    }
+
+    @Test
+    void exifRotationIsAppliedBeforeScaling() throws IOException {
+        // 가로로 저장되어 있지만 시계 방향 90도로 보여야 하는 사진 (orientation 6)
+        store(jpeg(400, 200, 6));
+
+        processor.process(FILE_ID);
+
+        verify(fileRepository).updateVariants(eq(FILE_ID), any(), any(), eq(VariantStatus.READY));
+        BufferedImage thumb = ImageIO.read(uploadDir.resolve(ImageVariant.THUMB.objectNameOf(OBJECT_NAME)).toFile());
+        assertThat(thumb.getWidth()).isEqualTo(160);
+        assertThat(thumb.getHeight()).isEqualTo(320);
+    }
+
+    @Test
+    void backfillIsQueuedOnWorkerPoolUpToHalfTheQueue() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        Set<String> workerThreads = ConcurrentHashMap.newKeySet();
+        when(fileRepository.findById(any())).thenAnswer(invocation -> {
+            workerThreads.add(Thread.currentThread().getName());
+            release.await(10, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+        List<Long> fileIds = LongStream.rangeClosed(100, 119).boxed().toList();
+
+        // 작업 스레드 1개가 첫 파일을 잡고, 큐(10)에는 절반인 5개까지만 들어간다
+        assertThat(processor.submitBackfill(fileIds)).isEqualTo(6);
+        // 이미 들어간 파일은 다시 넣지 않고 넘긴 것으로 센다
+        assertThat(processor.submitBackfill(fileIds.subList(0, 3))).isEqualTo(3);
+        // 업로드 작업은 남은 자리에 그대로 들어간다
+        processor.submit(List.of(200L, 201L, 202L, 203L, 204L));
+
+        release.countDown();
+        verify(fileRepository, timeout(5000).times(11)).findById(any());
+        assertThat(workerThreads).allMatch(name -> name.startsWith("image-variant-"));
+    }
+
+    @Test
+    void orientationIsReadFromExif() throws IOException {
+        ImageReader reader = ImageIO.getImageReadersByFormatName("jpeg").next();
+        try {
+            reader.setInput(ImageIO.createImageInputStream(new ByteArrayInputStream(jpeg(40, 20, 3))));
+
+            assertThat(ExifOrientation.read(reader.getImageMetadata(0))).isEqualTo(3);
+            assertThat(ExifOrientation.apply(reader.read(0), 8).getWidth()).isEqualTo(20);
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    private void store(byte[] content) throws IOException {
+        try (WritableByteChannel channel = blobStorage.openWriter(OBJECT_NAME, "image/jpeg");
+             OutputStream out = Channels.newOutputStream(channel)) {
+            out.write(content);
+        }
+    }
+
+    // orientation 이 있으면 JFIF(APP0) 뒤에 EXIF(APP1) 세그먼트를 끼워 넣는다
+    private static byte[] jpeg(int width, int height, Integer orientation) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        image.getGraphics().setColor(Color.RED);
+        image.getGraphics().fillRect(0, 0, width / 2, height);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", out);
+        byte[] plain = out.toByteArray();
+        if (orientation == null) {
+            return plain;
+        }
+
+        int app0End = 4 + ((plain[4] & 0xFF) << 8 | (plain[5] & 0xFF));
+        ByteBuffer app1 = ByteBuffer.allocate(2 + 2 + 6 + 8 + 2 + 12 + 4);
+        app1.putShort((short) 0xFFE1).putShort((short) (app1.capacity() - 2))
+                .put("Exif\0\0".getBytes())
+                .put((byte) 'M').put((byte) 'M').putShort((short) 42).putInt(8)
+                .putShort((short) 1)
+                .putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort(orientation.shortValue()).putShort((short) 0)
+                .putInt(0);
+
+        ByteArrayOutputStream withExif = new ByteArrayOutputStream();
+        withExif.write(plain, 0, app0End);
+        withExif.write(app1.array());
+        withExif.write(plain, app0End, plain.length - app0End);
+        return withExif.toByteArray();
+    }
+}
@@ -0,0 +1,139 @@
+package capstone.cycle.file.service;
+
+import capstone.cycle.file.dto.UploadedBlob;
+import capstone.cycle.file.entity.StoredBlob;
+import capstone.cycle.file.error.FileException;
+import capstone.cycle.file.repository.StoredBlobRepository;
+import capstone.cycle.file.storage.BlobStorage;
+import capstone.cycle.file.storage.LocalBlobStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+// 업로드 전에 잡은 참조가 정리(GC)와 겹쳐도 참조 중인 객체를 지우지 않고,
+// 마지막 참조가 해제된 객체만 정리되는지 확인
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StoredBlobReferenceTest {
+
+    @TempDir
+    Path uploadDir;
+
+    @Autowired
+    private StoredBlobRepository storedBlobRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private BlobStorage blobStorage;
+    private FileUploadPipeline pipeline;
+    private StoredBlobCollector collector;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storedBlobRepository.deleteAll();
+        blobStorage = spy(new LocalBlobStorage(uploadDir.toString()));
+        pipeline = new FileUploadPipeline(blobStorage, storedBlobRepository, transactionTemplate, 2, 8);
+        // 유예 시간 0: 해제된 객체는 바로 정리 대상
+        collector = new StoredBlobCollector(storedBlobRepository, blobStorage, mock(ImageVariantProcessor.class),
+                transactionTemplate, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.shutdown();
+    }
+
+    @Test
+    void sameContentSharesOneReferencedObject() {
+        UploadedBlob first = pipeline.upload(List.of(image("same"))).get(0);
+        UploadedBlob second = pipeline.upload(List.of(image("same"))).get(0);
+
+        assertThat(first.newlyStored()).isTrue();
+        assertThat(second.newlyStored()).isFalse();
+        assertThat(blob(first).getRefCount()).isEqualTo(2);
+        assertThat(blob(first).isUploaded()).isTrue();
+    }
+
+    @Test
+    void objectIsCollectedOnlyAfterLastReferenceIsReleased() throws InterruptedException {
+        UploadedBlob first = pipeline.upload(List.of(image("shared"))).get(0);
+        UploadedBlob second = pipeline.upload(List.of(image("shared"))).get(0);
+
+        pipeline.discard(List.of(first));
+        assertThat(collectAfterRelease()).isZero();
+        assertThat(Files.exists(uploadDir.resolve(first.objectName()))).isTrue();
+
+        pipeline.discard(List.of(second));
+        assertThat(collectAfterRelease()).isEqualTo(1);
+        assertThat(Files.exists(uploadDir.resolve(first.objectName()))).isFalse();
+        assertThat(storedBlobRepository.findById(first.checksum())).isEmpty();
+    }
+
+    @Test
+    void reservationBeforeCollectionKeepsObject() throws InterruptedException {
+        UploadedBlob released = pipeline.upload(List.of(image("revived"))).get(0);
+        pipeline.discard(List.of(released));
+
+        // 해제 후 정리 전에 같은 내용이 다시 업로드되면 예약이 정리를 막는다
+        UploadedBlob revived = pipeline.upload(List.of(image("revived"))).get(0);
+
+        assertThat(revived.newlyStored()).isFalse();
+        assertThat(collectAfterRelease()).isZero();
+        assertThat(Files.exists(uploadDir.resolve(revived.objectName()))).isTrue();
+        assertThat(blob(revived).getRefCount()).isEqualTo(1);
+    }
+
+    @Test
+    void failedUploadReleasesItsReservation() throws IOException, InterruptedException {
+        WritableByteChannel broken = mock(WritableByteChannel.class);
+        when(broken.write(any())).thenThrow(new IOException("connection reset"));
+        doReturn(broken).when(blobStorage).openWriter(anyString(), anyString());
+
+        assertThatThrownBy(() -> pipeline.upload(List.of(image("broken"))))
+                .isInstanceOf(FileException.class);
+
+        StoredBlob reserved = storedBlobRepository.findAll().get(0);
+        assertThat(reserved.getRefCount()).isZero();
+        assertThat(reserved.isUploaded()).isFalse();
+        assertThat(collectAfterRelease()).isEqualTo(1);
+    }
+
+    // released_at 이 정리 기준 시각보다 확실히 앞서도록 잠시 기다린 뒤 정리
+    private int collectAfterRelease() throws InterruptedException {
+        Thread.sleep(20);
+        return collector.collect();
+    }
+
+    private StoredBlob blob(UploadedBlob uploaded) {
+        return storedBlobRepository.findById(uploaded.checksum()).orElseThrow();
+    }
+
+    private static MultipartFile image(String content) {
+        return new MockMultipartFile("images", content + ".png", "image/png", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,129 @@
+package capstone.cycle.like.service;
+
+import capstone.cycle.like.dto.LikeStatus;
+import capstone.cycle.post.entity.Post;
+import capstone.cycle.post.entity.PostCategory;
+import capstone.cycle.post.error.PostException;
+import capstone.cycle.post.service.PopularPostRanking;
+import capstone.cycle.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 동시에 토글해도 like_count 가 likes 행 수 및 사용자별 토글 횟수의 홀짝과 일치하고, 삭제된 게시글에는 좋아요가 조용히 무시되지 않는지 확인
+// 각 토글이 실제로 커밋되어야 하므로 테스트 트랜잭션은 사용하지 않는다
+@DataJpaTest
+@Import(LikeService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LikeToggleConcurrencyTest {
+
+    private static final int USERS = 6;
+    private static final int THREADS = 8;
+    private static final int TOGGLES_PER_THREAD = 40;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private PopularPostRanking popularPostRanking;
+
+    @Test
+    void concurrentTogglesKeepCounterEqualToRowCount() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        List<Long> userIds = new ArrayList<>();
+        Long postId = tx.execute(status -> {
+            List<User> users = new ArrayList<>();
+            for (int i = 0; i < USERS; i++) {
+                User user = User.createUser("toggler" + i, "KAKAO", "toggler" + i + "@cycle.test",
+                        "toggler" + i, "USER", null, "서울특별시", "강남구");
+                entityManager.persist(user);
+                users.add(user);
+            }
+            Post post = Post.createPost("title", "content", users.get(0), PostCategory.FREE_BOARD);
+            entityManager.persist(post);
+            entityManager.flush();
+            users.forEach(user -> userIds.add(user.getId()));
+            return post.getId();
+        });
+
+        // 사용자별 토글 횟수: 홀수 번 토글한 사용자만 좋아요 상태로 끝난다
+        AtomicIntegerArray toggles = new AtomicIntegerArray(USERS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < TOGGLES_PER_THREAD; i++) {
+                        int user = ThreadLocalRandom.current().nextInt(USERS);
+                        likeService.toggleLike(postId, userIds.get(user));
+                        toggles.incrementAndGet(user);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        List<Long> expectedLikers = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            if (toggles.get(i) % 2 == 1) {
+                expectedLikers.add(userIds.get(i));
+            }
+        }
+        List<Long> likers = tx.execute(status -> entityManager
+                .createQuery("SELECT l.user.id FROM Like l WHERE l.post.id = :postId", Long.class)
+                .setParameter("postId", postId)
+                .getResultList());
+        assertThat(likers).containsExactlyInAnyOrderElementsOf(expectedLikers);
+        assertThat(likeService.getLikeCount(postId)).isEqualTo((long) expectedLikers.size());
+    }
+
+    @Test
+    void likingDeletedPostFailsInsteadOfBeingIgnored() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Long[] ids = tx.execute(status -> {
+            User user = User.createUser("late", "KAKAO", "late@cycle.test", "late", "USER", null, "서울특별시", "강남구");
+            entityManager.persist(user);
+            Post post = Post.createPost("title", "content", user, PostCategory.FREE_BOARD);
+            entityManager.persist(post);
+            entityManager.flush();
+            return new Long[]{post.getId(), user.getId()};
+        });
+        assertThat(likeService.toggleLike(ids[0], ids[1]).likeStatus()).isEqualTo(LikeStatus.LIKE);
+
+        tx.executeWithoutResult(status -> entityManager
+                .createNativeQuery("DELETE FROM post WHERE post_id = :id")
+                .setParameter("id", ids[0])
+                .executeUpdate());
+
+        assertThatThrownBy(() -> likeService.toggleLike(ids[0], ids[1]))
+                .isInstanceOf(PostException.class);
+    }
+}
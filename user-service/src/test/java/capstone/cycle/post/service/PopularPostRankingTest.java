@@ -0,0 +1,143 @@
+package capstone.cycle.post.service;
+
+import capstone.cycle.post.dto.PostActivity;
+import capstone.cycle.post.dto.RankCursor;
+import capstone.cycle.post.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 트랜잭션 안의 랭킹 이벤트는 커밋된 경우에만 점수에 반영되고,
+// 새 세대 키가 준비되기 전에는 DB 지표로 응답하며, 랭킹에서 빠진 lastPostId 도 위치를 다시 계산하는지 확인
+class PopularPostRankingTest {
+
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private ZSetOperations<String, String> zSetOperations;
+    private PostRepository postRepository;
+    private PopularPostRanking ranking;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        zSetOperations = mock(ZSetOperations.class);
+        postRepository = mock(PostRepository.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        ranking = new PopularPostRanking(redisTemplate, postRepository, 1.0, 2.0, 0.05, 24, 1000, 14, 60);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void likeIsAppliedAfterCommit() {
+        ranking.onLike(1L, 1);
+        verify(zSetOperations, never()).incrementScore(anyString(), anyString(), anyDouble());
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(zSetOperations).incrementScore(anyString(), eq("1"), anyDouble());
+    }
+
+    @Test
+    void rolledBackLikeDoesNotChangeScore() {
+        ranking.onLike(1L, 1);
+        ranking.onComment(1L, 1);
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(zSetOperations, never()).incrementScore(anyString(), anyString(), anyDouble());
+    }
+
+    @Test
+    void servesDatabaseRankingWhileAnotherInstanceInitializes() {
+        // 준비 표시가 없고 INIT 락은 다른 인스턴스가 잡고 있다
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        LocalDateTime now = LocalDateTime.now();
+        when(postRepository.findActivitiesSince(any())).thenReturn(List.of(
+                new PostActivity(1L, 1L, 0L, 0L, now),
+                new PostActivity(2L, 5L, 0L, 0L, now),
+                new PostActivity(3L, 0L, 0L, 0L, now),
+                new PostActivity(4L, 3L, 0L, 0L, now)
+        ));
+
+        List<RankCursor> firstPage = ranking.getPage(null, 2);
+        assertThat(firstPage).extracting(RankCursor::id).containsExactly(2L, 4L);
+        assertThat(ranking.getPage(firstPage.get(1), 2)).extracting(RankCursor::id).containsExactly(1L);
+        verify(zSetOperations, never()).reverseRangeWithScores(anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    void readyMarkerIsSetOnlyAfterInitialization() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(postRepository.findActivitiesSince(any())).thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> ranking.getPage(null, 10)).isInstanceOf(IllegalStateException.class);
+        // 실패하면 준비 표시 없이 락을 풀어서 다음 요청이 다시 시도한다
+        verify(valueOperations, never()).set(endsWith(":READY"), anyString(), any(Duration.class));
+        verify(redisTemplate).delete(endsWith(":INIT"));
+
+        reset(postRepository);
+        when(postRepository.findActivitiesSince(any())).thenReturn(List.of());
+        ranking.getPage(null, 10);
+        verify(valueOperations).set(endsWith(":READY"), eq("1"), any(Duration.class));
+        verify(zSetOperations).reverseRangeWithScores(anyString(), eq(0L), eq(9L));
+    }
+
+    @Test
+    void lastPostOutsideRankingIsPlacedByRecomputedScore() {
+        when(redisTemplate.hasKey(endsWith(":READY"))).thenReturn(true);
+        when(zSetOperations.score(anyString(), anyString())).thenReturn(null);
+        when(postRepository.findActivityById(1L))
+                .thenReturn(Optional.of(new PostActivity(1L, 2L, 0L, 0L, LocalDateTime.now())));
+
+        // 잘려 나간 게시글은 DB 지표로 계산한 점수 아래부터 이어서 조회한다
+        RankCursor trimmed = ranking.cursorOf(1L);
+        assertThat(trimmed.id()).isEqualTo(1L);
+        assertThat(trimmed.score()).isPositive();
+
+        // 삭제된 게시글은 마지막 순위 뒤로 본다
+        assertThat(ranking.cursorOf(2L).score()).isEqualTo(Double.NEGATIVE_INFINITY);
+    }
+
+    // 트랜잭션 매니저가 하는 것처럼 등록된 동기화를 커밋/롤백 결과에 맞춰 호출
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        for (TransactionSynchronization synchronization : synchronizations) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(status);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package capstone.cycle.post.service;
+
+import capstone.cycle.post.entity.Post;
+import capstone.cycle.post.entity.PostCategory;
+import capstone.cycle.post.repository.PostRepository;
+import capstone.cycle.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 게시글을 오래된 사본으로 저장해도 원자적 UPDATE 로 반영된 카운터를 덮어쓰지 않는지 확인
+@DataJpaTest
+class PostCounterColumnTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.createUser("counter", "KAKAO", "counter@cycle.test", "counter", "USER", null, "서울특별시", "강남구");
+        entityManager.persist(user);
+        Post post = Post.createPost("title", "content", user, PostCategory.FREE_BOARD);
+        entityManager.persist(post);
+        entityManager.flush();
+        entityManager.clear();
+        postId = post.getId();
+    }
+
+    @Test
+    void staleSaveKeepsFlushedViewCount() {
+        Post stale = postRepository.findById(postId).orElseThrow();
+        // ViewCountBuffer 의 배치 반영
+        entityManager.createNativeQuery("UPDATE post SET view_count = view_count + 5 WHERE post_id = :id")
+                .setParameter("id", postId)
+                .executeUpdate();
+
+        postRepository.save(stale.updateContent("new title", "new content", PostCategory.FREE_BOARD));
+        entityManager.flush();
+        entityManager.clear();
+
+        Post reloaded = postRepository.findById(postId).orElseThrow();
+        assertThat(reloaded.getTitle()).isEqualTo("new title");
+        assertThat(reloaded.getViewCount()).isEqualTo(5L);
+    }
+
+    @Test
+    void staleSaveKeepsLikeAndCommentCounts() {
+        Post stale = postRepository.findById(postId).orElseThrow();
+        postRepository.incrementLikeCount(postId);
+        postRepository.incrementCommentCount(postId);
+        postRepository.incrementCommentCount(postId);
+        postRepository.decrementCommentCount(postId);
+
+        postRepository.save(stale.updateContent("new title", "new content", PostCategory.FREE_BOARD));
+        entityManager.flush();
+        entityManager.clear();
+
+        Post reloaded = postRepository.findById(postId).orElseThrow();
+        assertThat(reloaded.getLikeCount()).isEqualTo(1L);
+        assertThat(reloaded.getCommentCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void commentCountDoesNotGoNegative() {
+        assertThat(postRepository.decrementCommentCount(postId)).isZero();
+        entityManager.clear();
+
+        assertThat(postRepository.findById(postId).orElseThrow().getCommentCount()).isZero();
+    }
+}
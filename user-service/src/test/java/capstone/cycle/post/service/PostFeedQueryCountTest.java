@@ -0,0 +1,90 @@
+package capstone.cycle.post.service;
+
+import capstone.cycle.club.service.ClubService;
+import capstone.cycle.comment.service.CommentService;
+import capstone.cycle.file.service.FileService;
+import capstone.cycle.like.dto.LikeStatus;
+import capstone.cycle.like.entity.Like;
+import capstone.cycle.like.service.LikeService;
+import capstone.cycle.post.dto.SimplePostResponseDTO;
+import capstone.cycle.post.entity.Post;
+import capstone.cycle.post.entity.PostCategory;
+import capstone.cycle.search.service.SearchService;
+import capstone.cycle.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 피드 한 페이지의 좋아요 여부를 게시글 수와 무관하게 한 번의 쿼리로 조회하는지 확인
+@DataJpaTest
+@Import({PostService.class, LikeService.class})
+class PostFeedQueryCountTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private FileService fileService;
+    @MockBean
+    private CommentService commentService;
+    @MockBean
+    private ClubService clubService;
+    @MockBean
+    private ViewCountBuffer viewCountBuffer;
+    @MockBean
+    private PostFeedCache postFeedCache;
+    @MockBean
+    private PopularPostRanking popularPostRanking;
+    @MockBean
+    private SearchService searchService;
+
+    @Test
+    void likeStatusIsResolvedWithConstantStatementCount() {
+        User fewAuthor = persistUserWithLikedPosts("few", 2);
+        User manyAuthor = persistUserWithLikedPosts("many", 20);
+
+        long fewStatements = countMyPostsStatements(fewAuthor, 2);
+        long manyStatements = countMyPostsStatements(manyAuthor, 20);
+
+        assertThat(manyStatements).isEqualTo(fewStatements);
+    }
+
+    private long countMyPostsStatements(User user, int expectedPosts) {
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Slice<SimplePostResponseDTO> posts = postService.getMyPosts(user.getId(), null, null, 20);
+
+        assertThat(posts.getContent()).hasSize(expectedPosts)
+                .allSatisfy(post -> assertThat(post.getLikeStatus()).isEqualTo(LikeStatus.LIKE));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private User persistUserWithLikedPosts(String name, int postCount) {
+        User user = User.createUser(name, "KAKAO", name + "@cycle.test", name, "USER", null, "서울특별시", "강남구");
+        entityManager.persist(user);
+        for (int i = 0; i < postCount; i++) {
+            Post post = Post.createPost("title" + i, "content", user, PostCategory.FREE_BOARD);
+            entityManager.persist(post);
+            entityManager.persist(Like.createLike(post, user));
+        }
+        entityManager.flush();
+        return user;
+    }
+}
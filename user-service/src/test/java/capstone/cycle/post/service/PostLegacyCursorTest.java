@@ -0,0 +1,76 @@
+package capstone.cycle.post.service;
+
+import capstone.cycle.club.service.ClubService;
+import capstone.cycle.comment.service.CommentService;
+import capstone.cycle.file.service.FileService;
+import capstone.cycle.like.service.LikeService;
+import capstone.cycle.post.dto.SimplePostResponseDTO;
+import capstone.cycle.post.entity.Post;
+import capstone.cycle.post.entity.PostCategory;
+import capstone.cycle.search.service.SearchService;
+import capstone.cycle.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 이전 버전 클라이언트의 lastPostId 가 삭제된 게시글을 가리켜도 다음 페이지를 이어서 조회하는지 확인
+@DataJpaTest
+@Import({PostService.class, LikeService.class})
+class PostLegacyCursorTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private FileService fileService;
+    @MockBean
+    private CommentService commentService;
+    @MockBean
+    private ClubService clubService;
+    @MockBean
+    private ViewCountBuffer viewCountBuffer;
+    @MockBean
+    private PostFeedCache postFeedCache;
+    @MockBean
+    private PopularPostRanking popularPostRanking;
+    @MockBean
+    private SearchService searchService;
+
+    @Test
+    void deletedLastPostContinuesWithOlderPosts() {
+        User user = User.createUser("cursor", "KAKAO", "cursor@cycle.test", "cursor", "USER", null, "서울특별시", "강남구");
+        entityManager.persist(user);
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Post post = Post.createPost("title" + i, "content", user, PostCategory.FREE_BOARD);
+            entityManager.persist(post);
+            posts.add(post);
+        }
+        Long deletedId = posts.get(1).getId();
+        entityManager.remove(posts.get(1));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> nextPage = postService.getMyPosts(user.getId(), deletedId, null, 10).getContent().stream()
+                .map(SimplePostResponseDTO::getId)
+                .toList();
+        assertThat(nextPage).containsExactly(posts.get(0).getId());
+
+        // 더 이전 게시글이 없으면 빈 페이지
+        Long firstId = posts.get(0).getId();
+        entityManager.remove(entityManager.find(Post.class, firstId));
+        entityManager.flush();
+        assertThat(postService.getMyPosts(user.getId(), firstId, null, 10).getContent()).isEmpty();
+    }
+}
@@ -0,0 +1,103 @@
+package capstone.cycle.post.service;
+
+import capstone.cycle.club.service.ClubService;
+import capstone.cycle.comment.service.CommentService;
+import capstone.cycle.file.service.FileService;
+import capstone.cycle.like.service.LikeService;
+import capstone.cycle.post.dto.PostCreateDTO;
+import capstone.cycle.post.dto.PostUpdateDTO;
+import capstone.cycle.post.entity.Post;
+import capstone.cycle.post.entity.PostCategory;
+import capstone.cycle.post.error.PostException;
+import capstone.cycle.search.service.SearchService;
+import capstone.cycle.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// 검증/권한 체크에서 거절되는 요청은 이미지를 업로드하기 전에 실패하는지 확인
+@DataJpaTest
+@Import({PostService.class, LikeService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostUploadValidationTest {
+
+    private static final List<MultipartFile> IMAGES =
+            List.of(new MockMultipartFile("images", "a.png", "image/png", new byte[]{1, 2, 3}));
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private FileService fileService;
+    @MockBean
+    private CommentService commentService;
+    @MockBean
+    private ClubService clubService;
+    @MockBean
+    private ViewCountBuffer viewCountBuffer;
+    @MockBean
+    private PostFeedCache postFeedCache;
+    @MockBean
+    private PopularPostRanking popularPostRanking;
+    @MockBean
+    private SearchService searchService;
+
+    @Test
+    void noticeByNonAdminIsRejectedBeforeUpload() {
+        User user = persistUser("writer");
+        PostCreateDTO notice = new PostCreateDTO("title", "content", PostCategory.NOTICE);
+
+        assertThatThrownBy(() -> postService.createPost(notice, IMAGES, user.getId()))
+                .isInstanceOf(PostException.class);
+        verify(fileService, never()).storeBlobs(any());
+    }
+
+    @Test
+    void updateByNonAuthorIsRejectedBeforeUpload() {
+        User author = persistUser("author");
+        User other = persistUser("other");
+        Long postId = transactionTemplate.execute(status -> {
+            Post post = Post.createPost("title", "content", entityManager.merge(author), PostCategory.FREE_BOARD);
+            entityManager.persist(post);
+            return post.getId();
+        });
+        PostUpdateDTO update = PostUpdateDTO.builder()
+                .title("changed")
+                .content("changed")
+                .category(PostCategory.FREE_BOARD)
+                .build();
+
+        assertThatThrownBy(() -> postService.updatePost(postId, update, IMAGES, other.getId()))
+                .isInstanceOf(PostException.class);
+        verify(fileService, never()).storeBlobs(any());
+    }
+
+    private User persistUser(String name) {
+        return transactionTemplate.execute(status -> {
+            User user = User.createUser(name, "KAKAO", name + "@upload.test", name, "USER", null, "서울특별시", "강남구");
+            entityManager.persist(user);
+            return user;
+        });
+    }
+}
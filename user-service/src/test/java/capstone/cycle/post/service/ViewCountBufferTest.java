@@ -0,0 +1,66 @@
+package capstone.cycle.post.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 반영(flush)과 증가가 동시에 일어나도 증가분이 유실되지 않는지 확인
+class ViewCountBufferTest {
+
+    private static final int THREADS = 8;
+    private static final int INCREMENTS_PER_THREAD = 50_000;
+    private static final long POST_ID = 1L;
+
+    @Test
+    void concurrentFlushDoesNotLoseIncrements() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        AtomicLong flushed = new AtomicLong();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> batchArgs = invocation.getArgument(1);
+            batchArgs.forEach(args -> flushed.addAndGet((Long) args[0]));
+            return new int[batchArgs.size()];
+        });
+        ViewCountBuffer buffer = new ViewCountBuffer(jdbcTemplate, mock(PopularPostRanking.class));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < INCREMENTS_PER_THREAD; j++) {
+                    buffer.increment(POST_ID);
+                }
+                done.countDown();
+            });
+        }
+
+        // 증가가 진행되는 동안 계속 반영한다
+        AtomicBoolean finished = new AtomicBoolean();
+        Thread flusher = new Thread(() -> {
+            while (!finished.get()) {
+                buffer.flush();
+            }
+        });
+        flusher.start();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        finished.set(true);
+        flusher.join();
+        executor.shutdown();
+        buffer.flush();
+
+        assertThat(flushed.get()).isEqualTo((long) THREADS * INCREMENTS_PER_THREAD);
+        assertThat(buffer.getPendingCount(POST_ID)).isZero();
+    }
+}
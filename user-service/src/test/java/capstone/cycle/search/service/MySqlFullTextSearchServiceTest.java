@@ -0,0 +1,118 @@
+package capstone.cycle.search.service;
+
+import capstone.cycle.search.dto.SearchCursor;
+import capstone.cycle.search.dto.SearchHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 게시글/동호회 검색이 고정소수점 점수로 정렬하고, 커서와 정수로 정확히 비교하는지 확인 (H2 에는 MATCH ... AGAINST 가 없어 SQL 과 인자를 검사)
+class MySqlFullTextSearchServiceTest {
+
+    private RecordingJdbcTemplate jdbcTemplate;
+    private MySqlFullTextSearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new RecordingJdbcTemplate();
+        searchService = new MySqlFullTextSearchService(jdbcTemplate, 2, false);
+    }
+
+    @Test
+    void postSearchPagesByFixedPointScore() {
+        jdbcTemplate.rows = List.of(new long[]{30, 1_250_000}, new long[]{20, 1_250_000}, new long[]{10, 500_000});
+
+        Slice<SearchHit> page = searchService.searchPosts("자전거", null, PageRequest.of(0, 2));
+
+        assertThat(page.getContent()).containsExactly(new SearchHit(30L, 1_250_000), new SearchHit(20L, 1_250_000));
+        assertThat(page.hasNext()).isTrue();
+        assertThat(jdbcTemplate.sql).contains("FROM post p")
+                .contains("CAST(ROUND(MATCH(p.title, p.content) AGAINST (? IN BOOLEAN MODE) * 1000000) AS SIGNED) AS score")
+                .doesNotContain("HAVING")
+                .endsWith("ORDER BY score DESC, id DESC LIMIT ?");
+        assertThat(jdbcTemplate.args).containsExactly("+\"자전거\"", "+\"자전거\"", 3);
+
+        // 다음 페이지는 마지막 결과의 (점수, id) 를 정수 그대로 비교한다
+        jdbcTemplate.rows = List.of(new long[]{10, 500_000});
+        SearchCursor cursor = SearchCursor.decode(page.getContent().get(1).toCursor().encode());
+        Slice<SearchHit> next = searchService.searchPosts("자전거", cursor, PageRequest.of(0, 2));
+
+        assertThat(next.getContent()).containsExactly(new SearchHit(10L, 500_000));
+        assertThat(next.hasNext()).isFalse();
+        assertThat(jdbcTemplate.sql).contains("HAVING score < ? OR (score = ? AND id < ?) ");
+        assertThat(jdbcTemplate.args).containsExactly("+\"자전거\"", "+\"자전거\"", 1_250_000L, 1_250_000L, 20L, 3);
+    }
+
+    @Test
+    void clubSearchPagesByFixedPointScore() {
+        jdbcTemplate.rows = List.of(new long[]{7, 2_000_000});
+
+        Slice<SearchHit> page = searchService.searchClubs("산 악", new SearchCursor(2_500_000, 9L), PageRequest.of(0, 20));
+
+        assertThat(page.getContent()).containsExactly(new SearchHit(7L, 2_000_000));
+        assertThat(jdbcTemplate.sql).contains("FROM club c")
+                .contains("CAST(ROUND(MATCH(c.name, c.description) AGAINST (? IN BOOLEAN MODE) * 1000000) AS SIGNED) AS score")
+                .contains("HAVING score < ? OR (score = ? AND id < ?) ");
+        assertThat(jdbcTemplate.args).containsExactly("+산* +악*", "+산* +악*", 2_500_000L, 2_500_000L, 9L, 21);
+    }
+
+    @Test
+    void clubCursorOfLooksUpTheClubsOwnPosition() {
+        jdbcTemplate.rows = List.of(new long[]{7, 2_000_000});
+
+        assertThat(searchService.clubCursorOf("산악", 7L)).contains(new SearchCursor(2_000_000, 7L));
+        assertThat(jdbcTemplate.sql).contains("FROM club c").endsWith("AND c.id = ? ");
+        assertThat(jdbcTemplate.args).containsExactly("+\"산악\"", "+\"산악\"", 7L);
+
+        jdbcTemplate.rows = List.of();
+        assertThat(searchService.clubCursorOf("산악", 7L)).isEmpty();
+    }
+
+    @Test
+    void legacyDoubleCursorIsConvertedToFixedPoint() {
+        String legacy = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("1.2345674_42".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(SearchCursor.decode(legacy)).isEqualTo(new SearchCursor(1_234_567, 42L));
+    }
+
+    // 실행한 SQL 과 인자를 기록하고, 지정한 (id, 점수) 행을 RowMapper 로 변환해 돌려준다
+    private static class RecordingJdbcTemplate extends JdbcTemplate {
+
+        private List<long[]> rows = List.of();
+        private String sql;
+        private List<Object> args;
+
+        @Override
+        public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+            this.sql = sql;
+            this.args = List.of(args);
+            List<T> result = new ArrayList<>();
+            try {
+                for (long[] row : rows) {
+                    ResultSet rs = mock(ResultSet.class);
+                    when(rs.getLong("id")).thenReturn(row[0]);
+                    when(rs.getLong("score")).thenReturn(row[1]);
+                    result.add(rowMapper.mapRow(rs, result.size()));
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            return result;
+        }
+    }
+}